@@ -0,0 +1,228 @@
+package com.luxstay.luxstay_hotels_v2.bench;
+
+import com.luxstay.luxstay_hotels_v2.domain.Reservation;
+import com.luxstay.luxstay_hotels_v2.domain.Room;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Availability search over the small fixture (1,000 rooms, 20,000 reservations), in memory.
+ *
+ * - twoStepList:     what RoomService does today: booked room ids for the range (distinct list),
+ *                    then rooms filtered with "id not in (list)" (List.contains, like a plain NOT IN)
+ * - twoStepHashSet:  same two steps, booked ids in a HashSet
+ * - sortedIntervals: per room, non-cancelled stays sorted by start; one binary search per room
+ * - occupancyBitmap: per room, one bit per night; overlap = any bit set in [start, end)
+ *
+ * Rooms never hold overlapping non-cancelled stays, which sortedIntervals relies on.
+ * Queries cycle through 1,024 pre-generated (dates, capacity, city) combinations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AvailabilityBenchmark {
+
+    private record Query(LocalDate start, LocalDate end, int startDay, int endDay,
+                         Integer capacity, String city, BigDecimal maxPrice) {}
+
+    private static final String CANCELLED = "CANCELLED";
+    private static final int QUERIES = 1024;
+
+    @Param({"1", "7"})
+    public int maxNights;
+
+    private List<Room> rooms;
+    private List<Reservation> reservations;
+    private Query[] queries;
+    private int next;
+
+    private LocalDate epoch;
+    private Map<Long, int[][]> intervalsByRoom;   // roomId -> {starts[], ends[]}
+    private Map<Long, BitSet> nightsByRoom;
+
+    @Setup
+    public void setup() {
+        Fixtures.Dataset data = Fixtures.small();
+        rooms = data.rooms();
+        reservations = data.reservations();
+        epoch = reservations.stream().map(Reservation::getStartDate).min(LocalDate::compareTo).orElseThrow();
+
+        List<String> cities = data.hotels().stream().map(h -> h.getCity()).distinct().sorted().toList();
+        SplittableRandom rnd = new SplittableRandom(Fixtures.SEED);
+        queries = new Query[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            LocalDate start = Fixtures.TODAY.plusDays(rnd.nextInt(180));
+            LocalDate end = start.plusDays(1 + rnd.nextInt(maxNights));
+            queries[i] = new Query(start, end, day(start), day(end),
+                    rnd.nextBoolean() ? null : 1 + rnd.nextInt(4),
+                    rnd.nextBoolean() ? null : cities.get(rnd.nextInt(cities.size())),
+                    rnd.nextInt(4) == 0 ? BigDecimal.valueOf(150) : null);
+        }
+
+        buildIndexes();
+        verify();
+    }
+
+    /**
+     * All variants must agree, otherwise the comparison is meaningless.
+     */
+    private void verify() {
+        for (int i = 0; i < QUERIES; i++) {
+            next = i;
+            List<Room> expected = twoStepList();
+            for (List<Room> actual : List.of(
+                    at(i, this::twoStepHashSet), at(i, this::sortedIntervals), at(i, this::occupancyBitmap))) {
+                if (!actual.equals(expected)) {
+                    throw new IllegalStateException("Availability variants disagree for " + queries[i]);
+                }
+            }
+        }
+        next = 0;
+    }
+
+    private List<Room> at(int query, Supplier<List<Room>> variant) {
+        next = query;
+        return variant.get();
+    }
+
+    private void buildIndexes() {
+        Map<Long, List<Reservation>> byRoom = new HashMap<>();
+        for (Reservation r : reservations) {
+            if (CANCELLED.equalsIgnoreCase(r.getStatus())) continue;
+            byRoom.computeIfAbsent(r.getRoom().getId(), k -> new ArrayList<>()).add(r);
+        }
+
+        intervalsByRoom = new HashMap<>();
+        nightsByRoom = new HashMap<>();
+        byRoom.forEach((roomId, stays) -> {
+            stays.sort((a, b) -> a.getStartDate().compareTo(b.getStartDate()));
+            int[] starts = new int[stays.size()];
+            int[] ends = new int[stays.size()];
+            BitSet nights = new BitSet();
+            for (int i = 0; i < stays.size(); i++) {
+                starts[i] = day(stays.get(i).getStartDate());
+                ends[i] = day(stays.get(i).getEndDate());
+                nights.set(starts[i], ends[i]);
+            }
+            intervalsByRoom.put(roomId, new int[][]{starts, ends});
+            nightsByRoom.put(roomId, nights);
+        });
+    }
+
+    private int day(LocalDate d) {
+        return (int) (d.toEpochDay() - epoch.toEpochDay());
+    }
+
+    private Query nextQuery() {
+        return queries[next++ & (QUERIES - 1)];
+    }
+
+    @Benchmark
+    public List<Room> twoStepList() {
+        Query q = nextQuery();
+        List<Long> booked = new ArrayList<>(bookedRoomIds(q));
+
+        List<Room> out = new ArrayList<>();
+        for (Room room : rooms) {
+            if (matches(room, q) && !booked.contains(room.getId())) out.add(room);
+        }
+        return out;
+    }
+
+    @Benchmark
+    public List<Room> twoStepHashSet() {
+        Query q = nextQuery();
+        Set<Long> booked = new HashSet<>(bookedRoomIds(q));
+
+        List<Room> out = new ArrayList<>();
+        for (Room room : rooms) {
+            if (matches(room, q) && !booked.contains(room.getId())) out.add(room);
+        }
+        return out;
+    }
+
+    @Benchmark
+    public List<Room> sortedIntervals() {
+        Query q = nextQuery();
+        List<Room> out = new ArrayList<>();
+        for (Room room : rooms) {
+            if (!matches(room, q)) continue;
+
+            int[][] iv = intervalsByRoom.get(room.getId());
+            if (iv == null) {
+                out.add(room);
+                continue;
+            }
+            // last stay starting before the query ends; overlap iff it ends after the query starts
+            int i = Arrays.binarySearch(iv[0], q.endDay() - 1);
+            if (i < 0) i = -i - 2;
+            if (i < 0 || iv[1][i] <= q.startDay()) out.add(room);
+        }
+        return out;
+    }
+
+    @Benchmark
+    public List<Room> occupancyBitmap() {
+        Query q = nextQuery();
+        List<Room> out = new ArrayList<>();
+        for (Room room : rooms) {
+            if (!matches(room, q)) continue;
+
+            BitSet nights = nightsByRoom.get(room.getId());
+            if (nights == null) {
+                out.add(room);
+                continue;
+            }
+            int taken = nights.nextSetBit(q.startDay());
+            if (taken < 0 || taken >= q.endDay()) out.add(room);
+        }
+        return out;
+    }
+
+    /**
+     * Step 1 of the current implementation: select distinct room id ... overlapping, not cancelled.
+     */
+    private Set<Long> bookedRoomIds(Query q) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (Reservation r : reservations) {
+            if (CANCELLED.equalsIgnoreCase(r.getStatus())) continue;
+            if (q.start().isBefore(r.getEndDate()) && q.end().isAfter(r.getStartDate())) {
+                ids.add(r.getRoom().getId());
+            }
+        }
+        return ids;
+    }
+
+    private static boolean matches(Room room, Query q) {
+        if (q.capacity() != null && room.getCapacity() < q.capacity()) return false;
+        if (q.maxPrice() != null && room.getPrice().compareTo(q.maxPrice()) > 0) return false;
+        return q.city() == null || q.city().equalsIgnoreCase(room.getHotel().getCity());
+    }
+}
@@ -0,0 +1,97 @@
+package com.luxstay.luxstay_hotels_v2.bench;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files (-rf json) benchmark by benchmark.
+ *
+ * Record a baseline on a quiet machine, commit it, then diff later runs against it:
+ *
+ *   ./mvnw -Pjmh test-compile exec:exec -Djmh.args="-rf json -rff src/jmh/baseline/jmh-baseline.json"
+ *   ./mvnw -Pjmh test-compile exec:exec                      (writes target/jmh-result.json)
+ *   ./mvnw -Pjmh test-compile exec:exec -Djmh.main=com.luxstay.luxstay_hotels_v2.bench.BaselineDiff \
+ *          -Djmh.args="src/jmh/baseline/jmh-baseline.json target/jmh-result.json 10"
+ *
+ * A change counts as a regression when it is worse by more than threshold% (default 10) AND
+ * outside both runs' error margins. Exit code 1 if anything regressed.
+ */
+public final class BaselineDiff {
+
+    private record Score(double value, double error, String unit, boolean higherIsBetter) {}
+
+    private BaselineDiff() {
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineDiff <baseline.json> <current.json> [thresholdPercent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10;
+
+        Map<String, Score> baseline = read(new File(args[0]));
+        Map<String, Score> current = read(new File(args[1]));
+
+        int regressions = 0;
+        System.out.printf("%-90s %14s %14s %9s%n", "benchmark", "baseline", "current", "change");
+
+        for (Map.Entry<String, Score> e : current.entrySet()) {
+            Score now = e.getValue();
+            Score before = baseline.get(e.getKey());
+            if (before == null) {
+                System.out.printf("%-90s %14s %14s %9s%n", e.getKey(), "-", format(now), "new");
+                continue;
+            }
+
+            double change = (now.value() - before.value()) / before.value() * 100;
+            double worse = now.higherIsBetter() ? -change : change;
+            boolean beyondNoise = Math.abs(now.value() - before.value()) > before.error() + now.error();
+            boolean regressed = worse > threshold && beyondNoise;
+            if (regressed) regressions++;
+
+            System.out.printf(Locale.ROOT, "%-90s %14s %14s %+8.1f%%%s%n",
+                    e.getKey(), format(before), format(now), change, regressed ? "  REGRESSION" : "");
+        }
+        for (String missing : baseline.keySet()) {
+            if (!current.containsKey(missing)) System.out.printf("%-90s %14s%n", missing, "(not run)");
+        }
+
+        System.out.printf("%d regression(s) beyond %.0f%%%n", regressions, threshold);
+        if (regressions > 0) System.exit(1);
+    }
+
+    private static Map<String, Score> read(File file) {
+        ObjectMapper mapper = JsonMapper.builder().build();
+        Map<String, Score> out = new TreeMap<>();
+
+        for (JsonNode run : mapper.readTree(file)) {
+            Map<String, String> params = new LinkedHashMap<>();
+            JsonNode p = run.path("params");
+            for (String name : p.propertyNames()) params.put(name, p.get(name).asString());
+
+            String key = run.path("benchmark").asString() + (params.isEmpty() ? "" : " " + params);
+            JsonNode metric = run.path("primaryMetric");
+            double error = metric.path("scoreError").asDouble();
+
+            out.put(key, new Score(
+                    metric.path("score").asDouble(),
+                    Double.isNaN(error) ? 0 : error,
+                    metric.path("scoreUnit").asString(),
+                    run.path("mode").asString().equals("thrpt")
+            ));
+        }
+        return out;
+    }
+
+    private static String format(Score s) {
+        return String.format(Locale.ROOT, "%.3f %s", s.value(), s.unit());
+    }
+}
@@ -0,0 +1,114 @@
+package com.luxstay.luxstay_hotels_v2.bench;
+
+import com.luxstay.luxstay_hotels_v2.domain.Customer;
+import com.luxstay.luxstay_hotels_v2.domain.Hotel;
+import com.luxstay.luxstay_hotels_v2.domain.HotelChain;
+import com.luxstay.luxstay_hotels_v2.domain.Reservation;
+import com.luxstay.luxstay_hotels_v2.domain.Room;
+import com.luxstay.luxstay_hotels_v2.domain.service.SyntheticDatasetGenerator;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Reproducible in-memory data for benchmarks: SyntheticDatasetGenerator's small spec with a fixed
+ * seed and a fixed "today", so every run (and every machine) benchmarks the same rows.
+ *
+ * 40 hotels, 1,000 rooms, 5,000 customers, 20,000 reservations; associations are linked to
+ * the full entities (the generator only emits id stubs), like Hibernate would return them.
+ */
+public final class Fixtures {
+
+    public static final long SEED = 42;
+    public static final LocalDate TODAY = LocalDate.of(2025, 6, 1);
+
+    public record Dataset(List<HotelChain> chains,
+                          List<Hotel> hotels,
+                          List<Room> rooms,
+                          List<Customer> customers,
+                          List<Reservation> reservations) {}
+
+    private static Dataset small;
+
+    private Fixtures() {
+    }
+
+    public static synchronized Dataset small() {
+        if (small == null) small = generate(SyntheticDatasetGenerator.Spec.small(SEED, TODAY));
+        return small;
+    }
+
+    public static Dataset generate(SyntheticDatasetGenerator.Spec spec) {
+        Collector sink = new Collector();
+        new SyntheticDatasetGenerator(sink).generate(spec);
+        return sink.link();
+    }
+
+    private static final class Collector implements SyntheticDatasetGenerator.Sink {
+
+        final List<HotelChain> chains = new ArrayList<>();
+        final List<Hotel> hotels = new ArrayList<>();
+        final List<Room> rooms = new ArrayList<>();
+        final List<Customer> customers = new ArrayList<>();
+        final List<Reservation> reservations = new ArrayList<>();
+
+        @Override
+        public void reset() {
+            chains.clear();
+            hotels.clear();
+            rooms.clear();
+            customers.clear();
+            reservations.clear();
+        }
+
+        // Batches are reused by the generator: copy them
+        @Override
+        public void chains(List<HotelChain> batch) {
+            chains.addAll(batch);
+        }
+
+        @Override
+        public void hotels(List<Hotel> batch) {
+            hotels.addAll(batch);
+        }
+
+        @Override
+        public void rooms(List<Room> batch) {
+            rooms.addAll(batch);
+        }
+
+        @Override
+        public void customers(List<Customer> batch) {
+            customers.addAll(batch);
+        }
+
+        @Override
+        public void reservations(List<Reservation> batch) {
+            reservations.addAll(batch);
+        }
+
+        Dataset link() {
+            Map<Long, Hotel> hotelsById = byId(hotels, Hotel::getId);
+            Map<Long, Room> roomsById = byId(rooms, Room::getId);
+            Map<Long, Customer> customersById = byId(customers, Customer::getId);
+
+            for (Room r : rooms) r.setHotel(hotelsById.get(r.getHotel().getId()));
+            for (Reservation r : reservations) {
+                r.setRoom(roomsById.get(r.getRoom().getId()));
+                r.setCustomer(customersById.get(r.getCustomer().getId()));
+            }
+            return new Dataset(List.copyOf(chains), List.copyOf(hotels), List.copyOf(rooms),
+                    List.copyOf(customers), List.copyOf(reservations));
+        }
+
+        private static <T> Map<Long, T> byId(List<T> rows, Function<T, Long> id) {
+            Map<Long, T> out = new HashMap<>(rows.size() * 2);
+            for (T row : rows) out.put(id.apply(row), row);
+            return out;
+        }
+    }
+}
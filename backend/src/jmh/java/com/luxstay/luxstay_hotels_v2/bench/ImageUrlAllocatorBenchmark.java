@@ -0,0 +1,94 @@
+package com.luxstay.luxstay_hotels_v2.bench;
+
+import com.luxstay.luxstay_hotels_v2.domain.service.HotelImageUrlSelector;
+import com.luxstay.luxstay_hotels_v2.domain.service.ImageUrlAllocator;
+import com.luxstay.luxstay_hotels_v2.domain.service.RoomImageUrlSelector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Image URL allocation under contention: the old locked bag vs ImageUrlAllocator,
+ * plus the real Room/HotelImageUrlSelector beans on the bundled URL lists.
+ *
+ * Threads default to 8; compare scaling with e.g. -t 1 / -t 4 / -t 16.
+ * Batch results are normalized per URL (@OperationsPerInvocation).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class ImageUrlAllocatorBenchmark {
+
+    private static final int BATCH = 100;
+
+    // data/room-images-urls.txt has ~40 entries -> an epoch turns over every 40 allocations
+    @Param({"40"})
+    public int urls;
+
+    private LockedShuffledBag locked;
+    private ImageUrlAllocator lockFree;
+    private RoomImageUrlSelector roomSelector;
+    private HotelImageUrlSelector hotelSelector;
+
+    @Setup
+    public void setup() {
+        List<String> list = IntStream.range(0, urls)
+                .mapToObj(i -> "https://images.example.test/photo-" + i + "?w=2070&auto=format&fit=crop")
+                .toList();
+        locked = new LockedShuffledBag(list);
+        lockFree = new ImageUrlAllocator(list);
+        roomSelector = new RoomImageUrlSelector();
+        hotelSelector = new HotelImageUrlSelector();
+    }
+
+    @Benchmark
+    public String lockedNextUrl() {
+        return locked.nextUrl();
+    }
+
+    @Benchmark
+    public String lockFreeNextUrl() {
+        return lockFree.nextUrl();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void lockedLoopOf100(Blackhole bh) {
+        for (int i = 0; i < BATCH; i++) bh.consume(locked.nextUrl());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public List<String> lockFreeNextUrls100() {
+        return lockFree.nextUrls(BATCH);
+    }
+
+    @Benchmark
+    public String roomSelectorNextUrl() {
+        return roomSelector.nextUrl();
+    }
+
+    @Benchmark
+    public String hotelSelectorNextUrl() {
+        return hotelSelector.nextUrl();
+    }
+}
@@ -0,0 +1,46 @@
+package com.luxstay.luxstay_hotels_v2.bench;
+
+import java.security.SecureRandom;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Baseline: the previous Hotel/RoomImageUrlSelector algorithm (ReentrantLock + SecureRandom
+ * reshuffle of a copied list under the lock), kept here only to compare against.
+ */
+final class LockedShuffledBag {
+
+    private final SecureRandom rng = new SecureRandom();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final List<String> allUrls;
+    private Deque<String> bag = new ArrayDeque<>();
+
+    LockedShuffledBag(List<String> urls) {
+        this.allUrls = List.copyOf(urls);
+        refillBag();
+    }
+
+    String nextUrl() {
+        lock.lock();
+        try {
+            if (allUrls.isEmpty()) return null;
+
+            if (bag.isEmpty()) refillBag();
+
+            return bag.removeFirst();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refillBag() {
+        List<String> shuffled = new ArrayList<>(allUrls);
+        Collections.shuffle(shuffled, rng);
+        bag = new ArrayDeque<>(shuffled);
+    }
+}
@@ -0,0 +1,127 @@
+package com.luxstay.luxstay_hotels_v2.bench;
+
+import com.luxstay.luxstay_hotels_v2.domain.Reservation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conflict check for one room (ReservationService.ensureRoomAvailable), on the room's history.
+ *
+ * - entityScan:   today's rule over Reservation entities (status + LocalDate compares), full scan
+ * - epochDayScan: same scan over int epoch days, cancelled stays dropped up front
+ * - binarySearch: sorted starts, one lookup (stays of a room never overlap)
+ *
+ * stays = history length of the room; the small fixture averages ~20, busy rooms reach a few hundred.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OverlapBenchmark {
+
+    private static final int QUERIES = 1024;
+
+    @Param({"20", "200", "2000"})
+    public int stays;
+
+    private List<Reservation> history;
+    private int[] starts;
+    private int[] ends;
+    private LocalDate[][] queries;
+    private int next;
+
+    @Setup
+    public void setup() {
+        SplittableRandom rnd = new SplittableRandom(Fixtures.SEED);
+        history = new ArrayList<>(stays);
+        List<int[]> kept = new ArrayList<>();
+
+        LocalDate cursor = Fixtures.TODAY.minusDays(stays * 4L);
+        for (int i = 0; i < stays; i++) {
+            LocalDate start = cursor.plusDays(rnd.nextInt(4));
+            LocalDate end = start.plusDays(1 + rnd.nextInt(5));
+            boolean cancelled = rnd.nextInt(8) == 0;
+            history.add(Reservation.builder()
+                    .id((long) i + 1)
+                    .startDate(start)
+                    .endDate(end)
+                    .status(cancelled ? "CANCELLED" : "ACTIVE")
+                    .build());
+            if (!cancelled) kept.add(new int[]{(int) start.toEpochDay(), (int) end.toEpochDay()});
+            cursor = end;
+        }
+        starts = kept.stream().mapToInt(a -> a[0]).toArray();
+        ends = kept.stream().mapToInt(a -> a[1]).toArray();
+
+        LocalDate first = history.get(0).getStartDate();
+        long span = cursor.toEpochDay() - first.toEpochDay();
+        queries = new LocalDate[QUERIES][];
+        for (int i = 0; i < QUERIES; i++) {
+            LocalDate start = first.plusDays(rnd.nextLong(span));
+            queries[i] = new LocalDate[]{start, start.plusDays(1 + rnd.nextInt(7))};
+        }
+
+        for (int i = 0; i < QUERIES; i++) {
+            next = i;
+            boolean expected = entityScan();
+            next = i;
+            boolean scan = epochDayScan();
+            next = i;
+            if (scan != expected || binarySearch() != expected) {
+                throw new IllegalStateException("Overlap variants disagree for query " + i);
+            }
+        }
+        next = 0;
+    }
+
+    @Benchmark
+    public boolean entityScan() {
+        LocalDate[] q = queries[next++ & (QUERIES - 1)];
+        for (Reservation r : history) {
+            if ("CANCELLED".equalsIgnoreCase(r.getStatus())) continue;
+            if (r.getStartDate().isBefore(q[1]) && r.getEndDate().isAfter(q[0])) return true;
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean epochDayScan() {
+        LocalDate[] q = queries[next++ & (QUERIES - 1)];
+        int start = (int) q[0].toEpochDay();
+        int end = (int) q[1].toEpochDay();
+        for (int i = 0; i < starts.length; i++) {
+            if (starts[i] < end && ends[i] > start) return true;
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean binarySearch() {
+        LocalDate[] q = queries[next++ & (QUERIES - 1)];
+        int start = (int) q[0].toEpochDay();
+        int end = (int) q[1].toEpochDay();
+
+        // last stay starting before the query ends
+        int i = Arrays.binarySearch(starts, end - 1);
+        if (i < 0) i = -i - 2;
+        return i >= 0 && ends[i] > start;
+    }
+}
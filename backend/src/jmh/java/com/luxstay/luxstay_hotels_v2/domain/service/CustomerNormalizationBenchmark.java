@@ -0,0 +1,92 @@
+package com.luxstay.luxstay_hotels_v2.domain.service;
+
+import com.luxstay.luxstay_hotels_v2.bench.Fixtures;
+import com.luxstay.luxstay_hotels_v2.domain.Customer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Customer identity normalization on the booking path (CustomerService.findOrCreate):
+ * email trimmed + lower-cased, id number trimmed.
+ *
+ * - current:    CustomerService.normalizeEmail (default-locale toLowerCase)
+ * - localeRoot: toLowerCase(Locale.ROOT) (no locale lookup, no Turkish-i surprises)
+ * - asciiFast:  one pass, no copy when the input is already normalized (the common case)
+ *
+ * Inputs are the fixture's emails, a quarter of them with stray spaces / upper case.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomerNormalizationBenchmark {
+
+    private static final int INPUTS = 1024;
+
+    private String[] emails;
+    private int next;
+
+    @Setup
+    public void setup() {
+        List<Customer> customers = Fixtures.small().customers();
+        SplittableRandom rnd = new SplittableRandom(Fixtures.SEED);
+        emails = new String[INPUTS];
+        for (int i = 0; i < INPUTS; i++) {
+            String email = customers.get(rnd.nextInt(customers.size())).getEmail();
+            emails[i] = switch (rnd.nextInt(8)) {
+                case 0 -> "  " + email + " ";
+                case 1 -> email.toUpperCase(Locale.ROOT);
+                default -> email;
+            };
+        }
+        for (String e : emails) {
+            String expected = CustomerService.normalizeEmail(e);
+            if (!expected.equals(localeRoot(e)) || !expected.equals(asciiFast(e))) {
+                throw new IllegalStateException("Normalization variants disagree for " + e);
+            }
+        }
+    }
+
+    @Benchmark
+    public String current() {
+        return CustomerService.normalizeEmail(emails[next++ & (INPUTS - 1)]);
+    }
+
+    @Benchmark
+    public String localeRoot() {
+        return localeRoot(emails[next++ & (INPUTS - 1)]);
+    }
+
+    @Benchmark
+    public String asciiFast() {
+        return asciiFast(emails[next++ & (INPUTS - 1)]);
+    }
+
+    private static String localeRoot(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String asciiFast(String email) {
+        String s = email.trim();
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c >= 'A' && c <= 'Z' || c > 0x7F) return s.toLowerCase(Locale.ROOT);
+        }
+        return s;
+    }
+}
@@ -0,0 +1,104 @@
+package com.luxstay.luxstay_hotels_v2.domain.service;
+
+import com.luxstay.luxstay_hotels_v2.bench.Fixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pricing one stay for a page of candidate rooms (GET /api/v2/rooms/quote, sort=price searches).
+ *
+ * - grid:       RateGrid.stayCents, long arithmetic on the precomputed multipliers
+ * - bigDecimal: the same rules applied per night on Room.price with BigDecimal and LocalDate
+ *
+ * 1000 hotels x 100 rooms, 365 nights; stays of 1-14 nights starting within 60 days.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RateGridBenchmark {
+
+    private static final int HOTELS = 1000;
+    private static final int ROOMS_PER_HOTEL = 100;
+    private static final int DAYS = 365;
+
+    @Param({"1000"})
+    public int candidates;
+
+    private RateRules rules;
+    private RateGrid grid;
+    private BigDecimal[] prices;
+    private int[] rooms;
+    private LocalDate today;
+    private long start;
+    private long end;
+
+    @Setup
+    public void setup() {
+        rules = RateRules.parse("1.0,1.0,1.0,1.0,1.15,1.20,1.0", "06-15..08-31:1.25,12-20..01-05:1.40", "");
+        SplittableRandom rnd = new SplittableRandom(Fixtures.SEED);
+        today = LocalDate.of(2025, 1, 1);
+
+        int n = HOTELS * ROOMS_PER_HOTEL;
+        long[] ids = new long[n];
+        long[] base = new long[n];
+        int[] roomHotel = new int[n];
+        prices = new BigDecimal[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = i + 1;
+            base[i] = 5_000 + rnd.nextInt(45_000);
+            roomHotel[i] = i / ROOMS_PER_HOTEL;
+            prices[i] = BigDecimal.valueOf(base[i], 2);
+        }
+        int[] factor = new int[HOTELS * DAYS];
+        for (int h = 0; h < HOTELS; h++) {
+            for (int d = 0; d < DAYS; d++) factor[h * DAYS + d] = rules.calendarBp(today.plusDays(d));
+        }
+        grid = new RateGrid(today, DAYS, ids, base, roomHotel, factor);
+
+        rooms = new int[candidates];
+        for (int i = 0; i < candidates; i++) rooms[i] = rnd.nextInt(n);
+        start = today.toEpochDay() + rnd.nextInt(60);
+        end = start + 1 + rnd.nextInt(14);
+
+        if (grid() != bigDecimal()) throw new IllegalStateException("Variants disagree");
+    }
+
+    @Benchmark
+    public long grid() {
+        long sum = 0;
+        for (int room : rooms) sum += grid.stayCents(room, start, end);
+        return sum;
+    }
+
+    @Benchmark
+    public long bigDecimal() {
+        long sum = 0;
+        for (int room : rooms) {
+            BigDecimal total = BigDecimal.ZERO;
+            for (long day = start; day < end; day++) {
+                BigDecimal multiplier = BigDecimal.valueOf(rules.calendarBp(LocalDate.ofEpochDay(day)), 4);
+                total = total.add(prices[room].multiply(multiplier).setScale(2, RoundingMode.HALF_UP));
+            }
+            sum += total.movePointRight(2).longValueExact();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,99 @@
+package com.luxstay.luxstay_hotels_v2.domain.service;
+
+import com.luxstay.luxstay_hotels_v2.bench.Fixtures;
+import com.luxstay.luxstay_hotels_v2.domain.Hotel;
+import com.luxstay.luxstay_hotels_v2.domain.Room;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Text search over a 100k-room catalog (SyntheticDatasetGenerator's large catalog, no reservations).
+ *
+ * - index: SearchIndex.match, postings intersection starting from the rarest term
+ * - scan:  every room's text lowercased up front, then "contains every word" per room,
+ *          roughly what an ILIKE '%word%' per column does in the database (no ranking)
+ * - build: building the index from scratch, as after a catalog change
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchIndexBenchmark {
+
+    @Param({"ottawa spa king", "hilton toronto", "wifi"})
+    public String query;
+
+    private List<Room> rooms;
+    private String[] text;
+    private SearchIndex index;
+    private List<String> terms;
+
+    @Setup
+    public void setup() {
+        SyntheticDatasetGenerator.Spec large = SyntheticDatasetGenerator.Spec.large(Fixtures.SEED, Fixtures.TODAY);
+        SyntheticDatasetGenerator.Spec catalog = new SyntheticDatasetGenerator.Spec(large.seed(), large.chains(),
+                large.hotels(), large.rooms(), 1, 0, 0, 0, large.today(), 0, 0);
+        rooms = new ArrayList<>(Fixtures.generate(catalog).rooms());
+        rooms.sort(Comparator.comparing(Room::getId));
+
+        text = new String[rooms.size()];
+        for (int i = 0; i < text.length; i++) {
+            Room r = rooms.get(i);
+            Hotel h = r.getHotel();
+            text[i] = String.join(" ", h.getName(), h.getAddress(), h.getCity(), h.getChain().getName(),
+                    r.getAmenities() == null ? "" : r.getAmenities()).toLowerCase(Locale.ROOT);
+        }
+        index = build();
+        terms = SearchIndex.terms(query);
+    }
+
+    @Benchmark
+    public int index() {
+        return index.match(terms).size();
+    }
+
+    @Benchmark
+    public int scan() {
+        String[] words = query.toLowerCase(Locale.ROOT).split(" ");
+        int matched = 0;
+        for (String t : text) {
+            boolean all = true;
+            for (String w : words) {
+                if (!t.contains(w)) {
+                    all = false;
+                    break;
+                }
+            }
+            if (all) matched++;
+        }
+        return matched;
+    }
+
+    @Benchmark
+    public SearchIndex build() {
+        SearchIndex.Builder builder = new SearchIndex.Builder();
+        for (Room r : rooms) {
+            Hotel h = r.getHotel();
+            builder.add(r.getId(), h.getId(), r.getCapacity(), r.getPrice().movePointRight(2).longValue(),
+                    h.getName(), h.getAddress(), h.getCity(), h.getChain().getName(), r.getAmenities());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,84 @@
+package com.luxstay.luxstay_hotels_v2.domain.service;
+
+import com.luxstay.luxstay_hotels_v2.bench.Fixtures;
+import com.luxstay.luxstay_hotels_v2.domain.Hotel;
+import com.luxstay.luxstay_hotels_v2.domain.Room;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Search-box suggestions over the 1k-hotel / 100k-room catalog (SyntheticDatasetGenerator's large spec).
+ *
+ * - index: SuggestIndex.suggest, two binary searches over the sorted word-start keys
+ * - scan:  every name folded up front, then "some word starts with the prefix" per name and a sort by rooms
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SuggestIndexBenchmark {
+
+    private static final int LIMIT = 8;
+
+    @Param({"o", "ott", "hilton t"})
+    public String prefix;
+
+    private SuggestIndex index;
+    private List<SuggestIndex.Suggestion> names;
+    private String[] folded;
+
+    @Setup
+    public void setup() {
+        SyntheticDatasetGenerator.Spec large = SyntheticDatasetGenerator.Spec.large(Fixtures.SEED, Fixtures.TODAY);
+        SyntheticDatasetGenerator.Spec catalog = new SyntheticDatasetGenerator.Spec(large.seed(), large.chains(),
+                large.hotels(), large.rooms(), 1, 0, 0, 0, large.today(), 0, 0);
+
+        Map<Hotel, Integer> roomsPerHotel = new HashMap<>();
+        for (Room r : Fixtures.generate(catalog).rooms()) roomsPerHotel.merge(r.getHotel(), 1, Integer::sum);
+
+        SuggestIndex.Builder builder = new SuggestIndex.Builder();
+        roomsPerHotel.forEach((h, rooms) -> builder.hotel(h.getId(), h.getName(), h.getCity(),
+                h.getChain().getId(), h.getChain().getName(), rooms));
+        index = builder.build();
+
+        names = new ArrayList<>();
+        for (char c = 'a'; c <= 'z'; c++) names.addAll(index.suggest(String.valueOf(c), null, Integer.MAX_VALUE));
+        names = names.stream().distinct().toList();
+        folded = new String[names.size()];
+        for (int i = 0; i < folded.length; i++) folded[i] = " " + SearchIndex.fold(names.get(i).label());
+    }
+
+    @Benchmark
+    public List<SuggestIndex.Suggestion> index() {
+        return index.suggest(prefix, null, LIMIT);
+    }
+
+    @Benchmark
+    public List<SuggestIndex.Suggestion> scan() {
+        String p = " " + SearchIndex.fold(prefix);
+        List<SuggestIndex.Suggestion> out = new ArrayList<>();
+        for (int i = 0; i < folded.length; i++) {
+            if (folded[i].contains(p)) out.add(names.get(i));
+        }
+        out.sort(Comparator.comparingInt(SuggestIndex.Suggestion::rooms).reversed());
+        return out.subList(0, Math.min(LIMIT, out.size()));
+    }
+}
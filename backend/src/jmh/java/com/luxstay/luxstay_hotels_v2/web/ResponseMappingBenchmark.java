@@ -0,0 +1,97 @@
+package com.luxstay.luxstay_hotels_v2.web;
+
+import com.luxstay.luxstay_hotels_v2.bench.Fixtures;
+import com.luxstay.luxstay_hotels_v2.domain.Reservation;
+import com.luxstay.luxstay_hotels_v2.domain.Room;
+import com.luxstay.luxstay_hotels_v2.domain.service.ReservationService;
+import com.luxstay.luxstay_hotels_v2.web.dto.ReservationDtos;
+import com.luxstay.luxstay_hotels_v2.web.dto.RoomDtos;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity -> DTO mapping and JSON encoding of list responses, per page of `size` rows:
+ * RoomController.toResponse and ReservationController.toDto, then Jackson to bytes
+ * (what the message converter does for GET /rooms and GET /reservations).
+ *
+ * Lives in the web package to reach the package-private mappers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseMappingBenchmark {
+
+    @Param({"20", "1000"})
+    public int size;
+
+    private List<Room> rooms;
+    private List<Reservation> reservations;
+    private ReservationController reservationController;
+    private ObjectMapper mapper;
+
+    private List<RoomDtos.Response> roomDtos;
+    private List<ReservationDtos.Response> reservationDtos;
+
+    @Setup
+    public void setup() {
+        Fixtures.Dataset data = Fixtures.small();
+        rooms = data.rooms().subList(0, size);
+        reservations = data.reservations().subList(0, size);
+
+        // toDto only needs effectiveStatus(), which touches no repository
+        reservationController = new ReservationController(
+                new ReservationService(null, null, null, null, new SimpleMeterRegistry()));
+        mapper = JsonMapper.builder().build();
+
+        roomDtos = mapRooms();
+        reservationDtos = mapReservations();
+    }
+
+    @Benchmark
+    public List<RoomDtos.Response> mapRooms() {
+        return rooms.stream().map(RoomController::toResponse).toList();
+    }
+
+    @Benchmark
+    public byte[] serializeRooms() {
+        return mapper.writeValueAsBytes(roomDtos);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerializeRooms() {
+        return mapper.writeValueAsBytes(mapRooms());
+    }
+
+    @Benchmark
+    public List<ReservationDtos.Response> mapReservations() {
+        return reservations.stream().map(reservationController::toDto).toList();
+    }
+
+    @Benchmark
+    public byte[] serializeReservations() {
+        return mapper.writeValueAsBytes(reservationDtos);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerializeReservations() {
+        return mapper.writeValueAsBytes(mapReservations());
+    }
+}
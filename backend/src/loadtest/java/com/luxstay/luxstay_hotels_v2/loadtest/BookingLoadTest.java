@@ -0,0 +1,366 @@
+package com.luxstay.luxstay_hotels_v2.loadtest;
+
+import tools.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop booking load test: how many bookings per second can one node sustain?
+ *
+ * Arrivals follow a fixed schedule (Poisson by default) that doesn't slow down when the server
+ * does, and every action is timed from its scheduled start. A stalled server therefore shows up
+ * as queueing delay in the percentiles instead of quietly lowering the offered load
+ * (coordinated omission). Each arrival runs on its own virtual thread.
+ *
+ * Scenarios, picked per arrival by weight:
+ *   browse  GET /chains, then GET /hotels?city=
+ *   search  GET /rooms/available for a random stay
+ *   book    GET /rooms/available?hotelId= and POST /reservations for one of the rooms returned
+ *           (409 = someone else got it first; with no room free it books one anyway to hit the conflict path)
+ *   pay     POST /reservations/{id}/pay for one of this run's unpaid bookings
+ *   cancel  POST /reservations/{id}/cancel for one of this run's bookings
+ *
+ * After the run every booked room is re-read from the primary and checked for overlapping
+ * non-cancelled reservations and lost acknowledged bookings; either fails the run (exit code 1).
+ *
+ * Needs a seeded catalog (POST /api/v2/chains/seed, or the synthetic dataset runner):
+ *
+ *   ./mvnw spring-boot:run
+ *   ./mvnw -Ploadtest test-compile exec:exec -Dloadtest.main=com.luxstay.luxstay_hotels_v2.loadtest.BookingLoadTest \
+ *          -Dloadtest.args="rate=200 duration=120 mix=browse:30,search:40,book:20,pay:5,cancel:5"
+ *
+ * Args (key=value, all optional):
+ *   baseUrl=http://localhost:8080  rate=100 (arrivals/s)  duration=60  warmup=15 (seconds)
+ *   mix=browse:30,search:40,book:20,pay:5,cancel:5  horizon=30 (days of future stays; smaller = more contention)
+ *   customers=200  arrivals=poisson|uniform  seed=42  out=target/loadtest (HdrHistogram .hgrm files)
+ */
+public class BookingLoadTest {
+
+    enum Scenario {
+        BROWSE, SEARCH, BOOK, PAY, CANCEL;
+
+        String key() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    record Config(String baseUrl, double rate, Duration duration, Duration warmup, Map<Scenario, Integer> mix,
+                  int horizonDays, int customers, boolean poisson, long seed, Path out) {
+
+        static Config parse(String[] args) {
+            Map<String, String> kv = new LinkedHashMap<>();
+            for (String arg : args) {
+                int eq = arg.indexOf('=');
+                if (eq <= 0) throw new IllegalArgumentException("Expected key=value, got: " + arg);
+                kv.put(arg.substring(0, eq), arg.substring(eq + 1));
+            }
+
+            Config config = new Config(
+                    kv.getOrDefault("baseUrl", "http://localhost:8080"),
+                    Double.parseDouble(kv.getOrDefault("rate", "100")),
+                    Duration.ofSeconds(Long.parseLong(kv.getOrDefault("duration", "60"))),
+                    Duration.ofSeconds(Long.parseLong(kv.getOrDefault("warmup", "15"))),
+                    mix(kv.getOrDefault("mix", "browse:30,search:40,book:20,pay:5,cancel:5")),
+                    Integer.parseInt(kv.getOrDefault("horizon", "30")),
+                    Integer.parseInt(kv.getOrDefault("customers", "200")),
+                    !"uniform".equalsIgnoreCase(kv.getOrDefault("arrivals", "poisson")),
+                    Long.parseLong(kv.getOrDefault("seed", "42")),
+                    Path.of(kv.getOrDefault("out", "target/loadtest"))
+            );
+
+            kv.keySet().removeAll(List.of("baseUrl", "rate", "duration", "warmup", "mix", "horizon",
+                    "customers", "arrivals", "seed", "out"));
+            if (!kv.isEmpty()) throw new IllegalArgumentException("Unknown arguments: " + kv.keySet());
+            if (config.rate() <= 0) throw new IllegalArgumentException("rate must be > 0");
+            if (config.horizonDays() < 1) throw new IllegalArgumentException("horizon must be >= 1");
+            return config;
+        }
+
+        private static Map<Scenario, Integer> mix(String spec) {
+            Map<Scenario, Integer> out = new EnumMap<>(Scenario.class);
+            for (String part : spec.split(",")) {
+                String[] p = part.trim().split(":");
+                if (p.length != 2) throw new IllegalArgumentException("Bad mix entry: " + part);
+                int weight = Integer.parseInt(p[1].trim());
+                if (weight < 0) throw new IllegalArgumentException("Negative weight: " + part);
+                if (weight > 0) out.put(Scenario.valueOf(p[0].trim().toUpperCase(Locale.ROOT)), weight);
+            }
+            if (out.isEmpty()) throw new IllegalArgumentException("mix has no positive weights");
+            return out;
+        }
+    }
+
+    /**
+     * A booking the API acknowledged; cancelled once this run cancels it.
+     */
+    static final class Booking {
+        private final long id;
+        private final long roomId;
+        private volatile boolean cancelled;
+
+        Booking(long id, long roomId) {
+            this.id = id;
+            this.roomId = roomId;
+        }
+
+        long id() {
+            return id;
+        }
+
+        long roomId() {
+            return roomId;
+        }
+
+        boolean cancelled() {
+            return cancelled;
+        }
+    }
+
+    private static final Duration PROGRESS_EVERY = Duration.ofSeconds(5);
+
+    private final Config config;
+    private final ApiClient api;
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private final LocalDate firstNight = LocalDate.now().plusDays(1);
+
+    private final List<Long> hotelIds = new ArrayList<>();
+    private final Map<Long, long[]> roomsByHotel = new TreeMap<>();
+    private final List<String> cities = new ArrayList<>();
+
+    private final Map<Long, Booking> booked = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Booking> unpaid = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Booking> cancellable = new ConcurrentLinkedQueue<>();
+
+    BookingLoadTest(Config config) {
+        this.config = config;
+        this.api = new ApiClient(config.baseUrl());
+    }
+
+    public static void main(String[] args) throws Exception {
+        Config config = Config.parse(args);
+        BookingLoadTest test = new BookingLoadTest(config);
+        PrintStream out = System.out;
+
+        test.loadCatalog();
+        out.printf("Catalog: %d hotels, %d rooms in %d cities; mix=%s%n", test.hotelIds.size(),
+                test.roomsByHotel.values().stream().mapToInt(r -> r.length).sum(), test.cities.size(), config.mix());
+
+        if (!config.warmup().isZero()) {
+            out.printf("Warm-up %ds (not reported)%n", config.warmup().toSeconds());
+            test.drive(config.warmup(), config.seed() + 1, new LatencyReport(), OutputStream.nullOutputStream());
+        }
+
+        LatencyReport report = new LatencyReport();
+        long started = System.nanoTime();
+        test.drive(config.duration(), config.seed(), report, out);
+        double seconds = (System.nanoTime() - started) / 1e9;
+
+        report.print(out, seconds, config.rate());
+        report.write(config.out());
+        out.printf("Bookings: %.1f/s acknowledged, %d conflicts (409), %d shed (503)%n",
+                report.ok(Scenario.BOOK) / seconds, report.count(Scenario.BOOK, 409), report.count(Scenario.BOOK, 503));
+
+        DoubleBookingChecker.Result check = new DoubleBookingChecker(test.api).check(test.booked.values());
+        out.printf("Consistency: %d rooms, %d reservations checked; %d double bookings, %d lost bookings%n",
+                check.rooms(), check.reservations(), check.doubleBookings().size(), check.lostBookings().size());
+        check.doubleBookings().forEach(line -> out.println("  DOUBLE BOOKING " + line));
+        check.lostBookings().forEach(line -> out.println("  LOST " + line));
+
+        if (!check.passed()) System.exit(1);
+    }
+
+    private void loadCatalog() throws IOException, InterruptedException {
+        HttpResponse<String> response = api.get("/api/v2/rooms");
+        if (!ApiClient.ok(response.statusCode())) {
+            throw new IllegalStateException("GET /api/v2/rooms -> " + response.statusCode());
+        }
+
+        Map<Long, List<Long>> rooms = new TreeMap<>();
+        TreeSet<String> distinctCities = new TreeSet<>();
+        for (JsonNode room : api.read(response)) {
+            rooms.computeIfAbsent(room.path("hotelId").asLong(), k -> new ArrayList<>()).add(room.path("id").asLong());
+            String city = room.path("city").asString();
+            if (city != null && !city.isBlank()) distinctCities.add(city);
+        }
+        if (rooms.isEmpty()) {
+            throw new IllegalStateException("No rooms: seed the catalog first (POST /api/v2/chains/seed)");
+        }
+
+        rooms.forEach((hotelId, ids) -> {
+            hotelIds.add(hotelId);
+            roomsByHotel.put(hotelId, ids.stream().mapToLong(Long::longValue).toArray());
+        });
+        cities.addAll(distinctCities);
+    }
+
+    /**
+     * The arrival schedule depends only on the seed and the rate; the driver only sleeps until the
+     * next scheduled instant, so a slow response never delays the following arrivals.
+     */
+    private void drive(Duration length, long seed, LatencyReport report, OutputStream progress) {
+        PrintStream progressOut = new PrintStream(progress, true);
+        SplittableRandom rnd = new SplittableRandom(seed);
+        double gapNanos = 1e9 / config.rate();
+        int totalWeight = config.mix().values().stream().mapToInt(Integer::intValue).sum();
+
+        long start = System.nanoTime();
+        long end = start + length.toNanos();
+        long nextProgress = start + PROGRESS_EVERY.toNanos();
+        double next = start;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (true) {
+                next += config.poisson() ? -Math.log(1 - rnd.nextDouble()) * gapNanos : gapNanos;
+                long intended = (long) next;
+                if (intended >= end) break;
+
+                long now;
+                while ((now = System.nanoTime()) < intended) LockSupport.parkNanos(intended - now);
+                if (now >= nextProgress) {
+                    report.interval(progressOut);
+                    nextProgress += PROGRESS_EVERY.toNanos();
+                }
+
+                Scenario scenario = pick(rnd.nextInt(totalWeight));
+                SplittableRandom r = rnd.split();
+                executor.execute(() -> {
+                    long sent = System.nanoTime();
+                    int status = execute(scenario, r);
+                    report.record(scenario, status, intended, sent, System.nanoTime());
+                });
+            }
+        } // close() waits for the stragglers; their latency still counts from their scheduled start
+    }
+
+    private Scenario pick(int ticket) {
+        for (Map.Entry<Scenario, Integer> e : config.mix().entrySet()) {
+            ticket -= e.getValue();
+            if (ticket < 0) return e.getKey();
+        }
+        throw new IllegalStateException("unreachable");
+    }
+
+    private int execute(Scenario scenario, SplittableRandom rnd) {
+        try {
+            return switch (scenario) {
+                case BROWSE -> browse(rnd);
+                case SEARCH -> search(rnd);
+                case BOOK -> book(rnd);
+                case PAY -> pay();
+                case CANCEL -> cancel();
+            };
+        } catch (IOException e) {
+            return LatencyReport.IO_ERROR;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return LatencyReport.IO_ERROR;
+        }
+    }
+
+    private int browse(SplittableRandom rnd) throws IOException, InterruptedException {
+        int status = api.get("/api/v2/chains").statusCode();
+        if (!ApiClient.ok(status) || cities.isEmpty()) return status;
+        return api.get("/api/v2/hotels?city=" + ApiClient.encode(cities.get(rnd.nextInt(cities.size()))))
+                .statusCode();
+    }
+
+    private int search(SplittableRandom rnd) throws IOException, InterruptedException {
+        LocalDate start = randomStart(rnd);
+        return api.get("/api/v2/rooms/available?startDate=" + start + "&endDate=" + randomEnd(start, rnd)
+                + "&capacity=" + (1 + rnd.nextInt(4))).statusCode();
+    }
+
+    private int book(SplittableRandom rnd) throws IOException, InterruptedException {
+        long hotelId = hotelIds.get(rnd.nextInt(hotelIds.size()));
+        LocalDate start = randomStart(rnd);
+        LocalDate end = randomEnd(start, rnd);
+
+        HttpResponse<String> found = api.get("/api/v2/rooms/available?hotelId=" + hotelId
+                + "&startDate=" + start + "&endDate=" + end);
+        if (!ApiClient.ok(found.statusCode())) return found.statusCode();
+
+        JsonNode free = api.read(found);
+        long[] all = roomsByHotel.get(hotelId);
+        long roomId = free.isEmpty()
+                ? all[rnd.nextInt(all.length)]
+                : free.get(rnd.nextInt(free.size())).path("id").asLong();
+
+        HttpResponse<String> created = api.post("/api/v2/reservations", reservation(roomId, start, end, rnd));
+        if (ApiClient.ok(created.statusCode())) {
+            Booking b = new Booking(api.read(created).path("id").asLong(), roomId);
+            booked.put(b.id(), b);
+            unpaid.add(b);
+            cancellable.add(b);
+        }
+        return created.statusCode();
+    }
+
+    private int pay() throws IOException, InterruptedException {
+        Booking b;
+        do {
+            b = unpaid.poll();
+            if (b == null) return LatencyReport.SKIPPED;
+        } while (b.cancelled());
+        return api.post("/api/v2/reservations/" + b.id() + "/pay", Map.of()).statusCode();
+    }
+
+    private int cancel() throws IOException, InterruptedException {
+        Booking b = cancellable.poll();
+        if (b == null) return LatencyReport.SKIPPED;
+
+        int status = api.post("/api/v2/reservations/" + b.id() + "/cancel", Map.of("notes", "load test " + runId))
+                .statusCode();
+        if (ApiClient.ok(status)) b.cancelled = true;
+        return status;
+    }
+
+    /**
+     * A bounded customer pool, so repeat guests exercise the find-or-create path.
+     */
+    private Map<String, Object> reservation(long roomId, LocalDate start, LocalDate end, SplittableRandom rnd) {
+        int c = rnd.nextInt(config.customers());
+        Map<String, Object> customer = new LinkedHashMap<>();
+        customer.put("fullName", "Load Test Guest " + c);
+        customer.put("address", c + " Benchmark Road");
+        customer.put("dateOfBirth", LocalDate.of(1960, 1, 1).plusDays(c * 97L % 15_000).toString());
+        customer.put("idNumber", "LT-" + runId + "-" + c);
+        customer.put("idType", "PASSPORT");
+        customer.put("email", "loadtest+" + runId + "-" + c + "@example.test");
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("roomId", roomId);
+        body.put("startDate", start.toString());
+        body.put("endDate", end.toString());
+        body.put("customer", customer);
+        body.put("notes", "load test " + runId);
+        return body;
+    }
+
+    private LocalDate randomStart(SplittableRandom rnd) {
+        return firstNight.plusDays(rnd.nextInt(config.horizonDays()));
+    }
+
+    private static LocalDate randomEnd(LocalDate start, SplittableRandom rnd) {
+        return start.plusDays(1 + rnd.nextInt(7));
+    }
+}
@@ -0,0 +1,89 @@
+package com.luxstay.luxstay_hotels_v2.loadtest;
+
+import com.luxstay.luxstay_hotels_v2.loadtest.BookingLoadTest.Booking;
+import tools.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Post-run consistency check, read from the primary.
+ *
+ * For every room the run booked into:
+ * - no two non-cancelled reservations may overlap ([start, end), same rule as the API)
+ * - every booking the API acknowledged (and the run didn't cancel) must still be there and not cancelled
+ *
+ * Rooms the run never touched are not checked, so pre-existing data can't fail the run.
+ */
+final class DoubleBookingChecker {
+
+    record Result(int rooms, int reservations, List<String> doubleBookings, List<String> lostBookings) {
+
+        boolean passed() {
+            return doubleBookings.isEmpty() && lostBookings.isEmpty();
+        }
+    }
+
+    private record Stay(long id, LocalDate start, LocalDate end) {}
+
+    private final ApiClient api;
+
+    DoubleBookingChecker(ApiClient api) {
+        this.api = api;
+    }
+
+    Result check(Collection<Booking> bookings) throws IOException, InterruptedException {
+        Map<Long, List<Booking>> byRoom = bookings.stream().collect(Collectors.groupingBy(Booking::roomId));
+        List<String> doubleBookings = new ArrayList<>();
+        List<String> lost = new ArrayList<>();
+        int reservations = 0;
+
+        for (Map.Entry<Long, List<Booking>> e : byRoom.entrySet()) {
+            long roomId = e.getKey();
+            HttpResponse<String> response = api.getFromPrimary("/api/v2/reservations?roomId=" + roomId);
+            if (!ApiClient.ok(response.statusCode())) {
+                throw new IllegalStateException("GET reservations for room " + roomId + " -> " + response.statusCode());
+            }
+
+            Map<Long, String> statusById = new HashMap<>();
+            List<Stay> active = new ArrayList<>();
+            for (JsonNode r : api.read(response)) {
+                long id = r.path("id").asLong();
+                String status = r.path("status").asString();
+                statusById.put(id, status);
+                if (!"CANCELLED".equalsIgnoreCase(status)) {
+                    active.add(new Stay(id, LocalDate.parse(r.path("startDate").asString()),
+                            LocalDate.parse(r.path("endDate").asString())));
+                }
+            }
+            reservations += statusById.size();
+
+            active.sort(Comparator.comparing(Stay::start));
+            Stay latest = null;
+            for (Stay s : active) {
+                if (latest != null && s.start().isBefore(latest.end())) {
+                    doubleBookings.add("room " + roomId + ": #" + latest.id() + " [" + latest.start() + ", "
+                            + latest.end() + ") overlaps #" + s.id() + " [" + s.start() + ", " + s.end() + ")");
+                }
+                if (latest == null || s.end().isAfter(latest.end())) latest = s;
+            }
+
+            for (Booking b : e.getValue()) {
+                if (b.cancelled()) continue;
+                String status = statusById.get(b.id());
+                if (status == null || "CANCELLED".equalsIgnoreCase(status)) {
+                    lost.add("room " + roomId + ": #" + b.id() + " acknowledged but " + (status == null ? "missing" : status));
+                }
+            }
+        }
+        return new Result(byRoom.size(), reservations, doubleBookings, lost);
+    }
+}
@@ -0,0 +1,89 @@
+package com.luxstay.luxstay_hotels_v2.loadtest;
+
+import tools.jackson.databind.JsonNode;
+
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Latency of GET /api/v2/hotels/{id}/day-view (target: p95 under 20ms for a 1,000-room hotel).
+ *
+ * One request at a time, so the figure is the query itself, not queueing. Hotels are taken from
+ * GET /api/v2/hotels (or given with hotels=1,2,3) and dates are random within +-days of today,
+ * so arrivals, departures and stay-overs are all in the mix. Seed the database with the scale
+ * generator first (a 1,000-room hotel), then:
+ *
+ *   ./mvnw -Ploadtest test-compile exec:exec -Dloadtest.main=com.luxstay.luxstay_hotels_v2.loadtest.FrontDeskLatencyBenchmark \
+ *          -Dloadtest.args="http://localhost:8080 requests=2000 days=60"
+ *
+ * Args: baseUrl [requests=1000] [warmup=200] [days=60] [hotels=id,id,...] [target=20 (ms)]
+ */
+public class FrontDeskLatencyBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 && !args[0].contains("=") ? args[0] : "http://localhost:8080";
+        int requests = 1000;
+        int warmup = 200;
+        int days = 60;
+        double targetMs = 20;
+        List<Long> hotels = new ArrayList<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq < 0) continue;
+            String value = arg.substring(eq + 1);
+            switch (arg.substring(0, eq)) {
+                case "requests" -> requests = Integer.parseInt(value);
+                case "warmup" -> warmup = Integer.parseInt(value);
+                case "days" -> days = Integer.parseInt(value);
+                case "target" -> targetMs = Double.parseDouble(value);
+                case "hotels" -> Arrays.stream(value.split(",")).map(Long::parseLong).forEach(hotels::add);
+                default -> throw new IllegalArgumentException("Unknown argument: " + arg);
+            }
+        }
+
+        ApiClient api = new ApiClient(baseUrl);
+        if (hotels.isEmpty()) {
+            for (JsonNode hotel : api.read(api.get("/api/v2/hotels"))) hotels.add(hotel.path("id").asLong());
+        }
+        if (hotels.isEmpty()) throw new IllegalStateException("No hotels at " + baseUrl);
+
+        SplittableRandom rnd = new SplittableRandom(42);
+        run(api, hotels, warmup, days, rnd);
+        long[] micros = run(api, hotels, requests, days, rnd);
+
+        Arrays.sort(micros);
+        long over = Arrays.stream(micros).filter(us -> us > targetMs * 1_000).count();
+        System.out.printf("day-view: hotels=%d requests=%d%n", hotels.size(), micros.length);
+        System.out.printf("day-view: latency ms p50=%.1f p95=%.1f p99=%.1f max=%.1f%n",
+                percentile(micros, 50), percentile(micros, 95), percentile(micros, 99), percentile(micros, 100));
+        System.out.printf("day-view: over %.0fms: %d (%.2f%%)%n", targetMs, over, 100.0 * over / Math.max(1, micros.length));
+    }
+
+    private static long[] run(ApiClient api, List<Long> hotels, int requests, int days, SplittableRandom rnd)
+            throws Exception {
+        LocalDate today = LocalDate.now();
+        long[] micros = new long[requests];
+        for (int i = 0; i < requests; i++) {
+            long hotel = hotels.get(rnd.nextInt(hotels.size()));
+            LocalDate date = today.plusDays(rnd.nextInt(-days, days + 1));
+
+            long t0 = System.nanoTime();
+            HttpResponse<String> response = api.get("/api/v2/hotels/" + hotel + "/day-view?date=" + date);
+            micros[i] = (System.nanoTime() - t0) / 1_000;
+            if (!ApiClient.ok(response.statusCode())) {
+                throw new IllegalStateException("GET day-view for hotel " + hotel + " returned " + response.statusCode());
+            }
+        }
+        return micros;
+    }
+
+    private static double percentile(long[] sortedMicros, double p) {
+        if (sortedMicros.length == 0) return 0;
+        int idx = (int) Math.ceil(p / 100.0 * sortedMicros.length) - 1;
+        return sortedMicros[Math.max(0, Math.min(idx, sortedMicros.length - 1))] / 1_000.0;
+    }
+}
@@ -0,0 +1,164 @@
+package com.luxstay.luxstay_hotels_v2.loadtest;
+
+import com.luxstay.luxstay_hotels_v2.loadtest.BookingLoadTest.Scenario;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-scenario latency and status bookkeeping.
+ *
+ * Two histograms per scenario, both in microseconds:
+ * - response time: completion - *scheduled* start (coordinated-omission corrected)
+ * - service time: completion - actual send (what a closed-loop tool would have reported)
+ * A large gap between the two means requests were queueing, in the server or in the generator.
+ *
+ * Recorders are written by the request threads and drained by the single driver thread.
+ */
+final class LatencyReport {
+
+    static final int SKIPPED = -1;
+    static final int IO_ERROR = 0;
+
+    private static final long MAX_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final int DIGITS = 3;
+
+    private final Map<Scenario, Recorder> responseTime = new EnumMap<>(Scenario.class);
+    private final Map<Scenario, Recorder> serviceTime = new EnumMap<>(Scenario.class);
+    private final Map<Scenario, Histogram> totalResponse = new EnumMap<>(Scenario.class);
+    private final Map<Scenario, Histogram> totalService = new EnumMap<>(Scenario.class);
+    private final Map<Scenario, Map<Integer, LongAdder>> statuses = new EnumMap<>(Scenario.class);
+    private final LongAccumulator maxDispatchLagMicros = new LongAccumulator(Math::max, 0);
+
+    private final long startedNanos = System.nanoTime();
+    private long lastIntervalNanos = startedNanos;
+
+    LatencyReport() {
+        for (Scenario s : Scenario.values()) {
+            responseTime.put(s, new Recorder(MAX_MICROS, DIGITS));
+            serviceTime.put(s, new Recorder(MAX_MICROS, DIGITS));
+            totalResponse.put(s, new Histogram(MAX_MICROS, DIGITS));
+            totalService.put(s, new Histogram(MAX_MICROS, DIGITS));
+            statuses.put(s, new ConcurrentHashMap<>());
+        }
+    }
+
+    void record(Scenario scenario, int status, long intendedNanos, long sentNanos, long doneNanos) {
+        statuses.get(scenario).computeIfAbsent(status, k -> new LongAdder()).increment();
+        maxDispatchLagMicros.accumulate((sentNanos - intendedNanos) / 1_000);
+        if (status == SKIPPED) return;
+
+        responseTime.get(scenario).recordValue(micros(doneNanos - intendedNanos));
+        serviceTime.get(scenario).recordValue(micros(doneNanos - sentNanos));
+    }
+
+    /**
+     * Drains the recorders into the run totals and prints one progress line.
+     */
+    void interval(PrintStream out) {
+        long now = System.nanoTime();
+        double seconds = (now - lastIntervalNanos) / 1e9;
+        lastIntervalNanos = now;
+
+        StringBuilder line = new StringBuilder(String.format("t=%5.0fs", (now - startedNanos) / 1e9));
+        for (Scenario s : Scenario.values()) {
+            Histogram response = responseTime.get(s).getIntervalHistogram();
+            totalResponse.get(s).add(response);
+            totalService.get(s).add(serviceTime.get(s).getIntervalHistogram());
+
+            if (response.getTotalCount() == 0) continue;
+            line.append(String.format("  %s %.0f/s p99=%.1fms", s.key(), response.getTotalCount() / seconds,
+                    response.getValueAtPercentile(99) / 1_000.0));
+        }
+        out.println(line);
+    }
+
+    void print(PrintStream out, double seconds, double offeredRate) {
+        interval(new PrintStream(OutputStream.nullOutputStream()));
+
+        out.printf("%nOffered %.1f arrivals/s for %.1fs; max generator dispatch lag %.1fms%n",
+                offeredRate, seconds, maxDispatchLagMicros.get() / 1_000.0);
+        out.printf("%-7s %8s %9s | %-44s | %-26s | %s%n", "", "count", "ok/s",
+                "response time ms (p50 p90 p99 p99.9 max)", "service time ms (p50 p99)", "statuses");
+
+        for (Scenario s : Scenario.values()) {
+            Histogram r = totalResponse.get(s);
+            Histogram t = totalService.get(s);
+            Map<Integer, Long> byStatus = statuses(s);
+            if (byStatus.isEmpty()) continue;
+
+            out.printf("%-7s %8d %9.1f | %8.1f %8.1f %8.1f %8.1f %8.1f | %12.1f %12.1f | %s%n",
+                    s.key(), r.getTotalCount(), ok(s) / seconds,
+                    ms(r, 50), ms(r, 90), ms(r, 99), ms(r, 99.9), r.getMaxValue() / 1_000.0,
+                    ms(t, 50), ms(t, 99),
+                    describe(byStatus));
+        }
+    }
+
+    /**
+     * Full percentile distributions (HdrHistogram .hgrm, values in ms) for plotting.
+     */
+    void write(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        for (Scenario s : Scenario.values()) {
+            if (totalResponse.get(s).getTotalCount() == 0) continue;
+            try (PrintStream response = new PrintStream(Files.newOutputStream(dir.resolve(s.key() + ".hgrm")));
+                 PrintStream service = new PrintStream(Files.newOutputStream(dir.resolve(s.key() + "-service.hgrm")))) {
+                totalResponse.get(s).outputPercentileDistribution(response, 1_000.0);
+                totalService.get(s).outputPercentileDistribution(service, 1_000.0);
+            }
+        }
+    }
+
+    long count(Scenario scenario, int status) {
+        LongAdder n = statuses.get(scenario).get(status);
+        return n == null ? 0 : n.sum();
+    }
+
+    long ok(Scenario scenario) {
+        return statuses(scenario).entrySet().stream()
+                .filter(e -> ApiClient.ok(e.getKey()))
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+    }
+
+    private Map<Integer, Long> statuses(Scenario scenario) {
+        Map<Integer, Long> out = new TreeMap<>();
+        statuses.get(scenario).forEach((status, n) -> out.put(status, n.sum()));
+        return out;
+    }
+
+    private static String describe(Map<Integer, Long> byStatus) {
+        StringBuilder sb = new StringBuilder();
+        byStatus.forEach((status, n) -> {
+            if (!sb.isEmpty()) sb.append(' ');
+            String name = switch (status) {
+                case SKIPPED -> "skipped";
+                case IO_ERROR -> "io-error";
+                default -> Integer.toString(status);
+            };
+            sb.append(name).append('=').append(n);
+        });
+        return sb.toString();
+    }
+
+    private static double ms(Histogram h, double percentile) {
+        return h.getValueAtPercentile(percentile) / 1_000.0;
+    }
+
+    private static long micros(long nanos) {
+        return Math.max(0, Math.min(MAX_MICROS, nanos / 1_000));
+    }
+}
@@ -0,0 +1,141 @@
+package com.luxstay.luxstay_hotels_v2.loadtest;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Startup benchmark: time from process launch to the first 200 from GET /api/v2/health (or `path`).
+ *
+ * Launches the given command `runs` times (after one discarded run that warms the OS page cache),
+ * polls the health endpoint every 10ms, then stops the process with SIGTERM. The app's own
+ * "Started ... in Xs" figure is reported alongside: the difference is JVM start + first request.
+ *
+ * Build both variants and run the same benchmark against each, with the same database:
+ *
+ *   ./mvnw -DskipTests package
+ *   ./mvnw -Ploadtest test-compile exec:exec -Dloadtest.main=com.luxstay.luxstay_hotels_v2.loadtest.StartupBenchmark \
+ *          -Dloadtest.args="label=default runs=10 -- java -jar target/luxstay-hotels-v2-0.0.1-SNAPSHOT.jar"
+ *
+ *   ./mvnw -Pfaststart -DskipTests package
+ *   java -Djarmode=tools -jar target/luxstay-hotels-v2-0.0.1-SNAPSHOT.jar extract --destination target/faststart
+ *   (cd target/faststart && DB_URL=... java -XX:ArchiveClassesAtExit=app.jsa -Dspring.context.exit=onRefresh \
+ *          -Dspring.aot.enabled=true -Dspring.profiles.active=faststart -jar luxstay-hotels-v2-0.0.1-SNAPSHOT.jar)
+ *   ... -Dloadtest.args="label=faststart runs=10 -- java -XX:SharedArchiveFile=target/faststart/app.jsa \
+ *          -Dspring.aot.enabled=true -Dspring.profiles.active=faststart -jar target/faststart/luxstay-hotels-v2-0.0.1-SNAPSHOT.jar"
+ *
+ * Args: [label=run] [runs=5] [port=18080] [timeout=120 (seconds)] [path=/api/v2/health] -- command...
+ * path=/api/v2/ready measures time-to-ready instead, i.e. including WarmupRunner.
+ * The port is passed to the app as SERVER_PORT; DB_URL etc. are inherited from this process.
+ */
+public class StartupBenchmark {
+
+    private static final Pattern STARTED = Pattern.compile("Started \\S+ in ([0-9.]+) seconds");
+
+    private record Run(long healthyMillis, Double reportedSeconds) {}
+
+    public static void main(String[] args) throws Exception {
+        int split = Arrays.asList(args).indexOf("--");
+        if (split < 0 || split == args.length - 1) {
+            throw new IllegalArgumentException("Usage: [label=..] [runs=..] [port=..] [timeout=..] -- command...");
+        }
+
+        String label = "run";
+        int runs = 5;
+        int port = 18080;
+        Duration timeout = Duration.ofSeconds(120);
+        String path = "/api/v2/health";
+        for (String arg : Arrays.copyOfRange(args, 0, split)) {
+            String[] kv = arg.split("=", 2);
+            if (kv.length != 2) throw new IllegalArgumentException("Expected key=value, got: " + arg);
+            switch (kv[0]) {
+                case "label" -> label = kv[1];
+                case "runs" -> runs = Integer.parseInt(kv[1]);
+                case "port" -> port = Integer.parseInt(kv[1]);
+                case "timeout" -> timeout = Duration.ofSeconds(Long.parseLong(kv[1]));
+                case "path" -> path = kv[1];
+                default -> throw new IllegalArgumentException("Unknown argument: " + arg);
+            }
+        }
+        List<String> command = List.of(Arrays.copyOfRange(args, split + 1, args.length));
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        URI health = URI.create("http://localhost:" + port + path);
+
+        launch(command, port, client, health, timeout); // page cache, not reported
+
+        List<Run> results = new ArrayList<>(runs);
+        for (int i = 0; i < runs; i++) {
+            Run run = launch(command, port, client, health, timeout);
+            results.add(run);
+            System.out.printf("%s #%d: healthy after %d ms (app reported %s s)%n",
+                    label, i + 1, run.healthyMillis(), run.reportedSeconds() == null ? "?" : run.reportedSeconds());
+        }
+
+        long[] millis = results.stream().mapToLong(Run::healthyMillis).sorted().toArray();
+        System.out.printf("%s: runs=%d time-to-first-200 on %s ms min=%d median=%d max=%d%n",
+                label, runs, path, millis[0], millis[millis.length / 2], millis[millis.length - 1]);
+    }
+
+    private static Run launch(List<String> command, int port, HttpClient client, URI health, Duration timeout)
+            throws Exception {
+        ProcessBuilder pb = new ProcessBuilder(command).redirectErrorStream(true);
+        pb.environment().put("SERVER_PORT", Integer.toString(port));
+
+        long started = System.nanoTime();
+        Process process = pb.start();
+        AtomicReference<Double> reported = new AtomicReference<>();
+        Thread output = Thread.ofVirtual().start(() -> drain(process, reported));
+
+        try {
+            long deadline = started + timeout.toNanos();
+            HttpRequest request = HttpRequest.newBuilder(health).timeout(Duration.ofSeconds(1)).GET().build();
+            while (true) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Process exited with " + process.exitValue() + " before becoming healthy");
+                }
+                if (System.nanoTime() > deadline) throw new IllegalStateException("Not healthy after " + timeout);
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) break;
+                } catch (ConnectException e) {
+                    // not listening yet
+                }
+                Thread.sleep(10);
+            }
+            long healthy = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) process.destroyForcibly().waitFor();
+            output.join(1_000);
+            return new Run(healthy, reported.get());
+        } finally {
+            if (process.isAlive()) process.destroyForcibly().waitFor();
+        }
+    }
+
+    private static void drain(Process process, AtomicReference<Double> reported) {
+        try (BufferedReader in = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                Matcher m = STARTED.matcher(line);
+                if (m.find()) reported.compareAndSet(null, Double.parseDouble(m.group(1)));
+            }
+        } catch (Exception e) {
+            // process went away
+        }
+    }
+}
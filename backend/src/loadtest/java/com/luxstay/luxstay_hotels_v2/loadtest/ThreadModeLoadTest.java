@@ -0,0 +1,135 @@
+package com.luxstay.luxstay_hotels_v2.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Closed-loop load test for GET /api/v2/rooms/available, used to compare the
+ * platform-thread and virtual-thread request modes on the same database.
+ *
+ * Every simulated user runs on its own virtual thread and sends the next request as soon as
+ * the previous one returns. Date ranges are random so most requests miss the availability
+ * cache and actually hit PostgreSQL (that's the slow path that pins Tomcat threads).
+ *
+ * Start the API once per mode and run the same test against each:
+ *
+ *   VIRTUAL_THREADS=false ./mvnw spring-boot:run
+ *   ./mvnw -Ploadtest test-compile exec:exec -Dloadtest.args="http://localhost:8080 1000 60 platform"
+ *
+ *   VIRTUAL_THREADS=true ./mvnw spring-boot:run
+ *   ./mvnw -Ploadtest test-compile exec:exec -Dloadtest.args="http://localhost:8080 1000 60 virtual"
+ *
+ * Args: baseUrl users durationSeconds [label]. 503s are the bulkhead shedding load (Retry-After),
+ * so compare throughput AND the 503 rate, not throughput alone.
+ */
+public class ThreadModeLoadTest {
+
+    private record Result(long[] latenciesMicros, int count, Map<Integer, Long> statuses, long failures) {}
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int users = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+        Duration duration = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 30);
+        String label = args.length > 3 ? args[3] : "run";
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        // Warm-up: JIT, connection pool, Hibernate query plans
+        runFor(client, baseUrl, Math.min(users, 50), Duration.ofSeconds(10), 1);
+
+        long started = System.nanoTime();
+        List<Result> results = runFor(client, baseUrl, users, duration, 42);
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+        report(label, users, seconds, results);
+    }
+
+    private static List<Result> runFor(HttpClient client, String baseUrl, int users, Duration duration, long seed)
+            throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<Result>> futures = new ArrayList<>(users);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int u = 0; u < users; u++) {
+                SplittableRandom rnd = new SplittableRandom(seed * 1_000_003 + u);
+                futures.add(executor.submit(() -> user(client, baseUrl, deadline, rnd)));
+            }
+            List<Result> out = new ArrayList<>(users);
+            for (Future<Result> f : futures) out.add(f.get());
+            return out;
+        }
+    }
+
+    private static Result user(HttpClient client, String baseUrl, long deadline, SplittableRandom rnd) {
+        long[] latencies = new long[1024];
+        int count = 0;
+        long failures = 0;
+        Map<Integer, Long> statuses = new TreeMap<>();
+        LocalDate today = LocalDate.now();
+
+        while (System.nanoTime() < deadline) {
+            LocalDate start = today.plusDays(rnd.nextInt(365));
+            LocalDate end = start.plusDays(1 + rnd.nextInt(7));
+            URI uri = URI.create(baseUrl + "/api/v2/rooms/available"
+                    + "?startDate=" + start + "&endDate=" + end + "&capacity=" + (1 + rnd.nextInt(4)));
+            HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+
+            long t0 = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                statuses.merge(response.statusCode(), 1L, Long::sum);
+            } catch (Exception e) {
+                failures++;
+                continue;
+            }
+
+            if (count == latencies.length) latencies = Arrays.copyOf(latencies, count * 2);
+            latencies[count++] = (System.nanoTime() - t0) / 1_000;
+        }
+        return new Result(latencies, count, statuses, failures);
+    }
+
+    private static void report(String label, int users, double seconds, List<Result> results) {
+        int total = results.stream().mapToInt(Result::count).sum();
+        long[] all = new long[total];
+        int i = 0;
+        Map<Integer, Long> statuses = new TreeMap<>();
+        long failures = 0;
+
+        for (Result r : results) {
+            System.arraycopy(r.latenciesMicros(), 0, all, i, r.count());
+            i += r.count();
+            r.statuses().forEach((status, n) -> statuses.merge(status, n, Long::sum));
+            failures += r.failures();
+        }
+        Arrays.sort(all);
+
+        System.out.printf("%s: users=%d duration=%.1fs requests=%d throughput=%.1f req/s%n",
+                label, users, seconds, total, total / seconds);
+        System.out.printf("%s: latency ms p50=%.1f p95=%.1f p99=%.1f max=%.1f%n",
+                label, percentile(all, 50), percentile(all, 95), percentile(all, 99), percentile(all, 100));
+        System.out.printf("%s: statuses=%s connectionFailures=%d%n", label, statuses, failures);
+    }
+
+    private static double percentile(long[] sortedMicros, double p) {
+        if (sortedMicros.length == 0) return 0;
+        int idx = (int) Math.ceil(p / 100.0 * sortedMicros.length) - 1;
+        return sortedMicros[Math.max(0, Math.min(idx, sortedMicros.length - 1))] / 1_000.0;
+    }
+}
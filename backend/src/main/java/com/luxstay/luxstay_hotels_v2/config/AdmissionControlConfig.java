@@ -0,0 +1,25 @@
+package com.luxstay.luxstay_hotels_v2.config;
+
+import com.luxstay.luxstay_hotels_v2.web.AdmissionControlInterceptor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@ConditionalOnProperty(name = "luxstay.admission.enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionControlConfig implements WebMvcConfigurer {
+
+    private final AdmissionControlInterceptor admission;
+
+    public AdmissionControlConfig(AdmissionControlInterceptor admission) {
+        this.admission = admission;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(admission)
+                .addPathPatterns("/api/v2/reservations", "/api/v2/reservations/*/pay", "/api/v2/rooms/available",
+                        "/api/v2/reservations/archive", "/api/v2/analytics/occupancy", "/api/v2/search");
+    }
+}
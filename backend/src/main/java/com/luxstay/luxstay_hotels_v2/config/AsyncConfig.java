@@ -0,0 +1,13 @@
+package com.luxstay.luxstay_hotels_v2.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * @Async uses Boot's applicationTaskExecutor: a pool of platform threads by default,
+ * one virtual thread per task when spring.threads.virtual.enabled=true.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
@@ -0,0 +1,156 @@
+package com.luxstay.luxstay_hotels_v2.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Semaphore in front of the connection pool.
+ *
+ * With virtual threads there is no Tomcat thread limit anymore: every request can reach
+ * getConnection() at the same time. The bulkhead caps how many of them hold (or wait inside
+ * the pool for) a connection; everyone else parks cheaply on a fair semaphore and gives up
+ * after maxWait instead of piling up inside Hikari until its connectionTimeout.
+ *
+ * A permit is taken in getConnection() and released exactly once when the connection is closed.
+ */
+public class BulkheadDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    public record Stats(int permits, int available, int waiting, long acquired, long rejected) {}
+
+    private final Semaphore permits;
+    private final int size;
+    private final long maxWaitNanos;
+
+    private final AtomicLong acquired = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public BulkheadDataSource(DataSource target, int permits, Duration maxWait) {
+        super(target);
+        if (permits < 1) throw new IllegalArgumentException("bulkhead permits must be >= 1");
+        this.permits = new Semaphore(permits, true);
+        this.size = permits;
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return guard(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return guard(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Bulkheads inside a (possibly wrapped / routed) DataSource, by pool: "primary", "replica".
+     */
+    public static Map<String, BulkheadDataSource> find(DataSource ds) {
+        Map<String, BulkheadDataSource> out = new LinkedHashMap<>();
+        collect("primary", ds, out);
+        return out;
+    }
+
+    private static void collect(String pool, DataSource ds, Map<String, BulkheadDataSource> out) {
+        if (ds instanceof BulkheadDataSource bulkhead) {
+            out.put(pool, bulkhead);
+        } else if (ds instanceof ReadWriteRoutingDataSource router) {
+            router.targets().forEach((route, target) -> collect(route.name().toLowerCase(Locale.ROOT), target, out));
+        } else if (ds instanceof DelegatingDataSource delegating && delegating.getTargetDataSource() != null) {
+            collect(pool, delegating.getTargetDataSource(), out);
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(size, permits.availablePermits(), permits.getQueueLength(), acquired.get(), rejected.get());
+    }
+
+    /**
+     * The wrapper is what the context sees as the DataSource bean: pass shutdown on to the pool.
+     */
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable pool) pool.close();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                rejected.incrementAndGet();
+                throw new SQLTransientConnectionException(
+                        "JDBC bulkhead full: no connection permit within " + Duration.ofNanos(maxWaitNanos).toMillis() + "ms");
+            }
+            acquired.incrementAndGet();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a connection permit", e);
+        }
+    }
+
+    /**
+     * Connection proxy that gives the permit back on the first close().
+     */
+    private Connection guard(Connection target) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "close" -> {
+                            try {
+                                return method.invoke(target, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getCause();
+                            } finally {
+                                if (released.compareAndSet(false, true)) permits.release();
+                            }
+                        }
+                        case "equals" -> {
+                            return proxy == args[0];
+                        }
+                        case "hashCode" -> {
+                            return System.identityHashCode(proxy);
+                        }
+                        case "unwrap" -> {
+                            if (((Class<?>) args[0]).isInstance(proxy)) return proxy;
+                        }
+                        case "isWrapperFor" -> {
+                            if (((Class<?>) args[0]).isInstance(proxy)) return true;
+                        }
+                        default -> { }
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+}
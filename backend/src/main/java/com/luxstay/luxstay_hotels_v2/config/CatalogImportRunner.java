@@ -0,0 +1,43 @@
+package com.luxstay.luxstay_hotels_v2.config;
+
+import com.luxstay.luxstay_hotels_v2.domain.repo.CatalogBulkRepository;
+import com.luxstay.luxstay_hotels_v2.domain.service.CatalogImportService;
+import com.luxstay.luxstay_hotels_v2.web.dto.CatalogDtos;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * luxstay.catalog.import-on-startup=true -> load the bundled CSVs into an empty catalog at boot.
+ */
+@Component
+@Order(0) // data first, WarmupRunner last
+@ConditionalOnProperty(name = "luxstay.catalog.import-on-startup", havingValue = "true")
+public class CatalogImportRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogImportRunner.class);
+
+    private final CatalogImportService importService;
+    private final CatalogBulkRepository bulk;
+
+    public CatalogImportRunner(CatalogImportService importService, CatalogBulkRepository bulk) {
+        this.importService = importService;
+        this.bulk = bulk;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (bulk.countHotels() > 0) {
+            log.info("Catalog import skipped: hotel table is not empty");
+            return;
+        }
+        for (CatalogDtos.ImportReport r : importService.importBundled()) {
+            log.info("Imported {}: {} rows read, {} inserted, {} rejected in {} ms ({} rows/s)",
+                    r.source(), r.rowsRead(), r.inserted(), r.rejected(), r.elapsedMs(), r.rowsPerSecond());
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.luxstay.luxstay_hotels_v2.config;
 
+import com.luxstay.luxstay_hotels_v2.web.ReadYourWritesFilter;
+import com.luxstay.luxstay_hotels_v2.web.SqlStatsFilter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
@@ -20,6 +22,7 @@ public class CorsConfig implements WebMvcConfigurer {
                 )
                 .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders(ReadYourWritesFilter.HEADER, SqlStatsFilter.SERVER_TIMING)
                 .allowCredentials(false)
                 .maxAge(3600);
     }
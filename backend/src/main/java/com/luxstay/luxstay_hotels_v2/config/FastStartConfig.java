@@ -0,0 +1,40 @@
+package com.luxstay.luxstay_hotels_v2.config;
+
+import com.luxstay.luxstay_hotels_v2.web.HealthController;
+import com.luxstay.luxstay_hotels_v2.web.ReservationController;
+import com.luxstay.luxstay_hotels_v2.web.RoomController;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.util.Set;
+
+/**
+ * Lazy initialization for fast-start nodes (faststart profile, spring.main.lazy-initialization=true).
+ *
+ * Admin endpoints, catalog import, logo assets, ops counters etc. are created on first use.
+ * The booking path stays eager so the first real request doesn't pay for it: the DataSource and
+ * JPA, every Spring Data repository and service, and the health / room / reservation controllers.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "spring.main.lazy-initialization", havingValue = "true")
+public class FastStartConfig {
+
+    private static final Set<Class<?>> EAGER_CONTROLLERS =
+            Set.of(HealthController.class, RoomController.class, ReservationController.class);
+
+    @Bean
+    static LazyInitializationExcludeFilter bookingPathEager() {
+        return (beanName, definition, type) ->
+                DataSource.class.isAssignableFrom(type)
+                        || EntityManagerFactory.class.isAssignableFrom(type)
+                        || Repository.class.isAssignableFrom(type)
+                        || type.isAnnotationPresent(Service.class)
+                        || EAGER_CONTROLLERS.contains(type);
+    }
+}
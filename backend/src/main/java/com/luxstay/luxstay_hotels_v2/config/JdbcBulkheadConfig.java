@@ -0,0 +1,48 @@
+package com.luxstay.luxstay_hotels_v2.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Wraps the auto-configured DataSource in a BulkheadDataSource.
+ * Permits default to the Hikari pool size: waiting happens on the semaphore, not inside the pool.
+ *
+ * Runs first, so it wraps the Hikari pool itself (read/write routing, if enabled, goes around it).
+ */
+@Configuration
+@ConditionalOnProperty(name = "luxstay.jdbc.bulkhead.enabled", havingValue = "true", matchIfMissing = true)
+public class JdbcBulkheadConfig {
+
+    @Bean
+    static BeanPostProcessor jdbcBulkheadPostProcessor(Environment env) {
+        return new Wrapper(env);
+    }
+
+    static Duration maxWait(Environment env) {
+        return env.getProperty("luxstay.jdbc.bulkhead.max-wait", Duration.class, Duration.ofSeconds(2));
+    }
+
+    private record Wrapper(Environment env) implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource ds) || bean instanceof BulkheadDataSource) return bean;
+
+            int permits = env.getProperty("luxstay.jdbc.bulkhead.permits", Integer.class,
+                    env.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10));
+            return new BulkheadDataSource(ds, permits, maxWait(env));
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
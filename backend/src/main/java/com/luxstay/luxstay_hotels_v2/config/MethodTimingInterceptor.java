@@ -0,0 +1,95 @@
+package com.luxstay.luxstay_hotels_v2.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every public service / repository method:
+ * luxstay.service{class, method, outcome} and luxstay.repository{class, method, outcome}.
+ *
+ * Hot path is allocation-free: timers are resolved once per (class, method) through a ClassValue
+ * and a map lookup, then recorded with two nanoTime() reads.
+ */
+public class MethodTimingInterceptor implements MethodInterceptor {
+
+    static final String BASE_PACKAGE = "com.luxstay.luxstay_hotels_v2";
+
+    private record Timers(Timer success, Timer error) {}
+
+    private record Target(String metric, String name, ConcurrentHashMap<Method, Timers> timers) {}
+
+    private final ObjectProvider<MeterRegistry> registry;
+
+    private final ClassValue<Target> targets = new ClassValue<>() {
+        @Override
+        protected Target computeValue(Class<?> type) {
+            Class<?> named = named(type);
+            boolean repository = org.springframework.data.repository.Repository.class.isAssignableFrom(type)
+                    || AnnotatedElementUtils.hasAnnotation(named, Repository.class);
+            return new Target(repository ? "luxstay.repository" : "luxstay.service",
+                    named.getSimpleName(), new ConcurrentHashMap<>());
+        }
+    };
+
+    public MethodTimingInterceptor(ObjectProvider<MeterRegistry> registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object self = invocation.getThis();
+        if (self == null) return invocation.proceed();
+
+        Target target = targets.get(self.getClass());
+        Method method = invocation.getMethod();
+        Timers timers = target.timers().get(method);
+        if (timers == null) {
+            timers = target.timers().computeIfAbsent(method, m -> register(target, m));
+        }
+
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            timers.success().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            timers.error().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private Timers register(Target target, Method method) {
+        return new Timers(timer(target, method, "success"), timer(target, method, "error"));
+    }
+
+    private Timer timer(Target target, Method method, String outcome) {
+        return Timer.builder(target.metric())
+                .tag("class", target.name())
+                .tag("method", method.getName())
+                .tag("outcome", outcome)
+                .register(registry.getObject());
+    }
+
+    /**
+     * Spring Data repositories are JDK proxies: name them after their repository interface.
+     */
+    static Class<?> named(Class<?> type) {
+        if (Proxy.isProxyClass(type)) {
+            for (Class<?> i : ClassUtils.getAllInterfacesForClassAsSet(type)) {
+                if (i.getName().startsWith(BASE_PACKAGE)) return i;
+            }
+        }
+        return ClassUtils.getUserClass(type);
+    }
+}
@@ -0,0 +1,133 @@
+package com.luxstay.luxstay_hotels_v2.config;
+
+import com.luxstay.luxstay_hotels_v2.domain.service.AvailabilityCache;
+import com.luxstay.luxstay_hotels_v2.web.AdaptiveLimiter;
+import com.luxstay.luxstay_hotels_v2.web.AdmissionControlInterceptor;
+import com.luxstay.luxstay_hotels_v2.web.RoomListingSnapshots;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Repository;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Locale;
+
+/**
+ * Application metrics, scraped from /actuator/prometheus.
+ *
+ * - HTTP endpoints: Boot's http.server.requests (histogram enabled in application.properties)
+ * - services / repositories: luxstay.service / luxstay.repository (MethodTimingInterceptor)
+ * - Hikari pools: Boot's hikaricp.* ; JDBC bulkheads, admission limits, caches: binders below
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Infrastructure role: added to the same proxies as @Transactional (no second proxy layer),
+     * and ordered outside the transaction so commit time is part of the measurement.
+     * The registry is resolved on first call: advisors are created before most other beans.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor methodTimingAdvisor(ObjectProvider<MeterRegistry> registry) {
+        StaticMethodMatcherPointcut pointcut = new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return Modifier.isPublic(method.getModifiers()) && method.getDeclaringClass() != Object.class;
+            }
+        };
+        pointcut.setClassFilter(MetricsConfig::instrumented);
+
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, new MethodTimingInterceptor(registry));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    private static boolean instrumented(Class<?> type) {
+        Class<?> named = MethodTimingInterceptor.named(type);
+        if (!named.getName().startsWith(MethodTimingInterceptor.BASE_PACKAGE)) return false;
+
+        return AnnotatedElementUtils.hasAnnotation(named, Service.class)
+                || AnnotatedElementUtils.hasAnnotation(named, Repository.class)
+                || org.springframework.data.repository.Repository.class.isAssignableFrom(type);
+    }
+
+    @Bean
+    MeterBinder cacheMetrics(AvailabilityCache availability, RoomListingSnapshots snapshots) {
+        return registry -> {
+            FunctionCounter.builder("cache.gets", availability, AvailabilityCache::hits)
+                    .tags("cache", "availability", "result", "hit").register(registry);
+            FunctionCounter.builder("cache.gets", availability, AvailabilityCache::misses)
+                    .tags("cache", "availability", "result", "miss").register(registry);
+            FunctionCounter.builder("cache.evictions", availability, AvailabilityCache::evicted)
+                    .tag("cache", "availability").register(registry);
+            Gauge.builder("cache.size", availability, AvailabilityCache::size)
+                    .tag("cache", "availability").register(registry);
+
+            Gauge.builder("cache.size", snapshots, RoomListingSnapshots::size)
+                    .tag("cache", "room-listing-snapshots").register(registry);
+        };
+    }
+
+    @Bean
+    MeterBinder admissionMetrics(AdmissionControlInterceptor admission) {
+        return registry -> {
+            for (AdmissionControlInterceptor.Endpoint endpoint : AdmissionControlInterceptor.Endpoint.values()) {
+                String tag = endpoint.name().toLowerCase(Locale.ROOT);
+                Gauge.builder("luxstay.admission.limit", admission, a -> limiter(a, endpoint).limit())
+                        .tag("endpoint", tag).register(registry);
+                Gauge.builder("luxstay.admission.in.flight", admission, a -> limiter(a, endpoint).inFlight())
+                        .tag("endpoint", tag).register(registry);
+                Gauge.builder("luxstay.admission.queued", admission, a -> limiter(a, endpoint).queued())
+                        .tag("endpoint", tag).register(registry);
+                FunctionCounter.builder("luxstay.admission.shed", admission, a -> limiter(a, endpoint).rejected())
+                        .tags("endpoint", tag, "reason", "limit").register(registry);
+                FunctionCounter.builder("luxstay.admission.shed", admission, a -> a.stats().get(endpoint).shedForPriority())
+                        .tags("endpoint", tag, "reason", "priority").register(registry);
+            }
+        };
+    }
+
+    private static AdaptiveLimiter.Stats limiter(AdmissionControlInterceptor admission,
+                                                 AdmissionControlInterceptor.Endpoint endpoint) {
+        return admission.stats().get(endpoint).limiter();
+    }
+
+    @Bean
+    MeterBinder jdbcMetrics(ObjectProvider<DataSource> dataSource) {
+        return registry -> {
+            DataSource ds = dataSource.getIfAvailable();
+            if (ds == null) return;
+
+            BulkheadDataSource.find(ds).forEach((pool, bulkhead) -> {
+                Gauge.builder("luxstay.jdbc.bulkhead.available", bulkhead, b -> b.stats().available())
+                        .tag("pool", pool).register(registry);
+                Gauge.builder("luxstay.jdbc.bulkhead.waiting", bulkhead, b -> b.stats().waiting())
+                        .tag("pool", pool).register(registry);
+                FunctionCounter.builder("luxstay.jdbc.bulkhead.rejected", bulkhead, b -> b.stats().rejected())
+                        .tag("pool", pool).register(registry);
+            });
+
+            ReadWriteRoutingDataSource router = ReadWriteRoutingDataSource.find(ds);
+            if (router != null) {
+                Gauge.builder("luxstay.jdbc.replica.lag", router, ReadWriteRoutingDataSource::lagMillis)
+                        .baseUnit("milliseconds").register(registry);
+            }
+        };
+    }
+}
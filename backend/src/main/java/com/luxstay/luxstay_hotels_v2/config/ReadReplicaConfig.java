@@ -0,0 +1,65 @@
+package com.luxstay.luxstay_hotels_v2.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Enabled when DB_REPLICA_URL is set: the DataSource bean becomes
+ * LazyConnectionDataSourceProxy -> ReadWriteRoutingDataSource -> (primary pool, replica pool).
+ *
+ * Locally, any second PostgreSQL database works as the "replica" (it is then never lagging,
+ * and reads of data written after the split show up as missing — which makes routing visible).
+ */
+@Configuration
+@ConditionalOnExpression("!'${luxstay.datasource.replica.url:}'.isBlank()")
+public class ReadReplicaConfig {
+
+    @Bean
+    static BeanPostProcessor readReplicaPostProcessor(Environment env) {
+        return new Router(env);
+    }
+
+    private record Router(Environment env) implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource primary) || !"dataSource".equals(beanName)) return bean;
+
+            int poolSize = env.getProperty("luxstay.datasource.replica.maximum-pool-size", Integer.class,
+                    env.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10));
+
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica");
+            pool.setJdbcUrl(env.getRequiredProperty("luxstay.datasource.replica.url"));
+            pool.setUsername(env.getProperty("luxstay.datasource.replica.username", env.getProperty("spring.datasource.username")));
+            pool.setPassword(env.getProperty("luxstay.datasource.replica.password", env.getProperty("spring.datasource.password")));
+            pool.setMaximumPoolSize(poolSize);
+            pool.setReadOnly(true);
+
+            DataSource replica = pool;
+            if (env.getProperty("luxstay.jdbc.bulkhead.enabled", Boolean.class, true)) {
+                replica = new BulkheadDataSource(pool, poolSize, JdbcBulkheadConfig.maxWait(env));
+            }
+
+            return ReadWriteRoutingDataSource.lazy(new ReadWriteRoutingDataSource(
+                    primary,
+                    replica,
+                    env.getProperty("luxstay.datasource.replica.max-lag", Duration.class, Duration.ofSeconds(5)),
+                    env.getProperty("luxstay.datasource.replica.lag-check-interval", Duration.class, Duration.ofSeconds(1))
+            ));
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.luxstay.luxstay_hotels_v2.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Sends @Transactional(readOnly = true) work to the replica pool, everything else to the primary.
+ *
+ * Read-only transactions still go to the primary when:
+ * - the current thread is pinned (pinToPrimary(), e.g. a request inside its read-your-writes window)
+ * - the replica is more than maxLag behind (checked at most once per lagCheckInterval)
+ *
+ * Must sit behind a LazyConnectionDataSourceProxy (see lazy(...)): the physical connection is only
+ * fetched at the first statement, when the transaction's readOnly flag is already known.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    public enum Route { PRIMARY, REPLICA }
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    // 0 when caught up (or not a streaming replica at all, e.g. two local databases)
+    private static final String LAG_SQL = """
+        select case
+                 when not pg_is_in_recovery() or pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0
+                 else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+               end
+    """;
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final long maxLagMillis;
+    private final long lagCheckIntervalNanos;
+
+    private final AtomicBoolean checking = new AtomicBoolean();
+    private volatile long lastCheckNanos = System.nanoTime() - Long.MAX_VALUE / 2;
+    private volatile long lagMillis;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, Duration maxLag, Duration lagCheckInterval) {
+        this.primary = primary;
+        this.replica = replica;
+        this.maxLagMillis = maxLag.toMillis();
+        this.lagCheckIntervalNanos = lagCheckInterval.toNanos();
+
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Router wrapped in the lazy proxy it needs; closing it closes both pools.
+     */
+    public static DataSource lazy(ReadWriteRoutingDataSource router) {
+        return new Lazy(router);
+    }
+
+    /**
+     * Scope in which every transaction of this thread goes to the primary.
+     */
+    public interface Pin extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    public static Pin pinToPrimary() {
+        Boolean previous = PINNED.get();
+        PINNED.set(Boolean.TRUE);
+        return () -> {
+            if (previous == null) PINNED.remove();
+        };
+    }
+
+    /**
+     * True inside pinToPrimary() / onPrimary(...) on this thread.
+     */
+    public static boolean pinned() {
+        return PINNED.get() != null;
+    }
+
+    /**
+     * Runs work on the primary only (e.g. cache rebuilds right after a write).
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        try (Pin ignored = pinToPrimary()) {
+            return work.get();
+        }
+    }
+
+    /**
+     * The router inside a wrapped DataSource, or null when replica routing is off.
+     */
+    public static ReadWriteRoutingDataSource find(DataSource ds) {
+        if (ds instanceof ReadWriteRoutingDataSource router) return router;
+        if (ds instanceof DelegatingDataSource delegating && delegating.getTargetDataSource() != null) {
+            return find(delegating.getTargetDataSource());
+        }
+        return null;
+    }
+
+    public Map<Route, DataSource> targets() {
+        return Map.of(Route.PRIMARY, primary, Route.REPLICA, replica);
+    }
+
+    public long lagMillis() {
+        return lagMillis;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) return Route.PRIMARY;
+        if (PINNED.get() != null) return Route.PRIMARY;
+        return replicaLagging() ? Route.PRIMARY : Route.REPLICA;
+    }
+
+    private boolean replicaLagging() {
+        long now = System.nanoTime();
+        if (now - lastCheckNanos > lagCheckIntervalNanos && checking.compareAndSet(false, true)) {
+            try {
+                lagMillis = measureLagMillis();
+                lastCheckNanos = now;
+            } finally {
+                checking.set(false);
+            }
+        }
+        return lagMillis > maxLagMillis;
+    }
+
+    private long measureLagMillis() {
+        try (Connection c = replica.getConnection();
+             Statement st = c.createStatement();
+             ResultSet rs = st.executeQuery(LAG_SQL)) {
+            return rs.next() ? Math.round(rs.getDouble(1)) : 0;
+        } catch (Exception e) {
+            // Unreachable replica counts as "too far behind" until the next check
+            return Long.MAX_VALUE;
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        try {
+            if (replica instanceof AutoCloseable c) c.close();
+        } finally {
+            if (primary instanceof AutoCloseable c) c.close();
+        }
+    }
+
+    private static final class Lazy extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+        private final ReadWriteRoutingDataSource router;
+
+        Lazy(ReadWriteRoutingDataSource router) {
+            super(router);
+            this.router = router;
+        }
+
+        @Override
+        public void close() throws Exception {
+            router.close();
+        }
+    }
+}
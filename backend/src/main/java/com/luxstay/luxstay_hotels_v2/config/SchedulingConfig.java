@@ -0,0 +1,12 @@
+package com.luxstay.luxstay_hotels_v2.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled jobs run on Boot's taskScheduler (a single thread unless spring.task.scheduling.pool.size is set).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
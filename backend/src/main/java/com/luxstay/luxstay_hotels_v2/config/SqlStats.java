@@ -0,0 +1,133 @@
+package com.luxstay.luxstay_hotels_v2.config;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * JDBC statistics for the current thread: statements, time spent in JDBC, rows read, and how
+ * often each statement shape ran (the same shape N times in one request = N+1 loading).
+ *
+ * Fed by SqlStatsDataSource; scoped per request by SqlStatsFilter, or around any code with
+ * capture(...) (tests, see SqlStatsAssert).
+ */
+public final class SqlStats implements AutoCloseable {
+
+    private static final ThreadLocal<SqlStats> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final SqlStats parent;
+    private final Map<String, Integer> shapes = new HashMap<>();
+    private int statements;
+    private long jdbcNanos;
+    private long rows;
+
+    private SqlStats(SqlStats parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Starts collecting on this thread until close(); nested scopes also count towards the outer one.
+     */
+    public static SqlStats start() {
+        SqlStats stats = new SqlStats(CURRENT.get());
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static SqlStats capture(Runnable work) {
+        try (SqlStats stats = start()) {
+            work.run();
+            return stats;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (CURRENT.get() != this) return;
+        if (parent == null) CURRENT.remove();
+        else CURRENT.set(parent);
+    }
+
+    // ---------- Recording (SqlStatsDataSource) ----------
+
+    static boolean active() {
+        return CURRENT.get() != null;
+    }
+
+    static void statement(String sql, long nanos) {
+        String shape = sql == null ? "?" : shape(sql);
+        for (SqlStats s = CURRENT.get(); s != null; s = s.parent) {
+            s.statements++;
+            s.jdbcNanos += nanos;
+            s.shapes.merge(shape, 1, Integer::sum);
+        }
+    }
+
+    static void rows(long n) {
+        for (SqlStats s = CURRENT.get(); s != null; s = s.parent) s.rows += n;
+    }
+
+    /**
+     * Literals and IN-lists folded away, so "where id=1" and "where id=2" count as one shape.
+     */
+    static String shape(String sql) {
+        String s = STRING_LITERAL.matcher(sql).replaceAll("?");
+        s = NUMBER_LITERAL.matcher(s).replaceAll("?");
+        s = IN_LIST.matcher(s).replaceAll("(?)");
+        return WHITESPACE.matcher(s).replaceAll(" ").trim();
+    }
+
+    // ---------- Reading ----------
+
+    public int statements() {
+        return statements;
+    }
+
+    public long jdbcNanos() {
+        return jdbcNanos;
+    }
+
+    public double jdbcMillis() {
+        return jdbcNanos / 1_000_000.0;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    /**
+     * Shapes that ran at least minCount times, most frequent first.
+     */
+    public Map<String, Integer> repeatedShapes(int minCount) {
+        Map<String, Integer> out = new LinkedHashMap<>();
+        shapes.entrySet().stream()
+                .filter(e -> e.getValue() >= minCount)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(e -> out.put(e.getKey(), e.getValue()));
+        return out;
+    }
+
+    public int maxRepeats() {
+        return shapes.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+    }
+
+    /**
+     * Server-Timing header value, e.g. db;dur=4.2;desc="7 statements, 120 rows".
+     */
+    public String serverTiming() {
+        return String.format(Locale.ROOT, "db;dur=%.1f;desc=\"%d statements, %d rows\"",
+                jdbcMillis(), statements, rows);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%d statements, %.1f ms, %d rows", statements, jdbcMillis(), rows);
+    }
+}
@@ -0,0 +1,28 @@
+package com.luxstay.luxstay_hotels_v2.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Non-prod only (SQL_STATS=true): wraps the final DataSource bean in SqlStatsDataSource.
+ * Not Ordered, so it runs after the bulkhead and replica wrappers and sees every statement.
+ */
+@Configuration
+@ConditionalOnProperty(name = "luxstay.sql-stats.enabled", havingValue = "true")
+public class SqlStatsConfig {
+
+    @Bean
+    static BeanPostProcessor sqlStatsPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource ds) || bean instanceof SqlStatsDataSource) return bean;
+                return new SqlStatsDataSource(ds);
+            }
+        };
+    }
+}
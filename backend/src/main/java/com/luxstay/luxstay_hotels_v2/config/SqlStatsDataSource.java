@@ -0,0 +1,103 @@
+package com.luxstay.luxstay_hotels_v2.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Feeds SqlStats: times every execute*, counts rows as ResultSet.next() walks them.
+ * Only when a SqlStats scope is open on the calling thread; otherwise connections pass through untouched.
+ */
+public class SqlStatsDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    public SqlStatsDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Connection c = obtainTargetDataSource().getConnection();
+        return SqlStats.active() ? connection(c) : c;
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Connection c = obtainTargetDataSource().getConnection(username, password);
+        return SqlStats.active() ? connection(c) : c;
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable ds) ds.close();
+    }
+
+    private static Connection connection(Connection target) {
+        return proxy(Connection.class, target, (p, method, args) -> {
+            Object result = invoke(target, method, args);
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+
+            return switch (method.getName()) {
+                case "prepareStatement" -> statement(PreparedStatement.class, (PreparedStatement) result, sql);
+                case "prepareCall" -> statement(CallableStatement.class, (CallableStatement) result, sql);
+                case "createStatement" -> statement(Statement.class, (Statement) result, null);
+                default -> result;
+            };
+        });
+    }
+
+    private static <S extends Statement> S statement(Class<S> type, S target, String preparedSql) {
+        return proxy(type, target, (p, method, args) -> {
+            String name = method.getName();
+            if (!name.startsWith("execute")) {
+                Object result = invoke(target, method, args);
+                return result instanceof ResultSet rs && name.equals("getResultSet") ? resultSet(rs) : result;
+            }
+
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+            long start = System.nanoTime();
+            try {
+                Object result = invoke(target, method, args);
+                return result instanceof ResultSet rs ? resultSet(rs) : result;
+            } finally {
+                SqlStats.statement(name.equals("executeBatch") ? sql + " /* batch */" : sql, System.nanoTime() - start);
+            }
+        });
+    }
+
+    private static ResultSet resultSet(ResultSet target) {
+        return proxy(ResultSet.class, target, (p, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) SqlStats.rows(1);
+            return result;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (p, method, args) ->
+                switch (method.getName()) {
+                    case "equals" -> p == args[0];
+                    case "hashCode" -> System.identityHashCode(p);
+                    case "unwrap" -> ((Class<?>) args[0]).isInstance(target) ? target : invoke(target, method, args);
+                    default -> handler.invoke(p, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
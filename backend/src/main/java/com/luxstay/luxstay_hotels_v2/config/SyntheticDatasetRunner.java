@@ -0,0 +1,94 @@
+package com.luxstay.luxstay_hotels_v2.config;
+
+import com.luxstay.luxstay_hotels_v2.domain.repo.SyntheticDataRepository;
+import com.luxstay.luxstay_hotels_v2.domain.service.CatalogChangedEvent;
+import com.luxstay.luxstay_hotels_v2.domain.service.ReservationRollupService;
+import com.luxstay.luxstay_hotels_v2.domain.service.SyntheticDatasetGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * luxstay.synthetic.enabled=true -> REPLACE the whole dataset with a synthetic one at boot.
+ * Scale-testing databases only: the generator truncates every catalog and booking table.
+ */
+@Component
+@Order(0) // data first, WarmupRunner last
+@ConditionalOnProperty(name = "luxstay.synthetic.enabled", havingValue = "true")
+public class SyntheticDatasetRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDatasetRunner.class);
+
+    private final SyntheticDataRepository sink;
+    private final ApplicationEventPublisher events;
+    private final ReservationRollupService rollups;
+
+    @Value("${luxstay.synthetic.seed:42}")
+    private long seed;
+
+    @Value("${luxstay.synthetic.chains:11}")
+    private int chains;
+
+    @Value("${luxstay.synthetic.hotels:1000}")
+    private int hotels;
+
+    @Value("${luxstay.synthetic.rooms:100000}")
+    private int rooms;
+
+    @Value("${luxstay.synthetic.customers:1000000}")
+    private int customers;
+
+    @Value("${luxstay.synthetic.reservations:10000000}")
+    private long reservations;
+
+    @Value("${luxstay.synthetic.cancellation-rate:0.12}")
+    private double cancellationRate;
+
+    @Value("${luxstay.synthetic.repeat-guest-rate:0.35}")
+    private double repeatGuestRate;
+
+    @Value("${luxstay.synthetic.history-days:1095}")
+    private int historyDays;
+
+    @Value("${luxstay.synthetic.future-days:365}")
+    private int futureDays;
+
+    // Fixed "today" keeps the dataset identical from one day to the next
+    @Value("${luxstay.synthetic.today:}")
+    private String today;
+
+    public SyntheticDatasetRunner(SyntheticDataRepository sink,
+                                  ApplicationEventPublisher events,
+                                  ReservationRollupService rollups) {
+        this.sink = sink;
+        this.events = events;
+        this.rollups = rollups;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        SyntheticDatasetGenerator.Spec spec = new SyntheticDatasetGenerator.Spec(
+                seed, chains, hotels, rooms, customers, reservations,
+                cancellationRate, repeatGuestRate,
+                today.isBlank() ? LocalDate.now() : LocalDate.parse(today),
+                historyDays, futureDays
+        );
+
+        log.warn("Replacing database contents with a synthetic dataset: {}", spec);
+        SyntheticDatasetGenerator.Summary summary = new SyntheticDatasetGenerator(sink).generate(spec);
+        events.publishEvent(new CatalogChangedEvent("chain", null));
+        rollups.rebuild(null, null); // reservations were written with plain JDBC, no change events
+
+        log.info("Synthetic dataset ready in {} ms: {} chains, {} hotels, {} rooms, {} customers, {} reservations",
+                summary.elapsedMs(), summary.chains(), summary.hotels(), summary.rooms(),
+                summary.customers(), summary.reservations());
+    }
+}
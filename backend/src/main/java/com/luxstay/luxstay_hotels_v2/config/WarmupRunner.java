@@ -0,0 +1,163 @@
+package com.luxstay.luxstay_hotels_v2.config;
+
+import com.luxstay.luxstay_hotels_v2.web.HotelChainController;
+import com.luxstay.luxstay_hotels_v2.web.HotelController;
+import com.luxstay.luxstay_hotels_v2.web.RoomController;
+import com.luxstay.luxstay_hotels_v2.web.SearchController;
+import com.luxstay.luxstay_hotels_v2.web.dto.HotelDtos;
+import com.luxstay.luxstay_hotels_v2.web.dto.RoomDtos;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Synthetic read traffic before the node reports ready.
+ *
+ * Boot only publishes ReadinessState.ACCEPTING_TRAFFIC after every ApplicationRunner has returned,
+ * so while this runs /api/v2/health (liveness) answers but /api/v2/ready and
+ * /actuator/health/readiness don't. The traffic goes through the controllers, so it warms:
+ * - the room listing snapshots (all rooms + per city) and the hotel / chain listings
+ * - RoomService.available over realistic date ranges, filling the availability cache
+ * - the nightly rate grid (built by the first price-sorted search), the text search and suggestion indexes
+ * - RoomDtos mapping and Jackson serialization of the results
+ * - every pool connection, by running `threads` queries in parallel
+ *
+ * Stops after `iterations` availability queries or `duration`, whichever comes first.
+ * A failure (e.g. database down) is logged and the node still becomes ready.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@ConditionalOnProperty(name = "luxstay.warmup.enabled", havingValue = "true", matchIfMissing = true)
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmupRunner.class);
+
+    private static final int MAX_CITIES = 50;
+
+    private final RoomController rooms;
+    private final HotelController hotels;
+    private final HotelChainController chains;
+    private final SearchController search;
+    private final ObjectMapper mapper;
+    private final Duration duration;
+    private final int iterations;
+    private final int threads;
+
+    public WarmupRunner(RoomController rooms,
+                        HotelController hotels,
+                        HotelChainController chains,
+                        SearchController search,
+                        ObjectMapper mapper,
+                        @Value("${luxstay.warmup.duration:20s}") Duration duration,
+                        @Value("${luxstay.warmup.iterations:5000}") int iterations,
+                        @Value("${luxstay.warmup.threads:10}") int threads) {
+        this.rooms = rooms;
+        this.hotels = hotels;
+        this.chains = chains;
+        this.search = search;
+        this.mapper = mapper;
+        this.duration = duration;
+        this.iterations = iterations;
+        this.threads = Math.max(1, threads);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long started = System.nanoTime();
+        long deadline = started + duration.toNanos();
+        AtomicInteger queries = new AtomicInteger();
+
+        try {
+            List<String> cities = listings();
+            availability(cities, deadline, queries);
+            log.info("Warm-up done in {} ms: {} listings, {} availability queries on {} threads",
+                    elapsedMs(started), cities.size() + 3, queries.get(), threads);
+        } catch (RuntimeException e) {
+            log.warn("Warm-up aborted after {} ms ({} availability queries): {}",
+                    elapsedMs(started), queries.get(), e.toString());
+        }
+    }
+
+    /**
+     * Builds the listing snapshots real clients hit first and runs a text search / suggestion per city;
+     * returns the cities used for searches.
+     */
+    private List<String> listings() {
+        mapper.writeValueAsBytes(chains.list());
+        List<HotelDtos.Response> allHotels = hotels.list(null, null);
+        mapper.writeValueAsBytes(allHotels);
+
+        rooms.list(null, null, null, "gzip", null);
+
+        List<String> cities = allHotels.stream()
+                .map(HotelDtos.Response::city)
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .distinct()
+                .limit(MAX_CITIES)
+                .toList();
+        for (String city : cities) {
+            rooms.list(null, city, null, "gzip", null);
+            mapper.writeValueAsBytes(search.search(city, null, null, null, null, null));
+            mapper.writeValueAsBytes(search.suggest(city.substring(0, Math.min(3, city.length())), null, null));
+        }
+        return cities;
+    }
+
+    /**
+     * Same shape as search traffic: stays starting within 60 days, 1-7 nights, optional city / capacity.
+     */
+    private void availability(List<String> cities, long deadline, AtomicInteger queries) {
+        LocalDate today = LocalDate.now();
+        AtomicInteger claimed = new AtomicInteger();
+        List<Future<?>> workers = new ArrayList<>(threads);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                SplittableRandom rnd = new SplittableRandom(t);
+                workers.add(executor.submit(() -> {
+                    while (System.nanoTime() < deadline && claimed.getAndIncrement() < iterations) {
+                        LocalDate start = today.plusDays(rnd.nextInt(60));
+                        LocalDate end = start.plusDays(1 + rnd.nextInt(7));
+                        String city = cities.isEmpty() || rnd.nextBoolean() ? null : cities.get(rnd.nextInt(cities.size()));
+                        Integer capacity = rnd.nextInt(3) == 0 ? null : 1 + rnd.nextInt(4);
+
+                        String sort = rnd.nextInt(4) == 0 ? "price" : null;
+                        List<RoomDtos.Available> found = rooms.available(start, end, null, city, null, capacity, null, sort);
+                        mapper.writeValueAsBytes(found);
+                        queries.incrementAndGet();
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) worker.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException re ? re : new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Warm-up interrupted", e);
+        }
+    }
+
+    private static long elapsedMs(long startedNanos) {
+        return (System.nanoTime() - startedNanos) / 1_000_000;
+    }
+}
@@ -6,7 +6,13 @@ import lombok.*;
 import java.util.List;
 
 @Entity
-@Table(name = "hotel")
+@Table(
+        name = "hotel",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uq_hotel_chain_name_address",
+                columnNames = {"chain_id", "name", "address"}
+        )
+)
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -3,6 +3,7 @@ package com.luxstay.luxstay_hotels_v2.domain;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.Check;
+import org.hibernate.annotations.PartitionKey;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -26,11 +27,22 @@ import java.time.LocalDateTime;
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public class Reservation {
 
+    /**
+     * Longest stay accepted (also a CHECK constraint). Partitioning relies on it: anything that
+     * overlaps [start, end) must start after start - MAX_NIGHTS, which bounds the partitions to scan.
+     */
+    public static final int MAX_NIGHTS = 365;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @EqualsAndHashCode.Include
     private Long id;
 
+    /**
+     * The table is partitioned by month of start_date: @PartitionKey adds it to the WHERE clause of
+     * Hibernate's UPDATE / DELETE so they hit one partition instead of probing every one by id.
+     */
+    @PartitionKey
     @Column(name = "start_date", nullable = false)
     private LocalDate startDate;
 
@@ -0,0 +1,92 @@
+package com.luxstay.luxstay_hotels_v2.domain.repo;
+
+import com.luxstay.luxstay_hotels_v2.domain.Reservation;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Read-only JDBC queries behind the occupancy / revenue analytics.
+ * Rows are handed over as primitives straight from the ResultSet; no entity is materialized.
+ */
+@Repository
+public class AnalyticsRepository {
+
+    private static final String INVENTORY = """
+        select h.id, h.name, c.id, c.name, count(rm.id)
+        from hotel h
+        join hotel_chain c on c.id = h.chain_id
+        left join room rm on rm.hotel_id = h.id
+        where (cast(? as bigint) is null or h.id = ?)
+          and (cast(? as bigint) is null or h.chain_id = ?)
+        group by h.id, h.name, c.id, c.name
+        order by h.id
+    """;
+
+    // start_date bounded on both sides so only the partitions for the range are scanned (see ReservationRepository)
+    private static final String STAYS = """
+        select rm.hotel_id, r.start_date, r.end_date, rm.price
+        from reservation r
+        join room rm on rm.id = r.room_id
+        join hotel h on h.id = rm.hotel_id
+        where upper(r.status) <> 'CANCELLED'
+          and r.start_date > ?
+          and r.start_date < ?
+          and r.end_date > ?
+          and (cast(? as bigint) is null or rm.hotel_id = ?)
+          and (cast(? as bigint) is null or h.chain_id = ?)
+    """;
+
+    public record HotelInventory(long hotelId, String hotelName, long chainId, String chainName, int rooms) {}
+
+    @FunctionalInterface
+    public interface StayHandler {
+        /**
+         * @param priceCents Room.price in cents
+         */
+        void stay(long hotelId, LocalDate start, LocalDate end, long priceCents);
+    }
+
+    private final JdbcTemplate jdbc;
+
+    public AnalyticsRepository(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * Hotels with their current room count, optionally one hotel / one chain.
+     */
+    public List<HotelInventory> findInventory(Long hotelId, Long chainId) {
+        return jdbc.query(INVENTORY, (rs, i) -> new HotelInventory(
+                        rs.getLong(1), rs.getString(2), rs.getLong(3), rs.getString(4), rs.getInt(5)),
+                hotelId, hotelId, chainId, chainId);
+    }
+
+    /**
+     * Streams every non-cancelled stay overlapping [from, to). Must run inside a transaction,
+     * otherwise the PostgreSQL driver ignores the fetch size and buffers the whole result.
+     */
+    public void streamStays(LocalDate from, LocalDate to, Long hotelId, Long chainId, StayHandler handler) {
+        jdbc.query(con -> {
+            PreparedStatement ps = con.prepareStatement(STAYS);
+            ps.setFetchSize(5_000);
+            ps.setDate(1, Date.valueOf(from.minusDays(Reservation.MAX_NIGHTS)));
+            ps.setDate(2, Date.valueOf(to));
+            ps.setDate(3, Date.valueOf(from));
+            ps.setObject(4, hotelId, Types.BIGINT);
+            ps.setObject(5, hotelId, Types.BIGINT);
+            ps.setObject(6, chainId, Types.BIGINT);
+            ps.setObject(7, chainId, Types.BIGINT);
+            return ps;
+        }, rs -> handler.stay(
+                rs.getLong(1),
+                rs.getDate(2).toLocalDate(),
+                rs.getDate(3).toLocalDate(),
+                rs.getBigDecimal(4).movePointRight(2).longValueExact()));
+    }
+}
@@ -0,0 +1,102 @@
+package com.luxstay.luxstay_hotels_v2.domain.repo;
+
+import com.luxstay.luxstay_hotels_v2.domain.Hotel;
+import com.luxstay.luxstay_hotels_v2.domain.Room;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Set-based JDBC writes for catalog imports.
+ * Bypasses the persistence context on purpose: one INSERT per chunk (the rows as arrays, unnested)
+ * instead of one persist + flush per entity. Being a single statement, its update count is exactly
+ * the rows inserted, with conflicting rows skipped. Callers publish CatalogChangedEvent themselves.
+ */
+@Repository
+public class CatalogBulkRepository {
+
+    // (chain_id, name, address) is unique -> re-importing the same file is a no-op
+    private static final String INSERT_HOTELS = """
+        insert into hotel (chain_id, name, address, city, email, rating, image_url)
+        select * from unnest(cast(? as bigint[]), cast(? as varchar[]), cast(? as varchar[]), cast(? as varchar[]),
+                             cast(? as varchar[]), cast(? as integer[]), cast(? as varchar[]))
+        on conflict (chain_id, name, address) do nothing
+    """;
+
+    // (hotel_id, room_number) is unique -> re-importing the same file is a no-op
+    private static final String INSERT_ROOMS = """
+        insert into room (hotel_id, room_number, price, capacity, extendable, amenities, problems_and_damages, image_url)
+        select * from unnest(cast(? as bigint[]), cast(? as integer[]), cast(? as numeric[]), cast(? as integer[]),
+                             cast(? as boolean[]), cast(? as varchar[]), cast(? as varchar[]), cast(? as varchar[]))
+        on conflict (hotel_id, room_number) do nothing
+    """;
+
+    private final JdbcTemplate jdbc;
+
+    public CatalogBulkRepository(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    public Set<Long> findChainIds() {
+        return new HashSet<>(jdbc.queryForList("select id from hotel_chain", Long.class));
+    }
+
+    public Set<Long> findHotelIds() {
+        return new HashSet<>(jdbc.queryForList("select id from hotel", Long.class));
+    }
+
+    public long countHotels() {
+        Long n = jdbc.queryForObject("select count(*) from hotel", Long.class);
+        return n == null ? 0 : n;
+    }
+
+    /**
+     * Hotels must carry a chain with its id set.
+     * @return rows actually inserted (hotels already present with the same chain, name and address are skipped)
+     */
+    public int insertHotels(List<Hotel> hotels) {
+        if (hotels.isEmpty()) return 0;
+        return jdbc.update(con -> {
+            PreparedStatement ps = con.prepareStatement(INSERT_HOTELS);
+            ps.setArray(1, con.createArrayOf("bigint", column(hotels, h -> h.getChain().getId())));
+            ps.setArray(2, con.createArrayOf("varchar", column(hotels, Hotel::getName)));
+            ps.setArray(3, con.createArrayOf("varchar", column(hotels, Hotel::getAddress)));
+            ps.setArray(4, con.createArrayOf("varchar", column(hotels, Hotel::getCity)));
+            ps.setArray(5, con.createArrayOf("varchar", column(hotels, Hotel::getEmail)));
+            ps.setArray(6, con.createArrayOf("integer", column(hotels, Hotel::getRating)));
+            ps.setArray(7, con.createArrayOf("varchar", column(hotels, Hotel::getImageUrl)));
+            return ps;
+        });
+    }
+
+    /**
+     * Rooms must carry a hotel with its id set.
+     * @return rows actually inserted (conflicting room numbers are skipped)
+     */
+    public int insertRooms(List<Room> rooms) {
+        if (rooms.isEmpty()) return 0;
+        return jdbc.update(con -> {
+            PreparedStatement ps = con.prepareStatement(INSERT_ROOMS);
+            ps.setArray(1, con.createArrayOf("bigint", column(rooms, r -> r.getHotel().getId())));
+            ps.setArray(2, con.createArrayOf("integer", column(rooms, Room::getRoomNumber)));
+            ps.setArray(3, con.createArrayOf("numeric", column(rooms, Room::getPrice)));
+            ps.setArray(4, con.createArrayOf("integer", column(rooms, Room::getCapacity)));
+            ps.setArray(5, con.createArrayOf("boolean", column(rooms, Room::getExtendable)));
+            ps.setArray(6, con.createArrayOf("varchar", column(rooms, Room::getAmenities)));
+            ps.setArray(7, con.createArrayOf("varchar", column(rooms, Room::getProblemsAndDamages)));
+            ps.setArray(8, con.createArrayOf("varchar", column(rooms, Room::getImageUrl)));
+            return ps;
+        });
+    }
+
+    private static <T> Object[] column(List<T> rows, Function<T, ?> value) {
+        Object[] out = new Object[rows.size()];
+        for (int i = 0; i < out.length; i++) out[i] = value.apply(rows.get(i));
+        return out;
+    }
+}
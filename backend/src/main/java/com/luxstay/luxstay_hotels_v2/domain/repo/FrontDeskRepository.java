@@ -0,0 +1,70 @@
+package com.luxstay.luxstay_hotels_v2.domain.repo;
+
+import com.luxstay.luxstay_hotels_v2.domain.Reservation;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Lean reads for the front desk (no entities, one round trip).
+ */
+@Repository
+public class FrontDeskRepository {
+
+    /*
+     * Non-cancelled stays of one room never overlap, so the only stays touching `day` are the latest
+     * one starting on or before it (arrival or in-house) and the one before that (departing that day).
+     * Per room that's a backward scan of at most 2 entries on idx_reservation_active_room_dates
+     * (same predicate as the partial index); the start_date lower bound keeps pruning to ~13 partitions.
+     */
+    private static final String DAY_VIEW = """
+        select r.id, rm.id, rm.room_number, c.full_name, r.start_date, r.end_date, r.payment_status,
+               r.checked_in_at is not null, r.checked_out_at is not null
+        from room rm
+        cross join lateral (
+            select x.id, x.customer_id, x.start_date, x.end_date, x.payment_status, x.checked_in_at, x.checked_out_at
+            from reservation x
+            where x.room_id = rm.id
+              and upper(x.status) <> 'CANCELLED'
+              and x.start_date <= ?
+              and x.start_date > ?
+            order by x.start_date desc
+            limit 2
+        ) r
+        join customer c on c.id = r.customer_id
+        where rm.hotel_id = ?
+          and r.end_date >= ?
+        order by rm.room_number, r.start_date
+    """;
+
+    public record DayRow(long reservationId, long roomId, int roomNumber, String guestName,
+                         LocalDate startDate, LocalDate endDate, String paymentStatus,
+                         boolean checkedIn, boolean checkedOut) {}
+
+    private final JdbcTemplate jdbc;
+
+    public FrontDeskRepository(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * Stays of the hotel that arrive on, leave on, or span `day`, ordered by room number.
+     */
+    public List<DayRow> findDayRows(long hotelId, LocalDate day) {
+        Date d = Date.valueOf(day);
+        return jdbc.query(DAY_VIEW, (rs, i) -> new DayRow(
+                        rs.getLong(1),
+                        rs.getLong(2),
+                        rs.getInt(3),
+                        rs.getString(4),
+                        rs.getDate(5).toLocalDate(),
+                        rs.getDate(6).toLocalDate(),
+                        rs.getString(7),
+                        rs.getBoolean(8),
+                        rs.getBoolean(9)),
+                d, Date.valueOf(day.minusDays(Reservation.MAX_NIGHTS)), hotelId, d);
+    }
+}
@@ -0,0 +1,51 @@
+package com.luxstay.luxstay_hotels_v2.domain.repo;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+/**
+ * Inputs of the nightly rate grid, read as primitives (see RateGridService).
+ */
+@Repository
+public class RateRepository {
+
+    @FunctionalInterface
+    public interface RoomPriceHandler {
+        void room(long roomId, long hotelId, long priceCents);
+    }
+
+    @FunctionalInterface
+    public interface HotelNightHandler {
+        void night(long hotelId, LocalDate day, long nightsSold);
+    }
+
+    private final JdbcTemplate jdbc;
+
+    public RateRepository(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * Every room, ordered by id.
+     */
+    public void findRoomPrices(RoomPriceHandler handler) {
+        jdbc.query("select id, hotel_id, price from room order by id", rs -> handler.room(
+                rs.getLong(1), rs.getLong(2), rs.getBigDecimal(3).movePointRight(2).longValueExact()));
+    }
+
+    /**
+     * Room-nights sold per hotel and night in [from, to), from reservation_daily_rollup.
+     */
+    public void findNightsSold(LocalDate from, LocalDate to, HotelNightHandler handler) {
+        jdbc.query("""
+            select hotel_id, day, sum(nights_sold)
+            from reservation_daily_rollup
+            where day >= ? and day < ?
+            group by hotel_id, day
+        """, rs -> handler.night(rs.getLong(1), rs.getDate(2).toLocalDate(), rs.getLong(3)),
+                Date.valueOf(from), Date.valueOf(to));
+    }
+}
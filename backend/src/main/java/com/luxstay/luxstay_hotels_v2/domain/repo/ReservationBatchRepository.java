@@ -0,0 +1,116 @@
+package com.luxstay.luxstay_hotels_v2.domain.repo;
+
+import com.luxstay.luxstay_hotels_v2.domain.Reservation;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Set-based front-desk updates: one statement for any number of reservations.
+ * Bypasses the persistence context; the columns touched here (check-in / check-out times,
+ * ACTIVE -> COMPLETED) don't change availability or the daily rollup, so no change events are needed.
+ */
+@Repository
+public class ReservationBatchRepository {
+
+    public record Snapshot(long id, String status, LocalDate startDate, LocalDate endDate,
+                           LocalDateTime checkedInAt, LocalDateTime checkedOutAt) {}
+
+    private final JdbcTemplate jdbc;
+
+    public ReservationBatchRepository(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * Current state of the given reservations, row-locked until the transaction ends.
+     */
+    public List<Snapshot> lockAll(Collection<Long> ids) {
+        return jdbc.query(con -> {
+            var ps = con.prepareStatement("""
+                select id, status, start_date, end_date, checked_in_at, checked_out_at
+                from reservation
+                where id = any(?)
+                order by id
+                for update
+            """);
+            ps.setArray(1, con.createArrayOf("bigint", ids.toArray()));
+            return ps;
+        }, (rs, i) -> new Snapshot(
+                rs.getLong(1),
+                rs.getString(2),
+                rs.getDate(3).toLocalDate(),
+                rs.getDate(4).toLocalDate(),
+                toLocalDateTime(rs.getTimestamp(5)),
+                toLocalDateTime(rs.getTimestamp(6))));
+    }
+
+    public int checkIn(Collection<Long> ids, LocalDateTime at) {
+        return update("update reservation set checked_in_at = ?, updated_at = ? where id = any(?)", ids, at);
+    }
+
+    public int checkOut(Collection<Long> ids, LocalDateTime at) {
+        return update("update reservation set checked_out_at = ?, updated_at = ? where id = any(?)", ids, at);
+    }
+
+    /**
+     * ACTIVE -> COMPLETED; guests still checked in are checked out at `at`.
+     */
+    public int complete(Collection<Long> ids, LocalDateTime at) {
+        return update("""
+            update reservation
+            set status = 'COMPLETED',
+                checked_out_at = case when checked_in_at is not null and checked_out_at is null
+                                      then cast(? as timestamp) else checked_out_at end,
+                updated_at = ?
+            where id = any(?)
+        """, ids, at);
+    }
+
+    /**
+     * ACTIVE stays whose departure day is on or before `day`, oldest first
+     * (status is stored upper-case, see the CHECK; start_date < day lets the planner prune newer partitions).
+     */
+    public List<Long> findEndedActive(LocalDate day, int limit) {
+        return jdbc.queryForList("""
+            select id from reservation
+            where status = 'ACTIVE' and end_date <= ? and start_date < ?
+            order by end_date, id
+            limit ?
+        """, Long.class, Date.valueOf(day), Date.valueOf(day), limit);
+    }
+
+    /**
+     * ACTIVE stays that should be in-house the night of `day` (arrived on or before it) but never checked in.
+     */
+    public long countNoShows(LocalDate day) {
+        Long n = jdbc.queryForObject("""
+            select count(*) from reservation
+            where status = 'ACTIVE' and checked_in_at is null
+              and start_date <= ? and start_date > ? and end_date > ?
+        """, Long.class, Date.valueOf(day), Date.valueOf(day.minusDays(Reservation.MAX_NIGHTS)), Date.valueOf(day));
+        return n == null ? 0 : n;
+    }
+
+    private int update(String sql, Collection<Long> ids, LocalDateTime at) {
+        if (ids.isEmpty()) return 0;
+        Timestamp ts = Timestamp.valueOf(at);
+        return jdbc.update(con -> {
+            var ps = con.prepareStatement(sql);
+            ps.setTimestamp(1, ts);
+            ps.setTimestamp(2, ts);
+            ps.setArray(3, con.createArrayOf("bigint", ids.toArray()));
+            return ps;
+        });
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp ts) {
+        return ts == null ? null : ts.toLocalDateTime();
+    }
+}
@@ -0,0 +1,150 @@
+package com.luxstay.luxstay_hotels_v2.domain.repo;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * DDL and bulk reads on the monthly partitions of reservation (see V3__partition_reservations.sql).
+ * Partition names are validated before they're spliced into SQL; everything else is a bind parameter.
+ */
+@Repository
+public class ReservationPartitionRepository {
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("reservation_p\\d{4}_\\d{2}");
+
+    /** Column order of the archive files. */
+    public static final List<String> COLUMNS = List.of(
+            "id", "room_id", "customer_id", "start_date", "end_date", "status", "payment_status",
+            "checked_in_at", "checked_out_at", "notes", "cancelled_at", "created_at", "updated_at");
+
+    private static final String LIST_PARTITIONS = """
+        select c.relname
+        from pg_inherits i
+        join pg_class c on c.oid = i.inhrelid
+        where i.inhparent = 'reservation'::regclass
+          and c.relname ~ '^reservation_p[0-9]{4}_[0-9]{2}$'
+        order by c.relname
+    """;
+
+    public record Partition(String name, LocalDate month) {
+
+        public LocalDate nextMonth() {
+            return month.plusMonths(1);
+        }
+    }
+
+    private final JdbcTemplate jdbc;
+
+    public ReservationPartitionRepository(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * Creates the missing monthly partitions in [fromMonth, toMonth).
+     * @return partitions created
+     */
+    public int ensurePartitions(LocalDate fromMonth, LocalDate toMonth) {
+        Integer created = jdbc.queryForObject(
+                "select luxstay_ensure_reservation_partitions(?, ?)",
+                Integer.class, Date.valueOf(fromMonth), Date.valueOf(toMonth));
+        return created == null ? 0 : created;
+    }
+
+    /**
+     * Earliest stay that fell into the default partition (no monthly partition existed for it), if any.
+     */
+    public LocalDate findEarliestUnpartitionedStart() {
+        Date d = jdbc.queryForObject("select min(start_date) from reservation_default", Date.class);
+        return d == null ? null : d.toLocalDate();
+    }
+
+    /**
+     * Monthly partitions, oldest first.
+     */
+    public List<Partition> findPartitions() {
+        return jdbc.queryForList(LIST_PARTITIONS, String.class).stream()
+                .map(name -> new Partition(name, LocalDate.of(
+                        Integer.parseInt(name.substring(13, 17)), Integer.parseInt(name.substring(18, 20)), 1)))
+                .toList();
+    }
+
+    /**
+     * Stays that still count as ACTIVE (not cancelled, not yet ended): such a partition can't be archived.
+     */
+    public long countOpenStays(Partition p, LocalDate today) {
+        Long n = jdbc.queryForObject(
+                "select count(*) from " + table(p) + " where upper(status) = 'ACTIVE' and end_date >= ?",
+                Long.class, Date.valueOf(today));
+        return n == null ? 0 : n;
+    }
+
+    /**
+     * Blocks writes to the partition until the surrounding transaction ends (reads still go through).
+     */
+    public void lockForExport(Partition p) {
+        jdbc.execute("lock table " + table(p) + " in share mode");
+    }
+
+    public long count(Partition p) {
+        Long n = jdbc.queryForObject("select count(*) from " + table(p), Long.class);
+        return n == null ? 0 : n;
+    }
+
+    /**
+     * Streams every row of the partition in COLUMNS order, ordered by id.
+     */
+    public void scan(Partition p, RowCallbackHandler handler) {
+        jdbc.query(con -> {
+            var ps = con.prepareStatement("select " + String.join(", ", COLUMNS) + " from " + table(p) + " order by id");
+            ps.setFetchSize(1_000); // PostgreSQL only uses a cursor inside a transaction (see the caller)
+            return ps;
+        }, handler);
+    }
+
+    /**
+     * Logs the partition in reservation_archive (see V7__reservation_archive_log.sql).
+     * Run right before detachAndDrop, in the same transaction.
+     */
+    public void recordArchived(Partition p, long reservations) {
+        jdbc.update("insert into reservation_archive (month, reservations, last_end_date) "
+                        + "select ?, ?, max(end_date) from " + table(p) + " "
+                        + "on conflict (month) do update set reservations = excluded.reservations, "
+                        + "last_end_date = excluded.last_end_date, archived_at = now()",
+                Date.valueOf(p.month()), reservations);
+    }
+
+    /**
+     * First day without nights of any archived stay (exclusive end of the latest one), or null if nothing was archived.
+     */
+    public LocalDate findArchivedThrough() {
+        Date d = jdbc.queryForObject("select max(last_end_date) from reservation_archive", Date.class);
+        return d == null ? null : d.toLocalDate();
+    }
+
+    public boolean isArchived(LocalDate month) {
+        Boolean found = jdbc.queryForObject("select exists (select 1 from reservation_archive where month = ?)",
+                Boolean.class, Date.valueOf(month));
+        return Boolean.TRUE.equals(found);
+    }
+
+    /**
+     * Takes the partition out of reservation and drops it. Run in a transaction with the row count check.
+     */
+    public void detachAndDrop(Partition p) {
+        jdbc.execute("alter table reservation detach partition " + table(p));
+        jdbc.execute("drop table " + table(p));
+    }
+
+    private static String table(Partition p) {
+        if (!PARTITION_NAME.matcher(p.name()).matches()) {
+            throw new IllegalArgumentException("Not a reservation partition: " + p.name());
+        }
+        return p.name();
+    }
+}
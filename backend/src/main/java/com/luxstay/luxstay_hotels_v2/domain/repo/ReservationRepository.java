@@ -16,12 +16,25 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
      *   reqStart < existingEnd AND reqEnd > existingStart
      *
      * We ignore CANCELLED reservations.
+     *
+     * Partition pruning: the table is partitioned by start_date, so every range query also bounds
+     * r.startDate on both sides. A stay is at most Reservation.MAX_NIGHTS long, hence anything
+     * overlapping [start, end) starts in (start - MAX_NIGHTS, end). The default methods add that bound.
      */
+    default boolean existsOverlappingReservation(Long roomId,
+                                                 LocalDate startDate,
+                                                 LocalDate endDate,
+                                                 Long excludeReservationId) {
+        return existsOverlappingReservation(roomId, startDate, endDate, earliestOverlappingStart(startDate),
+                excludeReservationId);
+    }
+
     @Query("""
         select (count(r) > 0)
         from Reservation r
         where r.room.id = :roomId
           and upper(r.status) <> 'CANCELLED'
+          and r.startDate > :earliestStart
           and :startDate < r.endDate
           and :endDate > r.startDate
           and (:excludeReservationId is null or r.id <> :excludeReservationId)
@@ -30,6 +43,7 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
             @Param("roomId") Long roomId,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate,
+            @Param("earliestStart") LocalDate earliestStart,
             @Param("excludeReservationId") Long excludeReservationId
     );
 
@@ -37,11 +51,20 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
      * Fetch conflicts (for detailed 409 error message).
      * Same rule as existsOverlappingReservation but returns the reservations.
      */
+    default List<Reservation> findOverlappingReservations(Long roomId,
+                                                          LocalDate startDate,
+                                                          LocalDate endDate,
+                                                          Long excludeReservationId) {
+        return findOverlappingReservations(roomId, startDate, endDate, earliestOverlappingStart(startDate),
+                excludeReservationId);
+    }
+
     @Query("""
         select r
         from Reservation r
         where r.room.id = :roomId
           and upper(r.status) <> 'CANCELLED'
+          and r.startDate > :earliestStart
           and r.startDate < :endDate
           and r.endDate > :startDate
           and (:excludeReservationId is null or r.id <> :excludeReservationId)
@@ -51,6 +74,7 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
             @Param("roomId") Long roomId,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate,
+            @Param("earliestStart") LocalDate earliestStart,
             @Param("excludeReservationId") Long excludeReservationId
     );
 
@@ -78,6 +102,7 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
           and (:status is null or r.status = :status)
           and (:paymentStatus is null or r.paymentStatus = :paymentStatus)
           and r.startDate >= :fromDate
+          and r.startDate < :toDate
           and r.endDate <= :toDate
         order by r.createdAt desc
     """)
@@ -90,15 +115,25 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
             @Param("toDate") LocalDate toDate
     );
 
+    default List<Long> findBookedRoomIdsInRange(LocalDate startDate, LocalDate endDate) {
+        return findBookedRoomIdsInRange(startDate, endDate, earliestOverlappingStart(startDate));
+    }
+
     @Query("""
         select distinct r.room.id
         from Reservation r
         where upper(r.status) <> 'CANCELLED'
+          and r.startDate > :earliestStart
           and :startDate < r.endDate
           and :endDate > r.startDate
     """)
     List<Long> findBookedRoomIdsInRange(
             @Param("startDate") LocalDate startDate,
-            @Param("endDate") LocalDate endDate
+            @Param("endDate") LocalDate endDate,
+            @Param("earliestStart") LocalDate earliestStart
     );
+
+    private static LocalDate earliestOverlappingStart(LocalDate startDate) {
+        return startDate.minusDays(Reservation.MAX_NIGHTS);
+    }
 }
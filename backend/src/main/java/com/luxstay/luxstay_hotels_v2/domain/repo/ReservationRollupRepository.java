@@ -0,0 +1,144 @@
+package com.luxstay.luxstay_hotels_v2.domain.repo;
+
+import com.luxstay.luxstay_hotels_v2.domain.Reservation;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * reservation_daily_rollup (see V4__reservation_daily_rollup.sql): one row per room and night.
+ * Writes are additive upserts, so concurrent changes on different reservations never overwrite each other.
+ */
+@Repository
+public class ReservationRollupRepository {
+
+    // Rows are touched in (room_id, day) order so two transactions can't deadlock on them
+    private static final String ADD_NIGHTS = """
+        insert into reservation_daily_rollup as t (room_id, day, hotel_id, nights_sold, revenue, paid_revenue, cancellations)
+        select ?, d::date, ?, ?, ?, ?, 0
+        from generate_series(cast(? as timestamp), cast(? as timestamp), interval '1 day') d
+        order by d
+        on conflict (room_id, day) do update set
+            nights_sold  = t.nights_sold + excluded.nights_sold,
+            revenue      = t.revenue + excluded.revenue,
+            paid_revenue = t.paid_revenue + excluded.paid_revenue
+    """;
+
+    private static final String ADD_CANCELLATION = """
+        insert into reservation_daily_rollup as t (room_id, day, hotel_id, cancellations)
+        values (?, ?, ?, ?)
+        on conflict (room_id, day) do update set
+            cancellations = t.cancellations + excluded.cancellations
+    """;
+
+    // Same aggregation as the V4 backfill, restricted to days in [from, to) and optionally one room
+    private static final String REBUILD = """
+        insert into reservation_daily_rollup (room_id, day, hotel_id, nights_sold, revenue, paid_revenue, cancellations)
+        select room_id, day, hotel_id, sum(nights), sum(revenue), sum(paid), sum(cancelled)
+        from (
+            select r.room_id, d::date as day, rm.hotel_id, 1 as nights, rm.price as revenue,
+                   case when upper(r.payment_status) = 'PAID' then rm.price else 0 end as paid, 0 as cancelled
+            from reservation r
+            join room rm on rm.id = r.room_id
+            cross join generate_series(greatest(r.start_date, cast(? as date))::timestamp,
+                                       (least(r.end_date, cast(? as date)) - 1)::timestamp,
+                                       interval '1 day') d
+            where upper(r.status) <> 'CANCELLED'
+              and r.start_date > ?
+              and r.start_date < ?
+              and r.end_date > ?
+              and (cast(? as bigint) is null or r.room_id = ?)
+            union all
+            select r.room_id, r.start_date, rm.hotel_id, 0, 0, 0, 1
+            from reservation r
+            join room rm on rm.id = r.room_id
+            where upper(r.status) = 'CANCELLED'
+              and r.start_date >= ?
+              and r.start_date < ?
+              and (cast(? as bigint) is null or r.room_id = ?)
+        ) x
+        group by room_id, day, hotel_id
+    """;
+
+    private static final String DAILY = """
+        select x.hotel_id, x.day, sum(x.nights_sold), sum(x.revenue), sum(x.paid_revenue), sum(x.cancellations)
+        from reservation_daily_rollup x
+        join hotel h on h.id = x.hotel_id
+        where x.day >= ?
+          and x.day < ?
+          and (cast(? as bigint) is null or x.hotel_id = ?)
+          and (cast(? as bigint) is null or h.chain_id = ?)
+        group by x.hotel_id, x.day
+        order by x.hotel_id, x.day
+    """;
+
+    public record Range(LocalDate from, LocalDate to) {}
+
+    public record HotelDay(long hotelId, LocalDate day, long nightsSold, BigDecimal revenue,
+                           BigDecimal paidRevenue, long cancellations) {}
+
+    private final JdbcTemplate jdbc;
+
+    public ReservationRollupRepository(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * Adds sign x (one night, price, price if paid) to every night of [start, end).
+     */
+    public void addNights(long roomId, long hotelId, LocalDate start, LocalDate end,
+                          BigDecimal price, boolean paid, int sign) {
+        BigDecimal revenue = price.multiply(BigDecimal.valueOf(sign));
+        jdbc.update(ADD_NIGHTS, roomId, hotelId, sign, revenue, paid ? revenue : BigDecimal.ZERO,
+                Date.valueOf(start), Date.valueOf(end.minusDays(1)));
+    }
+
+    public void addCancellation(long roomId, long hotelId, LocalDate day, int sign) {
+        jdbc.update(ADD_CANCELLATION, roomId, Date.valueOf(day), hotelId, sign);
+    }
+
+    /**
+     * Recomputes the days in [from, to) from the reservation table, for one room or (roomId null) all of them.
+     * The SHARE ROW EXCLUSIVE lock holds incremental updates back until commit: a change that
+     * committed earlier is in the rebuild's snapshot, a later one applies its delta on top.
+     * @return rows written
+     */
+    public int rebuild(LocalDate from, LocalDate to, Long roomId) {
+        jdbc.execute("lock table reservation_daily_rollup in share row exclusive mode");
+        Date f = Date.valueOf(from);
+        Date t = Date.valueOf(to);
+        jdbc.update("delete from reservation_daily_rollup where day >= ? and day < ? and (cast(? as bigint) is null or room_id = ?)",
+                f, t, roomId, roomId);
+        return jdbc.update(REBUILD, f, t, Date.valueOf(from.minusDays(Reservation.MAX_NIGHTS)), t, f, roomId, roomId,
+                f, t, roomId, roomId);
+    }
+
+    /**
+     * [earliest start, latest end) over all reservations, or null when there are none.
+     */
+    public Range findReservationRange() {
+        return jdbc.queryForObject("select min(start_date), max(end_date) from reservation", (rs, i) -> {
+            Date min = rs.getDate(1);
+            Date max = rs.getDate(2);
+            return min == null ? null : new Range(min.toLocalDate(), max.toLocalDate());
+        });
+    }
+
+    /**
+     * Per hotel and day in [from, to); days without any booking are absent.
+     */
+    public List<HotelDay> findDaily(LocalDate from, LocalDate to, Long hotelId, Long chainId) {
+        return jdbc.query(DAILY, (rs, i) -> new HotelDay(
+                        rs.getLong(1),
+                        rs.getDate(2).toLocalDate(),
+                        rs.getLong(3),
+                        rs.getBigDecimal(4),
+                        rs.getBigDecimal(5),
+                        rs.getLong(6)),
+                Date.valueOf(from), Date.valueOf(to), hotelId, hotelId, chainId, chainId);
+    }
+}
@@ -0,0 +1,71 @@
+package com.luxstay.luxstay_hotels_v2.domain.repo;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Text of every room and its hotel / chain for the search index, and hotel / chain names
+ * for the suggestions (see SearchService).
+ */
+@Repository
+public class SearchRepository {
+
+    @FunctionalInterface
+    public interface RoomTextHandler {
+        void room(long roomId, long hotelId, int capacity, long priceCents,
+                  String hotelName, String address, String city, String chainName, String amenities);
+    }
+
+    @FunctionalInterface
+    public interface HotelHandler {
+        void hotel(long hotelId, String hotelName, String city, long chainId, String chainName, int rooms);
+    }
+
+    private final JdbcTemplate jdbc;
+
+    public SearchRepository(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * Every room, ordered by id.
+     */
+    public void findRoomText(RoomTextHandler handler) {
+        jdbc.query("""
+            select rm.id, h.id, rm.capacity, rm.price, h.name, h.address, h.city, c.name, rm.amenities
+            from room rm
+            join hotel h on h.id = rm.hotel_id
+            join hotel_chain c on c.id = h.chain_id
+            order by rm.id
+        """, rs -> handler.room(
+                rs.getLong(1),
+                rs.getLong(2),
+                rs.getInt(3),
+                rs.getBigDecimal(4).movePointRight(2).longValueExact(),
+                rs.getString(5),
+                rs.getString(6),
+                rs.getString(7),
+                rs.getString(8),
+                rs.getString(9)));
+    }
+
+    /**
+     * Every hotel with its chain and room count, ordered by id.
+     */
+    public void findHotels(HotelHandler handler) {
+        jdbc.query("""
+            select h.id, h.name, h.city, c.id, c.name, count(rm.id)
+            from hotel h
+            join hotel_chain c on c.id = h.chain_id
+            left join room rm on rm.hotel_id = h.id
+            group by h.id, c.id
+            order by h.id
+        """, rs -> handler.hotel(
+                rs.getLong(1),
+                rs.getString(2),
+                rs.getString(3),
+                rs.getLong(4),
+                rs.getString(5),
+                rs.getInt(6)));
+    }
+}
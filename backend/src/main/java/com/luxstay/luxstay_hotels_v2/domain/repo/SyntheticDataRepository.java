@@ -0,0 +1,135 @@
+package com.luxstay.luxstay_hotels_v2.domain.repo;
+
+import com.luxstay.luxstay_hotels_v2.domain.Customer;
+import com.luxstay.luxstay_hotels_v2.domain.Hotel;
+import com.luxstay.luxstay_hotels_v2.domain.HotelChain;
+import com.luxstay.luxstay_hotels_v2.domain.Reservation;
+import com.luxstay.luxstay_hotels_v2.domain.Room;
+import com.luxstay.luxstay_hotels_v2.domain.service.SyntheticDatasetGenerator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC sink for SyntheticDatasetGenerator: wipes the schema, then batch-inserts with explicit ids
+ * and moves the identity sequences past them at the end.
+ *
+ * WARNING: reset() truncates every catalog and booking table.
+ */
+@Repository
+public class SyntheticDataRepository implements SyntheticDatasetGenerator.Sink {
+
+    private final JdbcTemplate jdbc;
+
+    public SyntheticDataRepository(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    public void reset() {
+        jdbc.execute("TRUNCATE TABLE reservation_daily_rollup, reservation, room, hotel, hotel_chain, customer RESTART IDENTITY CASCADE");
+    }
+
+    @Override
+    public void chains(List<HotelChain> batch) {
+        jdbc.batchUpdate("insert into hotel_chain (id, name) values (?, ?)", batch, batch.size(), (ps, c) -> {
+            ps.setLong(1, c.getId());
+            ps.setString(2, c.getName());
+        });
+    }
+
+    @Override
+    public void hotels(List<Hotel> batch) {
+        jdbc.batchUpdate("""
+            insert into hotel (id, chain_id, name, address, city, email, rating, image_url)
+            values (?, ?, ?, ?, ?, ?, ?, ?)
+        """, batch, batch.size(), (ps, h) -> {
+            ps.setLong(1, h.getId());
+            ps.setLong(2, h.getChain().getId());
+            ps.setString(3, h.getName());
+            ps.setString(4, h.getAddress());
+            ps.setString(5, h.getCity());
+            ps.setString(6, h.getEmail());
+            ps.setInt(7, h.getRating());
+            ps.setString(8, h.getImageUrl());
+        });
+    }
+
+    @Override
+    public void rooms(List<Room> batch) {
+        jdbc.batchUpdate("""
+            insert into room (id, hotel_id, room_number, price, capacity, extendable, amenities, problems_and_damages, image_url)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """, batch, batch.size(), (ps, r) -> {
+            ps.setLong(1, r.getId());
+            ps.setLong(2, r.getHotel().getId());
+            ps.setInt(3, r.getRoomNumber());
+            ps.setBigDecimal(4, r.getPrice());
+            ps.setInt(5, r.getCapacity());
+            ps.setBoolean(6, r.getExtendable());
+            ps.setString(7, r.getAmenities());
+            ps.setString(8, r.getProblemsAndDamages());
+            ps.setString(9, r.getImageUrl());
+        });
+    }
+
+    @Override
+    public void customers(List<Customer> batch) {
+        jdbc.batchUpdate("""
+            insert into customer (id, full_name, address, date_of_birth, id_number, id_type, email, registration_date)
+            values (?, ?, ?, ?, ?, ?, ?, ?)
+        """, batch, batch.size(), (ps, c) -> {
+            ps.setLong(1, c.getId());
+            ps.setString(2, c.getFullName());
+            ps.setString(3, c.getAddress());
+            ps.setDate(4, Date.valueOf(c.getDateOfBirth()));
+            ps.setString(5, c.getIdNumber());
+            ps.setString(6, c.getIdType().name());
+            ps.setString(7, c.getEmail());
+            ps.setDate(8, Date.valueOf(c.getRegistrationDate()));
+        });
+    }
+
+    @Override
+    public void reservations(List<Reservation> batch) {
+        jdbc.batchUpdate("""
+            insert into reservation (id, room_id, customer_id, start_date, end_date, status, payment_status,
+                                     checked_in_at, checked_out_at, notes, cancelled_at, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """, batch, batch.size(), (ps, r) -> {
+            ps.setLong(1, r.getId());
+            ps.setLong(2, r.getRoom().getId());
+            ps.setLong(3, r.getCustomer().getId());
+            ps.setDate(4, Date.valueOf(r.getStartDate()));
+            ps.setDate(5, Date.valueOf(r.getEndDate()));
+            ps.setString(6, r.getStatus());
+            ps.setString(7, r.getPaymentStatus());
+            setTimestamp(ps, 8, r.getCheckedInAt());
+            setTimestamp(ps, 9, r.getCheckedOutAt());
+            ps.setString(10, r.getNotes());
+            setTimestamp(ps, 11, r.getCancelledAt());
+            setTimestamp(ps, 12, r.getCreatedAt());
+            setTimestamp(ps, 13, r.getUpdatedAt());
+        });
+    }
+
+    @Override
+    public void finish() {
+        for (String table : List.of("hotel_chain", "hotel", "room", "customer", "reservation")) {
+            jdbc.execute("select setval(pg_get_serial_sequence('" + table + "', 'id'), "
+                    + "coalesce((select max(id) from " + table + "), 0) + 1, false)");
+        }
+        jdbc.execute("analyze hotel_chain, hotel, room, customer, reservation");
+    }
+
+    private static void setTimestamp(java.sql.PreparedStatement ps, int index, LocalDateTime value)
+            throws java.sql.SQLException {
+        if (value == null) ps.setNull(index, Types.TIMESTAMP);
+        else ps.setTimestamp(index, Timestamp.valueOf(value));
+    }
+}
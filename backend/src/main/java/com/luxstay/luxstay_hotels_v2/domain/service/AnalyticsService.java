@@ -0,0 +1,204 @@
+package com.luxstay.luxstay_hotels_v2.domain.service;
+
+import com.luxstay.luxstay_hotels_v2.domain.repo.AnalyticsRepository;
+import com.luxstay.luxstay_hotels_v2.domain.repo.AnalyticsRepository.HotelInventory;
+import com.luxstay.luxstay_hotels_v2.web.dto.AnalyticsDtos;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Occupancy, ADR and RevPAR per hotel or chain and per day.
+ *
+ * One streaming pass over the stays overlapping the range buffers (start, end, price) per hotel as
+ * primitive arrays; each hotel is then reduced on the common fork-join pool (parallel stream) with
+ * difference arrays, so a stay costs O(1) however many nights it has. Chains are summed from their hotels.
+ *
+ * Inventory is the current room count and revenue the current Room.price per night sold,
+ * i.e. rooms added or repriced later are reflected in past days too.
+ */
+@Service
+public class AnalyticsService {
+
+    public static final int MAX_DAYS = 366;
+
+    public enum GroupBy { HOTEL, CHAIN }
+
+    private final AnalyticsRepository analytics;
+
+    public AnalyticsService(AnalyticsRepository analytics) {
+        this.analytics = analytics;
+    }
+
+    /**
+     * @param to exclusive, like reservation end dates
+     */
+    @Transactional(readOnly = true)
+    public AnalyticsDtos.OccupancyReport occupancy(LocalDate from, LocalDate to, GroupBy groupBy, Long hotelId, Long chainId) {
+        if (from == null || to == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "fromDate and toDate are required");
+        }
+        if (!to.isAfter(from)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "toDate must be after fromDate");
+        }
+        int days = (int) Math.min(ChronoUnit.DAYS.between(from, to), Integer.MAX_VALUE);
+        if (days > MAX_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At most " + MAX_DAYS + " days per report");
+        }
+
+        long started = System.nanoTime();
+        Map<Long, HotelInventory> hotels = new LinkedHashMap<>();
+        for (HotelInventory h : analytics.findInventory(hotelId, chainId)) hotels.put(h.hotelId(), h);
+
+        Map<Long, Stays> stays = new HashMap<>();
+        long[] scanned = {0};
+        analytics.streamStays(from, to, hotelId, chainId, (hotel, start, end, priceCents) -> {
+            int s = (int) Math.max(0, ChronoUnit.DAYS.between(from, start));
+            int e = (int) Math.min(days, ChronoUnit.DAYS.between(from, end));
+            stays.computeIfAbsent(hotel, k -> new Stays()).add(s, e, priceCents);
+            scanned[0]++;
+        });
+
+        Map<Long, Totals> perHotel = hotels.keySet().parallelStream()
+                .collect(Collectors.toMap(id -> id, id -> stays.getOrDefault(id, Stays.EMPTY).reduce(days)));
+
+        List<AnalyticsDtos.Series> series = groupBy == GroupBy.CHAIN
+                ? byChain(hotels, perHotel, from, days)
+                : byHotel(hotels, perHotel, from, days);
+
+        return new AnalyticsDtos.OccupancyReport(from, to, groupBy.name(), scanned[0], series,
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private static List<AnalyticsDtos.Series> byHotel(Map<Long, HotelInventory> hotels, Map<Long, Totals> perHotel,
+                                                      LocalDate from, int days) {
+        List<AnalyticsDtos.Series> out = new ArrayList<>(hotels.size());
+        for (HotelInventory h : hotels.values()) {
+            out.add(series(h.hotelId(), h.hotelName(), h.chainId(), h.chainName(), h.rooms(),
+                    perHotel.get(h.hotelId()), from, days));
+        }
+        return out;
+    }
+
+    private static List<AnalyticsDtos.Series> byChain(Map<Long, HotelInventory> hotels, Map<Long, Totals> perHotel,
+                                                      LocalDate from, int days) {
+        Map<Long, HotelInventory> chains = new LinkedHashMap<>();
+        Map<Long, Totals> perChain = new HashMap<>();
+        for (HotelInventory h : hotels.values()) {
+            chains.merge(h.chainId(), h, (a, b) -> new HotelInventory(0, null, a.chainId(), a.chainName(), a.rooms() + b.rooms()));
+            perChain.computeIfAbsent(h.chainId(), k -> new Totals(days)).add(perHotel.get(h.hotelId()));
+        }
+
+        List<AnalyticsDtos.Series> out = new ArrayList<>(chains.size());
+        for (HotelInventory c : chains.values()) {
+            out.add(series(null, null, c.chainId(), c.chainName(), c.rooms(), perChain.get(c.chainId()), from, days));
+        }
+        return out;
+    }
+
+    private static AnalyticsDtos.Series series(Long hotelId, String hotelName, Long chainId, String chainName,
+                                               int rooms, Totals t, LocalDate from, int days) {
+        List<AnalyticsDtos.Metrics> perDay = new ArrayList<>(days);
+        long sold = 0;
+        long cents = 0;
+        for (int d = 0; d < days; d++) {
+            perDay.add(metrics(from.plusDays(d), rooms, t.sold[d], t.cents[d]));
+            sold += t.sold[d];
+            cents += t.cents[d];
+        }
+        AnalyticsDtos.Metrics total = metrics(null, (long) rooms * days, sold, cents);
+        return new AnalyticsDtos.Series(hotelId, hotelName, chainId, chainName, rooms, total, perDay);
+    }
+
+    static AnalyticsDtos.Metrics metrics(LocalDate date, long available, long sold, long cents) {
+        BigDecimal revenue = BigDecimal.valueOf(cents, 2);
+        double occupancy = available == 0 ? 0 : Math.round(10_000.0 * sold / available) / 10_000.0;
+        BigDecimal adr = sold == 0 ? BigDecimal.ZERO.setScale(2) : revenue.divide(BigDecimal.valueOf(sold), 2, RoundingMode.HALF_UP);
+        BigDecimal revpar = available == 0 ? BigDecimal.ZERO.setScale(2)
+                : revenue.divide(BigDecimal.valueOf(available), 2, RoundingMode.HALF_UP);
+        return new AnalyticsDtos.Metrics(date, available, sold, revenue, occupancy, adr, revpar);
+    }
+
+    /**
+     * Stays of one hotel clipped to the range: [start, end) as day offsets, plus the nightly price.
+     */
+    static final class Stays {
+
+        static final Stays EMPTY = new Stays();
+
+        private int[] start = new int[16];
+        private int[] end = new int[16];
+        private long[] cents = new long[16];
+        private int size;
+
+        void add(int s, int e, long priceCents) {
+            if (size == start.length) {
+                start = Arrays.copyOf(start, size * 2);
+                end = Arrays.copyOf(end, size * 2);
+                cents = Arrays.copyOf(cents, size * 2);
+            }
+            start[size] = s;
+            end[size] = e;
+            cents[size] = priceCents;
+            size++;
+        }
+
+        /**
+         * Difference arrays: +1 / +price on the first night, -1 / -price after the last, then a prefix sum.
+         */
+        Totals reduce(int days) {
+            long[] sold = new long[days + 1];
+            long[] revenue = new long[days + 1];
+            for (int i = 0; i < size; i++) {
+                sold[start[i]]++;
+                sold[end[i]]--;
+                revenue[start[i]] += cents[i];
+                revenue[end[i]] -= cents[i];
+            }
+            Totals t = new Totals(days);
+            long s = 0;
+            long r = 0;
+            for (int d = 0; d < days; d++) {
+                s += sold[d];
+                r += revenue[d];
+                t.sold[d] = s;
+                t.cents[d] = r;
+            }
+            return t;
+        }
+    }
+
+    /**
+     * Room-nights sold and revenue in cents, per day of the range.
+     */
+    static final class Totals {
+
+        final long[] sold;
+        final long[] cents;
+
+        Totals(int days) {
+            this.sold = new long[days];
+            this.cents = new long[days];
+        }
+
+        void add(Totals other) {
+            for (int d = 0; d < sold.length; d++) {
+                sold[d] += other.sold[d];
+                cents[d] += other.cents[d];
+            }
+        }
+    }
+}
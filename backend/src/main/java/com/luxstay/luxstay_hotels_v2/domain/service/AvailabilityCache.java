@@ -0,0 +1,191 @@
+package com.luxstay.luxstay_hotels_v2.domain.service;
+
+import com.luxstay.luxstay_hotels_v2.domain.Room;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Cache for RoomService.available(...) keyed by the normalized query.
+ *
+ * Invalidation is date-aware:
+ * - a reservation change only drops entries whose [start, end) overlaps the affected stay
+ *   AND whose filters could include the affected room
+ * - any catalog change drops everything (room facts themselves changed)
+ *
+ * Results computed while an invalidation was in flight are never stored (stamp check),
+ * so a sold room can't be resurrected by a slow search.
+ */
+@Component
+public class AvailabilityCache {
+
+    /**
+     * Normalized search. city/chainName are ILIKE patterns in RoomRepository.searchAvailableRooms,
+     * so case never changes the result and is folded here.
+     */
+    public record Query(
+            LocalDate startDate,
+            LocalDate endDate,
+            Long hotelId,
+            String city,
+            String chainName,
+            Integer capacity,
+            BigDecimal maxPrice
+    ) {
+
+        public static Query of(LocalDate startDate,
+                               LocalDate endDate,
+                               Long hotelId,
+                               String city,
+                               String chainName,
+                               Integer capacity,
+                               BigDecimal maxPrice) {
+            return new Query(
+                    startDate,
+                    endDate,
+                    hotelId,
+                    city == null ? null : city.toLowerCase(Locale.ROOT),
+                    chainName == null ? null : chainName.toLowerCase(Locale.ROOT),
+                    capacity,
+                    maxPrice == null ? null : maxPrice.stripTrailingZeros()
+            );
+        }
+
+        /**
+         * Could a room with these facts appear in this query's result? (ignoring bookings)
+         * Unknown facts count as "yes" — invalidating too much is safe, too little is not.
+         */
+        boolean couldInclude(ReservationChangedEvent.Stay room) {
+            if (hotelId != null && room.hotelId() != null && !hotelId.equals(room.hotelId())) return false;
+            if (city != null && room.city() != null && !ilike(city, room.city())) return false;
+            if (chainName != null && room.chainName() != null && !ilike(chainName, room.chainName())) return false;
+            if (capacity != null && room.capacity() != null && room.capacity() < capacity) return false;
+            if (maxPrice != null && room.price() != null && room.price().compareTo(maxPrice) > 0) return false;
+            return true;
+        }
+
+        private static boolean ilike(String pattern, String value) {
+            String v = value.toLowerCase(Locale.ROOT);
+            if (pattern.indexOf('%') < 0 && pattern.indexOf('_') < 0) return pattern.equals(v);
+
+            StringBuilder regex = new StringBuilder();
+            for (String part : pattern.split("(?=[%_])|(?<=[%_])")) {
+                switch (part) {
+                    case "%" -> regex.append(".*");
+                    case "_" -> regex.append('.');
+                    default -> regex.append(Pattern.quote(part));
+                }
+            }
+            return Pattern.compile(regex.toString(), Pattern.DOTALL).matcher(v).matches();
+        }
+    }
+
+    private record Entry(List<Room> rooms, long expiresAtNanos) {}
+
+    private final ConcurrentHashMap<Query, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    public AvailabilityCache(@Value("${luxstay.availability-cache.ttl:60s}") Duration ttl,
+                             @Value("${luxstay.availability-cache.max-entries:10000}") int maxEntries) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    public List<Room> get(Query query) {
+        Entry e = entries.get(query);
+        if (e != null && e.expiresAtNanos() - System.nanoTime() > 0) {
+            hits.increment();
+            return e.rooms();
+        }
+        if (e != null) entries.remove(query, e);
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Take before querying the database; pass to put(...) afterwards.
+     */
+    public long stamp() {
+        return invalidations.get();
+    }
+
+    public void put(Query query, List<Room> rooms, long stamp) {
+        if (invalidations.get() != stamp) return;
+        if (entries.size() >= maxEntries) purgeExpired();
+        if (entries.size() >= maxEntries) return;
+
+        Entry e = new Entry(List.copyOf(rooms), System.nanoTime() + ttlNanos);
+        entries.put(query, e);
+
+        // An invalidation raced with the put -> drop what we just stored
+        if (invalidations.get() != stamp) entries.remove(query, e);
+    }
+
+    public long hits() { return hits.sum(); }
+    public long misses() { return misses.sum(); }
+    public long evicted() { return evicted.sum(); }
+    public int size() { return entries.size(); }
+
+    // ---------- Invalidation ----------
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        ReservationChangedEvent.Stay before = event.before();
+        ReservationChangedEvent.Stay after = event.after();
+
+        if (sameAvailability(before, after)) return;
+
+        invalidations.incrementAndGet();
+        if (before != null && before.blocksRoom()) invalidate(before);
+        if (after != null && after.blocksRoom()) invalidate(after);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        invalidations.incrementAndGet();
+        evicted.add(entries.size());
+        entries.clear();
+    }
+
+    private void invalidate(ReservationChangedEvent.Stay stay) {
+        entries.keySet().removeIf(q -> {
+            boolean drop = stay.overlaps(q.startDate(), q.endDate()) && q.couldInclude(stay);
+            if (drop) evicted.increment();
+            return drop;
+        });
+    }
+
+    private void purgeExpired() {
+        long now = System.nanoTime();
+        entries.values().removeIf(e -> e.expiresAtNanos() - now <= 0);
+    }
+
+    /**
+     * pay(), notes, check-in timestamps... don't change which rooms are free.
+     */
+    private static boolean sameAvailability(ReservationChangedEvent.Stay a, ReservationChangedEvent.Stay b) {
+        if (a == null || b == null) return false;
+        return a.blocksRoom() == b.blocksRoom()
+                && Objects.equals(a.roomId(), b.roomId())
+                && Objects.equals(a.startDate(), b.startDate())
+                && Objects.equals(a.endDate(), b.endDate());
+    }
+}
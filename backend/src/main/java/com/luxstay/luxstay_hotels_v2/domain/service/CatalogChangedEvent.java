@@ -0,0 +1,10 @@
+package com.luxstay.luxstay_hotels_v2.domain.service;
+
+/**
+ * Published whenever chains, hotels or rooms are created, updated or deleted.
+ * Listeners use it to drop or rebuild anything derived from the catalog.
+ *
+ * entity = "chain" | "hotel" | "room" (id may be null for bulk changes)
+ */
+public record CatalogChangedEvent(String entity, Long id) {
+}
@@ -0,0 +1,316 @@
+package com.luxstay.luxstay_hotels_v2.domain.service;
+
+import com.luxstay.luxstay_hotels_v2.domain.Hotel;
+import com.luxstay.luxstay_hotels_v2.domain.HotelChain;
+import com.luxstay.luxstay_hotels_v2.domain.Room;
+import com.luxstay.luxstay_hotels_v2.domain.repo.CatalogBulkRepository;
+import com.luxstay.luxstay_hotels_v2.web.dto.CatalogDtos;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+/**
+ * Bulk catalog loader for the hotels.csv / rooms.csv formats shipped under data/.
+ *
+ * hotels.csv: chainId,name,address,city,email,rating
+ * rooms.csv:  hotelId,roomNumber,price,capacity,extendable,amenities,problemsAndDamages
+ *
+ * - streams the file (one record in memory at a time + one batch)
+ * - `null` (or empty) means no value
+ * - invalid rows are rejected with their line number, valid rows keep going
+ * - images are assigned per batch, each batch is one INSERT (see CatalogBulkRepository)
+ * - rows already present (same chain + name + address, same hotel + room number) count as skipped
+ *
+ * chainId / hotelId are database ids, so rooms.csv must be loaded after the hotels it points to.
+ */
+@Service
+public class CatalogImportService {
+
+    public static final String HOTELS_CSV = "data/hotels.csv";
+    public static final String ROOMS_CSV = "data/rooms.csv";
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final CatalogBulkRepository bulk;
+    private final HotelImageUrlSelector hotelImages;
+    private final RoomImageUrlSelector roomImages;
+    private final ApplicationEventPublisher events;
+    private final int batchSize;
+
+    public CatalogImportService(CatalogBulkRepository bulk,
+                                HotelImageUrlSelector hotelImages,
+                                RoomImageUrlSelector roomImages,
+                                ApplicationEventPublisher events,
+                                @Value("${luxstay.catalog.import-batch-size:500}") int batchSize) {
+        this.bulk = bulk;
+        this.hotelImages = hotelImages;
+        this.roomImages = roomImages;
+        this.events = events;
+        this.batchSize = batchSize;
+    }
+
+    @Transactional
+    public List<CatalogDtos.ImportReport> importBundled() {
+        return List.of(
+                importHotels(HOTELS_CSV, classpath(HOTELS_CSV)),
+                importRooms(ROOMS_CSV, classpath(ROOMS_CSV))
+        );
+    }
+
+    @Transactional
+    public CatalogDtos.ImportReport importHotels(String source, Reader csv) {
+        Set<Long> chainIds = bulk.findChainIds();
+
+        CatalogDtos.ImportReport report = run(source, csv,
+                List.of("chainId", "name", "address", "city", "email", "rating"),
+                row -> {
+                    Long chainId = row.requiredLong("chainId");
+                    if (!chainIds.contains(chainId)) {
+                        throw new IllegalArgumentException("HotelChain not found: " + chainId);
+                    }
+                    Integer rating = row.optionalInt("rating");
+                    if (rating != null && (rating < 1 || rating > 5)) {
+                        throw new IllegalArgumentException("rating must be between 1 and 5");
+                    }
+                    return Hotel.builder()
+                            .chain(HotelChain.builder().id(chainId).build())
+                            .name(row.requiredText("name", 255))
+                            .address(row.requiredText("address", 255))
+                            .city(row.requiredText("city", 255))
+                            .email(row.optionalText("email", 255))
+                            .rating(rating)
+                            .build();
+                },
+                batch -> {
+                    List<String> urls = hotelImages.nextUrls(batch.size());
+                    for (int i = 0; i < batch.size(); i++) batch.get(i).setImageUrl(urls.get(i));
+                    return bulk.insertHotels(batch);
+                });
+
+        events.publishEvent(new CatalogChangedEvent("hotel", null));
+        return report;
+    }
+
+    @Transactional
+    public CatalogDtos.ImportReport importRooms(String source, Reader csv) {
+        Set<Long> hotelIds = bulk.findHotelIds();
+        Set<String> seen = new HashSet<>();
+
+        CatalogDtos.ImportReport report = run(source, csv,
+                List.of("hotelId", "roomNumber", "price", "capacity", "extendable", "amenities", "problemsAndDamages"),
+                row -> {
+                    Long hotelId = row.requiredLong("hotelId");
+                    if (!hotelIds.contains(hotelId)) {
+                        throw new IllegalArgumentException("Hotel not found: " + hotelId);
+                    }
+                    int roomNumber = row.requiredInt("roomNumber");
+                    if (!seen.add(hotelId + ":" + roomNumber)) {
+                        throw new IllegalArgumentException("Duplicate room " + roomNumber + " for hotel " + hotelId);
+                    }
+
+                    BigDecimal price = row.requiredDecimal("price").setScale(2, RoundingMode.HALF_UP);
+                    if (price.signum() < 0 || price.precision() > 10) {
+                        throw new IllegalArgumentException("price must be between 0.00 and 99999999.99");
+                    }
+                    int capacity = row.requiredInt("capacity");
+                    if (capacity < 1) {
+                        throw new IllegalArgumentException("capacity must be >= 1");
+                    }
+
+                    return Room.builder()
+                            .hotel(Hotel.builder().id(hotelId).build())
+                            .roomNumber(roomNumber)
+                            .price(price)
+                            .capacity(capacity)
+                            .extendable(row.requiredBoolean("extendable"))
+                            .amenities(row.optionalText("amenities", 512))
+                            .problemsAndDamages(row.optionalText("problemsAndDamages", 512))
+                            .build();
+                },
+                batch -> {
+                    List<String> urls = roomImages.nextUrls(batch.size());
+                    for (int i = 0; i < batch.size(); i++) batch.get(i).setImageUrl(urls.get(i));
+                    return bulk.insertRooms(batch);
+                });
+
+        events.publishEvent(new CatalogChangedEvent("room", null));
+        return report;
+    }
+
+    // ---------- Streaming loop ----------
+
+    @FunctionalInterface
+    private interface RowMapper<T> {
+        T map(Row row);
+    }
+
+    private <T> CatalogDtos.ImportReport run(String source,
+                                             Reader csv,
+                                             List<String> columns,
+                                             RowMapper<T> mapper,
+                                             ToIntFunction<List<T>> writer) {
+        long started = System.nanoTime();
+        long rowsRead = 0;
+        long inserted = 0;
+        long rejected = 0;
+        List<CatalogDtos.RowError> errors = new ArrayList<>();
+        List<T> batch = new ArrayList<>(batchSize);
+
+        try (CsvReader reader = new CsvReader(csv)) {
+            Map<String, Integer> header = header(reader.next(), columns);
+
+            List<String> fields;
+            while ((fields = reader.next()) != null) {
+                if (fields.size() == 1 && fields.get(0).isBlank()) continue; // blank line
+
+                rowsRead++;
+                try {
+                    batch.add(mapper.map(new Row(header, fields)));
+                } catch (IllegalArgumentException e) {
+                    rejected++;
+                    if (errors.size() < MAX_REPORTED_ERRORS) {
+                        errors.add(new CatalogDtos.RowError(reader.recordLine(), e.getMessage()));
+                    }
+                }
+
+                if (batch.size() >= batchSize) {
+                    inserted += writer.applyAsInt(batch);
+                    batch.clear();
+                }
+            }
+            inserted += writer.applyAsInt(batch);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not read " + source + ": " + e.getMessage(), e);
+        }
+
+        long elapsedNanos = System.nanoTime() - started;
+        double seconds = Math.max(elapsedNanos, 1) / 1_000_000_000.0;
+
+        return new CatalogDtos.ImportReport(
+                source,
+                rowsRead,
+                inserted,
+                rowsRead - rejected - inserted,
+                rejected,
+                errors,
+                elapsedNanos / 1_000_000,
+                Math.round(rowsRead / seconds * 10) / 10.0
+        );
+    }
+
+    private static Map<String, Integer> header(List<String> fields, List<String> required) {
+        if (fields == null) throw new IllegalArgumentException("CSV is empty");
+
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < fields.size(); i++) index.put(fields.get(i).trim(), i);
+
+        for (String column : required) {
+            if (!index.containsKey(column)) {
+                throw new IllegalArgumentException("CSV header is missing column: " + column);
+            }
+        }
+        return index;
+    }
+
+    private static Reader classpath(String path) {
+        try {
+            return new InputStreamReader(new ClassPathResource(path).getInputStream(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Missing bundled catalog file: " + path, e);
+        }
+    }
+
+    /**
+     * One CSV record, accessed by header name. Validation errors are IllegalArgumentException.
+     */
+    private record Row(Map<String, Integer> header, List<String> fields) {
+
+        String raw(String column) {
+            int i = header.get(column);
+            if (i >= fields.size()) return null;
+
+            String v = fields.get(i).trim();
+            if (v.isEmpty() || v.equalsIgnoreCase("null")) return null;
+
+            // Some exports double-quote text inside the quoted field ("""text""")
+            if (v.length() >= 2 && v.startsWith("\"") && v.endsWith("\"")) {
+                v = v.substring(1, v.length() - 1).trim();
+            }
+            return v.isEmpty() ? null : v;
+        }
+
+        String required(String column) {
+            String v = raw(column);
+            if (v == null) throw new IllegalArgumentException(column + " is required");
+            return v;
+        }
+
+        String requiredText(String column, int maxLength) {
+            return checkLength(column, required(column), maxLength);
+        }
+
+        String optionalText(String column, int maxLength) {
+            String v = raw(column);
+            return v == null ? null : checkLength(column, v, maxLength);
+        }
+
+        Long requiredLong(String column) {
+            try {
+                return Long.parseLong(required(column));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(column + " must be a whole number");
+            }
+        }
+
+        int requiredInt(String column) {
+            try {
+                return Integer.parseInt(required(column));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(column + " must be a whole number");
+            }
+        }
+
+        Integer optionalInt(String column) {
+            return raw(column) == null ? null : requiredInt(column);
+        }
+
+        BigDecimal requiredDecimal(String column) {
+            try {
+                return new BigDecimal(required(column));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(column + " must be a decimal number");
+            }
+        }
+
+        boolean requiredBoolean(String column) {
+            String v = required(column);
+            if (v.equalsIgnoreCase("true")) return true;
+            if (v.equalsIgnoreCase("false")) return false;
+            throw new IllegalArgumentException(column + " must be true or false");
+        }
+
+        private static String checkLength(String column, String v, int maxLength) {
+            if (v.length() > maxLength) {
+                throw new IllegalArgumentException(column + " is longer than " + maxLength + " characters");
+            }
+            return v;
+        }
+    }
+}
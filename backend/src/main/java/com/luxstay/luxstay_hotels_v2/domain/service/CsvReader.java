@@ -0,0 +1,121 @@
+package com.luxstay.luxstay_hotels_v2.domain.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal streaming CSV reader (RFC 4180 flavour used by data/hotels.csv and data/rooms.csv):
+ * - comma separated, one record per line (LF or CRLF)
+ * - fields may be wrapped in double quotes; inside them "" is a literal quote and
+ *   commas / line breaks are kept
+ *
+ * Reads one record at a time from its own buffer, so files of any size stream in constant memory.
+ */
+public final class CsvReader implements Closeable {
+
+    private static final int EOF = -1;
+
+    private final Reader in;
+    private final char[] buf = new char[8192];
+    private int pos;
+    private int len;
+    private int pushback = -2;
+
+    private long line = 1;
+    private long recordLine;
+    private boolean started;
+
+    public CsvReader(Reader in) {
+        this.in = in;
+    }
+
+    /**
+     * @return the next record's fields, or null at end of input
+     */
+    public List<String> next() throws IOException {
+        int c = read();
+        if (!started) {
+            started = true;
+            if (c == '\uFEFF') c = read(); // UTF-8 BOM
+        }
+        if (c == EOF) return null;
+
+        recordLine = line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder(32);
+        boolean inQuotes = false;
+        boolean fieldWasQuoted = false;
+
+        while (true) {
+            if (inQuotes) {
+                if (c == EOF) {
+                    throw new IOException("Unterminated quoted field starting on line " + recordLine);
+                }
+                if (c == '"') {
+                    int n = read();
+                    if (n != '"') {
+                        inQuotes = false;
+                        c = n;
+                        continue;
+                    }
+                }
+                field.append((char) c);
+                c = read();
+                continue;
+            }
+
+            if (c == '"' && field.isEmpty() && !fieldWasQuoted) {
+                inQuotes = true;
+                fieldWasQuoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                fieldWasQuoted = false;
+            } else if (c == '\r' || c == '\n' || c == EOF) {
+                if (c == '\r') {
+                    int n = read();
+                    if (n != '\n') pushback = n;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * 1-based line on which the record last returned by next() started.
+     */
+    public long recordLine() {
+        return recordLine;
+    }
+
+    private int read() throws IOException {
+        if (pushback != -2) {
+            int c = pushback;
+            pushback = -2;
+            return c;
+        }
+        if (pos == len) {
+            len = in.read(buf, 0, buf.length);
+            pos = 0;
+            if (len <= 0) {
+                len = 0;
+                return EOF;
+            }
+        }
+        char c = buf[pos++];
+        if (c == '\n') line++;
+        return c;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
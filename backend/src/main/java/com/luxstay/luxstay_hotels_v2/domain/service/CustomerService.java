@@ -21,10 +21,12 @@ public class CustomerService {
     }
 
 
+    @Transactional(readOnly = true)
     public List<Customer> list() {
         return repo.findAll();
     }
 
+    @Transactional(readOnly = true)
     public Customer get(Long id) {
         return repo.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Customer not found: " + id));
@@ -117,7 +119,7 @@ public class CustomerService {
         }
     }
 
-    private static String normalizeEmail(String email) {
+    static String normalizeEmail(String email) {
         return email.trim().toLowerCase();
     }
 }
@@ -18,6 +18,7 @@ public class EmployeeService {
         this.repo = repo;
     }
 
+    @Transactional(readOnly = true)
     public List<Employee> list(String position) {
         if (position != null && !position.isBlank()) {
             return repo.findByPositionIgnoreCase(position);
@@ -25,6 +26,7 @@ public class EmployeeService {
         return repo.findAll();
     }
 
+    @Transactional(readOnly = true)
     public Employee get(Long id) {
         return repo.findById(id).orElseThrow(() -> new ResourceNotFoundException("Employee not found: " + id));
     }
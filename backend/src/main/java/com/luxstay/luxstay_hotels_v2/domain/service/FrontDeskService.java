@@ -0,0 +1,63 @@
+package com.luxstay.luxstay_hotels_v2.domain.service;
+
+import com.luxstay.luxstay_hotels_v2.domain.repo.FrontDeskRepository;
+import com.luxstay.luxstay_hotels_v2.domain.repo.HotelRepository;
+import com.luxstay.luxstay_hotels_v2.web.dto.FrontDeskDtos;
+import com.luxstay.luxstay_hotels_v2.web.exception.ResourceNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class FrontDeskService {
+
+    private final FrontDeskRepository frontDesk;
+    private final HotelRepository hotels;
+
+    public FrontDeskService(FrontDeskRepository frontDesk, HotelRepository hotels) {
+        this.frontDesk = frontDesk;
+        this.hotels = hotels;
+    }
+
+    /**
+     * Arrivals, departures and stay-overs of one hotel on `date` (today when null).
+     */
+    @Transactional(readOnly = true)
+    public FrontDeskDtos.DayView dayView(Long hotelId, LocalDate date) {
+        if (!hotels.existsById(hotelId)) throw new ResourceNotFoundException("Hotel not found: " + hotelId);
+        LocalDate day = date == null ? LocalDate.now() : date;
+        return classify(hotelId, day, frontDesk.findDayRows(hotelId, day));
+    }
+
+    /**
+     * Arriving (starts on `day`), departing (ends on it), in-house (spans it); rows that don't touch
+     * `day` mean the room is free and are left out (the query doesn't return them in the first place).
+     */
+    static FrontDeskDtos.DayView classify(Long hotelId, LocalDate day, List<FrontDeskRepository.DayRow> rows) {
+        List<FrontDeskDtos.Row> arrivals = new ArrayList<>();
+        List<FrontDeskDtos.Row> departures = new ArrayList<>();
+        List<FrontDeskDtos.Row> inHouse = new ArrayList<>();
+        for (FrontDeskRepository.DayRow r : rows) {
+            if (r.startDate().isAfter(day) || r.endDate().isBefore(day)) continue;
+
+            FrontDeskDtos.Row row = new FrontDeskDtos.Row(
+                    r.reservationId(),
+                    r.roomId(),
+                    r.roomNumber(),
+                    r.guestName(),
+                    r.startDate(),
+                    r.endDate(),
+                    r.paymentStatus() == null ? null : r.paymentStatus().toUpperCase(),
+                    r.checkedIn(),
+                    r.checkedOut()
+            );
+            if (r.startDate().equals(day)) arrivals.add(row);
+            else if (r.endDate().equals(day)) departures.add(row);
+            else inHouse.add(row);
+        }
+        return new FrontDeskDtos.DayView(hotelId, day, arrivals, departures, inHouse);
+    }
+}
@@ -4,6 +4,7 @@ import com.luxstay.luxstay_hotels_v2.domain.HotelChain;
 import com.luxstay.luxstay_hotels_v2.domain.repo.HotelChainRepository;
 import com.luxstay.luxstay_hotels_v2.web.exception.ResourceNotFoundException;
 import jakarta.persistence.EntityManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,35 +16,42 @@ import java.util.List;
 public class HotelChainService {
     private final HotelChainRepository repo;
     private final EntityManager em;
+    private final ApplicationEventPublisher events;
 
-    public HotelChainService(HotelChainRepository repo, EntityManager em) {
+    public HotelChainService(HotelChainRepository repo, EntityManager em, ApplicationEventPublisher events) {
         this.repo = repo;
         this.em = em;
+        this.events = events;
     }
 
+    @Transactional(readOnly = true)
     public List<HotelChain> list() {
         return repo.findAll();
     }
 
+    @Transactional(readOnly = true)
     public HotelChain get(Long id) {
         return repo.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("HotelChain not found: " + id));
     }
 
     public HotelChain create(String name) {
-        HotelChain chain = HotelChain.builder().name(name).build();
-        return repo.save(chain);
+        HotelChain saved = repo.save(HotelChain.builder().name(name).build());
+        events.publishEvent(new CatalogChangedEvent("chain", saved.getId()));
+        return saved;
     }
 
     public HotelChain update(Long id, String name) {
         HotelChain chain = get(id);
         chain.setName(name);
+        events.publishEvent(new CatalogChangedEvent("chain", id));
         return repo.save(chain);
     }
 
     public void delete(Long id) {
         if (!repo.existsById(id)) throw new ResourceNotFoundException("HotelChain not found: " + id);
         repo.deleteById(id);
+        events.publishEvent(new CatalogChangedEvent("chain", id));
     }
 
     public List<HotelChain> seedDefaultChains() {
@@ -68,6 +76,8 @@ public class HotelChainService {
             }
         }
 
+        events.publishEvent(new CatalogChangedEvent("chain", null));
+
         // return in requested order
         return names.stream()
                 .map(n -> repo.findByNameIgnoreCase(n)
@@ -95,6 +105,7 @@ public class HotelChainService {
         );
 
         repo.saveAll(chains);
+        events.publishEvent(new CatalogChangedEvent("chain", null));
 
         return repo.findAll(Sort.by(Sort.Direction.ASC, "id"));
     }
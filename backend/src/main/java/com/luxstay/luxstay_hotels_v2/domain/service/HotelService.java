@@ -5,6 +5,7 @@ import com.luxstay.luxstay_hotels_v2.domain.HotelChain;
 import com.luxstay.luxstay_hotels_v2.domain.repo.HotelChainRepository;
 import com.luxstay.luxstay_hotels_v2.domain.repo.HotelRepository;
 import com.luxstay.luxstay_hotels_v2.web.exception.ResourceNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,21 +18,26 @@ public class HotelService {
     private final HotelRepository hotelRepo;
     private final HotelChainRepository chainRepo;
     private final HotelImageUrlSelector imageUrlSelector;
+    private final ApplicationEventPublisher events;
 
     public HotelService(HotelRepository hotelRepo,
                         HotelChainRepository chainRepo,
-                        HotelImageUrlSelector imageUrlSelector) {
+                        HotelImageUrlSelector imageUrlSelector,
+                        ApplicationEventPublisher events) {
         this.hotelRepo = hotelRepo;
         this.chainRepo = chainRepo;
         this.imageUrlSelector = imageUrlSelector;
+        this.events = events;
     }
 
+    @Transactional(readOnly = true)
     public List<Hotel> list(Long chainId, String city) {
         if (chainId != null) return hotelRepo.findByChainId(chainId);
         if (city != null && !city.isBlank()) return hotelRepo.findByCityIgnoreCase(city);
         return hotelRepo.findAll();
     }
 
+    @Transactional(readOnly = true)
     public Hotel get(Long id) {
         return hotelRepo.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Hotel not found: " + id));
@@ -49,7 +55,9 @@ public class HotelService {
             payload.setImageUrl(imageUrlSelector.nextUrl());
         }
 
-        return hotelRepo.save(payload);
+        Hotel saved = hotelRepo.save(payload);
+        events.publishEvent(new CatalogChangedEvent("hotel", saved.getId()));
+        return saved;
     }
 
     public Hotel update(Long id, Hotel payload) {
@@ -63,11 +71,13 @@ public class HotelService {
         hotel.setRating(payload.getRating());
         hotel.setImageUrl(payload.getImageUrl());
 
+        events.publishEvent(new CatalogChangedEvent("hotel", id));
         return hotelRepo.save(hotel);
     }
 
     public void delete(Long id) {
         if (!hotelRepo.existsById(id)) throw new ResourceNotFoundException("Hotel not found: " + id);
         hotelRepo.deleteById(id);
+        events.publishEvent(new CatalogChangedEvent("hotel", id));
     }
 }
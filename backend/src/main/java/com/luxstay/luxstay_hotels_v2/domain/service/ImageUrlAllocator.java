@@ -0,0 +1,149 @@
+package com.luxstay.luxstay_hotels_v2.domain.service;
+
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shuffled-bag image URL allocator without locks.
+ *
+ * Allocation i is served from "epoch" i / size at position i % size, where every epoch is a
+ * full permutation of the URLs: within an epoch no URL repeats, exactly like draining a bag.
+ * - one atomic cursor: nextUrl() is a single getAndIncrement, nextUrls(n) a single getAndAdd
+ * - the permutation of epoch k is derived from (seed, k), so any thread can rebuild it and
+ *   always gets the same one — no coordination needed when the background reshuffle lags
+ * - the next epoch is shuffled on a background executor as soon as the current one starts
+ */
+public class ImageUrlAllocator {
+
+    private record Epoch(long number, String[] urls) {}
+
+    private final String[] urls;
+    private final long seed;
+    private final Executor background;
+
+    private final AtomicLong cursor = new AtomicLong();
+    private final AtomicReference<Epoch> current = new AtomicReference<>();
+    private volatile Epoch next;
+
+    public ImageUrlAllocator(List<String> urls) {
+        this(urls, new SecureRandom().nextLong(), ForkJoinPool.commonPool());
+    }
+
+    public ImageUrlAllocator(List<String> urls, long seed, Executor background) {
+        this.urls = urls.toArray(String[]::new);
+        this.seed = seed;
+        this.background = background;
+
+        if (this.urls.length > 0) {
+            current.set(shuffle(0));
+            prepare(1);
+        }
+    }
+
+    public String nextUrl() {
+        if (urls.length == 0) return null;
+
+        long i = cursor.getAndIncrement();
+        return epoch(i / urls.length).urls()[(int) (i % urls.length)];
+    }
+
+    /**
+     * Reserves n consecutive allocations with one atomic add (bulk creates / imports).
+     */
+    public List<String> nextUrls(int n) {
+        if (n <= 0) return List.of();
+        if (urls.length == 0) return Collections.nCopies(n, null);
+
+        long start = cursor.getAndAdd(n);
+        String[] out = new String[n];
+        Epoch e = null;
+
+        for (int k = 0; k < n; k++) {
+            long i = start + k;
+            long number = i / urls.length;
+            if (e == null || e.number() != number) e = epoch(number);
+            out[k] = e.urls()[(int) (i % urls.length)];
+        }
+        return List.of(out);
+    }
+
+    public int size() {
+        return urls.length;
+    }
+
+    private Epoch epoch(long number) {
+        Epoch cur = current.get();
+        if (cur.number() == number) return cur;
+
+        Epoch prepared = next;
+        Epoch e = (prepared != null && prepared.number() == number) ? prepared : shuffle(number);
+
+        // Move forward only; stragglers from an older epoch just recompute it
+        if (number > cur.number() && current.compareAndSet(cur, e)) {
+            prepare(number + 1);
+        }
+        return e;
+    }
+
+    private void prepare(long number) {
+        background.execute(() -> {
+            Epoch e = shuffle(number);
+            Epoch n = next;
+            if (n == null || n.number() < number) next = e;
+        });
+    }
+
+    /**
+     * Fisher–Yates with a generator seeded from (seed, epoch number).
+     */
+    private Epoch shuffle(long number) {
+        String[] copy = urls.clone();
+        SplittableRandom rnd = new SplittableRandom(seed ^ (number * 0x9E3779B97F4A7C15L));
+        for (int i = copy.length - 1; i > 0; i--) {
+            int j = rnd.nextInt(i + 1);
+            String tmp = copy[i];
+            copy[i] = copy[j];
+            copy[j] = tmp;
+        }
+        return new Epoch(number, copy);
+    }
+
+    /**
+     * Robust parsing:
+     * - trims
+     * - splits on ANY whitespace so "url1 url2" becomes 2 urls
+     * - removes duplicates while preserving a stable order before shuffling
+     */
+    public static List<String> readUrlsFromClasspath(String path) {
+        LinkedHashSet<String> unique = new LinkedHashSet<>();
+
+        try (BufferedReader br = new BufferedReader(
+                new InputStreamReader(new ClassPathResource(path).getInputStream(), StandardCharsets.UTF_8)
+        )) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                String trimmed = line.trim();
+                if (trimmed.isBlank()) continue;
+
+                for (String p : trimmed.split("\\s+")) {
+                    if (!p.isBlank()) unique.add(p);
+                }
+            }
+            return List.copyOf(unique);
+        } catch (Exception e) {
+            return List.of(); // keep app running even if file missing
+        }
+    }
+}
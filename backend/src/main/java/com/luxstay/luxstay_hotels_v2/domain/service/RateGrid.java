@@ -0,0 +1,84 @@
+package com.luxstay.luxstay_hotels_v2.domain.service;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Immutable nightly rates for every room over [firstDay, firstDay + days), in cents.
+ *
+ * Every room of a hotel shares the hotel's per-night multiplier (calendar x occupancy), so the grid
+ * stores base cents per room plus one int multiplier per (hotel, night):
+ * rate(room, night) = baseCents[room] x factorBp[hotel][night] / 10_000, rounded half up.
+ * That is the full per-room-per-night grid at rooms-per-hotel times less memory.
+ *
+ * Lookups and stay totals work on primitives only: no boxing, no LocalDate per night.
+ */
+public final class RateGrid {
+
+    private final long firstEpochDay;
+    private final int days;
+    private final long[] roomIds;      // sorted, for binary search
+    private final long[] baseCents;    // by room index
+    private final int[] roomHotel;     // by room index -> hotel index
+    private final int[] factorBp;      // hotel index * days + night
+    private final long builtAtMillis;
+
+    RateGrid(LocalDate firstDay, int days, long[] roomIds, long[] baseCents, int[] roomHotel, int[] factorBp) {
+        this.firstEpochDay = firstDay.toEpochDay();
+        this.days = days;
+        this.roomIds = roomIds;
+        this.baseCents = baseCents;
+        this.roomHotel = roomHotel;
+        this.factorBp = factorBp;
+        this.builtAtMillis = System.currentTimeMillis();
+    }
+
+    public LocalDate firstDay() { return LocalDate.ofEpochDay(firstEpochDay); }
+
+    public int days() { return days; }
+
+    public int rooms() { return roomIds.length; }
+
+    public long builtAtMillis() { return builtAtMillis; }
+
+    /**
+     * @return room index, or -1 if the room isn't in the grid
+     */
+    public int indexOf(long roomId) {
+        int i = Arrays.binarySearch(roomIds, roomId);
+        return i < 0 ? -1 : i;
+    }
+
+    /**
+     * Whether every night of [startEpochDay, endEpochDay) is inside the grid.
+     */
+    public boolean covers(long startEpochDay, long endEpochDay) {
+        return startEpochDay >= firstEpochDay && endEpochDay <= firstEpochDay + days;
+    }
+
+    public long nightCents(int room, long epochDay) {
+        int night = (int) (epochDay - firstEpochDay);
+        return rate(baseCents[room], factorBp[roomHotel[room] * days + night]);
+    }
+
+    /**
+     * Total of the nights [startEpochDay, endEpochDay); the range must be covered by the grid.
+     */
+    public long stayCents(int room, long startEpochDay, long endEpochDay) {
+        long base = baseCents[room];
+        int row = roomHotel[room] * days;
+        int from = (int) (startEpochDay - firstEpochDay);
+        int to = (int) (endEpochDay - firstEpochDay);
+        long total = 0;
+        for (int n = from; n < to; n++) total += rate(base, factorBp[row + n]);
+        return total;
+    }
+
+    public long baseCents(int room) {
+        return baseCents[room];
+    }
+
+    static long rate(long baseCents, int bp) {
+        return (baseCents * bp + RateRules.ONE / 2) / RateRules.ONE;
+    }
+}
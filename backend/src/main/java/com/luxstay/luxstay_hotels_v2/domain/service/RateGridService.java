@@ -0,0 +1,265 @@
+package com.luxstay.luxstay_hotels_v2.domain.service;
+
+import com.luxstay.luxstay_hotels_v2.domain.Reservation;
+import com.luxstay.luxstay_hotels_v2.domain.Room;
+import com.luxstay.luxstay_hotels_v2.domain.repo.RateRepository;
+import com.luxstay.luxstay_hotels_v2.domain.repo.RoomRepository;
+import com.luxstay.luxstay_hotels_v2.web.dto.RoomDtos;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds and serves the nightly rate grid (see RateGrid, RateRules).
+ *
+ * The grid covers today + `horizon-days` and is rebuilt every `refresh-interval` (occupancy moves)
+ * and after catalog changes (room prices). It is built on first use, so the first search after
+ * startup pays for it; WarmupRunner normally does. Nights beyond the horizon are priced from
+ * the calendar rules only, and rooms created since the last build from Room.price (same for quotes
+ * and sorting).
+ */
+@Service
+public class RateGridService {
+
+    private static final Logger log = LoggerFactory.getLogger(RateGridService.class);
+
+    public static final int MAX_QUOTE_ROOMS = 1000;
+
+    private static final int POSITION_MASK = 0xFF_FFFF; // low 24 bits of a sort key
+
+    /**
+     * A search result with its stay total.
+     */
+    public record Priced(Room room, RoomDtos.Quote quote) {}
+
+    private final RateRepository rates;
+    private final RoomRepository rooms;
+    private final RateRules rules;
+    private final int horizonDays;
+
+    private volatile RateGrid grid;
+
+    public RateGridService(RateRepository rates,
+                           RoomRepository rooms,
+                           @Value("${luxstay.rates.horizon-days:365}") int horizonDays,
+                           @Value("${luxstay.rates.weekday-multipliers:1,1,1,1,1,1,1}") String weekdays,
+                           @Value("${luxstay.rates.seasons:}") String seasons,
+                           @Value("${luxstay.rates.occupancy-uplift:}") String occupancyUplift) {
+        this.rates = rates;
+        this.rooms = rooms;
+        this.horizonDays = Math.max(1, horizonDays);
+        this.rules = RateRules.parse(weekdays, seasons, occupancyUplift);
+    }
+
+    public RateGrid grid() {
+        RateGrid g = grid;
+        if (g != null) return g;
+        synchronized (this) {
+            return grid != null ? grid : refresh();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${luxstay.rates.refresh-interval:5m}",
+               initialDelayString = "${luxstay.rates.refresh-interval:5m}")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("Rate grid refresh failed, keeping the previous one: {}", e.toString());
+        }
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (grid != null) scheduledRefresh();
+    }
+
+    public synchronized RateGrid refresh() {
+        long started = System.nanoTime();
+        LocalDate first = LocalDate.now();
+        int days = horizonDays;
+
+        LongArray ids = new LongArray();
+        LongArray base = new LongArray();
+        LongArray hotelOfRoom = new LongArray();
+        Map<Long, Integer> hotelIndex = new HashMap<>();
+        rates.findRoomPrices((roomId, hotelId, priceCents) -> {
+            ids.add(roomId);
+            base.add(priceCents);
+            hotelOfRoom.add(hotelIndex.computeIfAbsent(hotelId, k -> hotelIndex.size()));
+        });
+
+        int hotels = hotelIndex.size();
+        int[] roomHotel = new int[ids.size];
+        int[] roomsPerHotel = new int[hotels];
+        for (int i = 0; i < ids.size; i++) {
+            roomHotel[i] = (int) hotelOfRoom.values[i];
+            roomsPerHotel[roomHotel[i]]++;
+        }
+
+        long[] sold = new long[hotels * days];
+        long firstEpochDay = first.toEpochDay();
+        rates.findNightsSold(first, first.plusDays(days), (hotelId, day, nightsSold) -> {
+            Integer h = hotelIndex.get(hotelId);
+            if (h != null) sold[h * days + (int) (day.toEpochDay() - firstEpochDay)] += nightsSold;
+        });
+
+        int[] calendar = new int[days];
+        for (int d = 0; d < days; d++) calendar[d] = rules.calendarBp(first.plusDays(d));
+
+        int[] factor = new int[hotels * days];
+        for (int h = 0; h < hotels; h++) {
+            for (int d = 0; d < days; d++) {
+                long occupancyBp = roomsPerHotel[h] == 0 ? 0 : sold[h * days + d] * RateRules.ONE / roomsPerHotel[h];
+                factor[h * days + d] = RateRules.multiply(calendar[d], rules.upliftBp(occupancyBp));
+            }
+        }
+
+        RateGrid built = new RateGrid(first, days, ids.toArray(), base.toArray(), roomHotel, factor);
+        grid = built;
+        log.info("Rate grid built in {} ms: {} rooms, {} hotels, {} nights from {}",
+                (System.nanoTime() - started) / 1_000_000, ids.size, hotels, days, first);
+        return built;
+    }
+
+    // ---------- Quotes ----------
+
+    /**
+     * Stay totals for the given rooms; rooms newer than the grid are priced from Room.price,
+     * ids that aren't rooms at all are left out.
+     */
+    public List<RoomDtos.Quote> quote(List<Long> roomIds, LocalDate startDate, LocalDate endDate) {
+        validateStay(startDate, endDate);
+        if (roomIds == null || roomIds.isEmpty()) throw new IllegalArgumentException("roomIds are required");
+        if (roomIds.size() > MAX_QUOTE_ROOMS) {
+            throw new IllegalArgumentException("At most " + MAX_QUOTE_ROOMS + " rooms per quote");
+        }
+
+        RateGrid g = grid();
+        long start = startDate.toEpochDay();
+        long end = endDate.toEpochDay();
+
+        List<Long> missing = new ArrayList<>();
+        for (Long id : roomIds) {
+            if (id != null && g.indexOf(id) < 0) missing.add(id);
+        }
+        Map<Long, Room> created = new HashMap<>();
+        if (!missing.isEmpty()) {
+            for (Room r : rooms.findAllById(missing)) created.put(r.getId(), r);
+        }
+
+        List<RoomDtos.Quote> out = new ArrayList<>(roomIds.size());
+        for (Long id : roomIds) {
+            if (id == null) continue;
+            int room = g.indexOf(id);
+            Room r = created.get(id);
+            if (room < 0 && r == null) continue;
+            out.add(quote(id, startDate, endDate, stayCents(g, room, baseCents(g, room, r), start, end)));
+        }
+        return out;
+    }
+
+    /**
+     * Search results with their stay totals, ordered by them; ties keep their search order either way.
+     * One long per room: the total shifted left with the original position in the low bits (counted
+     * from the end when descending, as the keys are then read backwards), sorted as a primitive array.
+     */
+    public List<Priced> sortByStayPrice(List<Room> rooms, LocalDate startDate, LocalDate endDate, boolean descending) {
+        validateStay(startDate, endDate);
+        int n = rooms.size();
+
+        RateGrid g = grid();
+        long start = startDate.toEpochDay();
+        long end = endDate.toEpochDay();
+        long[] totals = new long[n];
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            Room r = rooms.get(i);
+            int room = g.indexOf(r.getId());
+            totals[i] = stayCents(g, room, baseCents(g, room, r), start, end);
+            keys[i] = (totals[i] << 24) | (descending ? POSITION_MASK - i : i);
+        }
+        Arrays.sort(keys);
+
+        List<Priced> out = new ArrayList<>(n);
+        for (int k = 0; k < n; k++) {
+            int i = descending ? POSITION_MASK - (int) (keys[n - 1 - k] & POSITION_MASK) : (int) (keys[k] & POSITION_MASK);
+            Room r = rooms.get(i);
+            out.add(new Priced(r, quote(r.getId(), startDate, endDate, totals[i])));
+        }
+        return out;
+    }
+
+    /**
+     * Grid base price, or Room.price for a room the grid doesn't know (room -1).
+     */
+    private static long baseCents(RateGrid g, int room, Room r) {
+        return room >= 0 ? g.baseCents(room) : r.getPrice().movePointRight(2).longValue();
+    }
+
+    private static RoomDtos.Quote quote(Long roomId, LocalDate startDate, LocalDate endDate, long totalCents) {
+        int nights = (int) (endDate.toEpochDay() - startDate.toEpochDay());
+        BigDecimal total = BigDecimal.valueOf(totalCents, 2);
+        return new RoomDtos.Quote(roomId, startDate, endDate, nights, total,
+                total.divide(BigDecimal.valueOf(nights), 2, RoundingMode.HALF_UP));
+    }
+
+    /**
+     * Grid rates where the grid covers the night, calendar rules on `base` elsewhere (or for room -1).
+     */
+    private long stayCents(RateGrid g, int room, long base, long start, long end) {
+        if (room >= 0 && g.covers(start, end)) return g.stayCents(room, start, end);
+
+        long total = 0;
+        for (long day = start; day < end; day++) {
+            total += room >= 0 && g.covers(day, day + 1)
+                    ? g.nightCents(room, day)
+                    : RateGrid.rate(base, rules.calendarBp(LocalDate.ofEpochDay(day)));
+        }
+        return total;
+    }
+
+    private static void validateStay(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            throw new IllegalArgumentException("startDate and endDate are required");
+        }
+        if (!endDate.isAfter(startDate)) {
+            throw new IllegalArgumentException("endDate must be after startDate");
+        }
+        if (startDate.plusDays(Reservation.MAX_NIGHTS).isBefore(endDate)) {
+            throw new IllegalArgumentException("A stay can't be longer than " + Reservation.MAX_NIGHTS + " nights");
+        }
+    }
+
+    /**
+     * Growable long[] for the build (no boxing per room).
+     */
+    private static final class LongArray {
+
+        long[] values = new long[1024];
+        int size;
+
+        void add(long v) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = v;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
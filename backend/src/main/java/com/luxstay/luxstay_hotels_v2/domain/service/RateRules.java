@@ -0,0 +1,116 @@
+package com.luxstay.luxstay_hotels_v2.domain.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pricing rules behind the rate grid. Multipliers are kept in basis points (1.15 -> 11_500).
+ *
+ * Nightly rate = Room.price x weekday x season x occupancy uplift, where:
+ * - weekday: one multiplier per night, Monday first ("1.0,1.0,1.0,1.0,1.15,1.2,1.0" = Fri/Sat nights dearer)
+ * - seasons: "MM-DD..MM-DD:multiplier" ranges, inclusive, may wrap the year end; first match wins
+ * - occupancy: "threshold:multiplier", the highest threshold reached by the hotel's booked occupancy applies
+ */
+public final class RateRules {
+
+    public static final int ONE = 10_000;
+
+    private record Season(MonthDay from, MonthDay to, int bp) {
+
+        boolean contains(MonthDay d) {
+            return from.isAfter(to)
+                    ? !d.isBefore(from) || !d.isAfter(to)   // wraps the year end
+                    : !d.isBefore(from) && !d.isAfter(to);
+        }
+    }
+
+    private final int[] weekdayBp;
+    private final List<Season> seasons;
+    private final int[] upliftThresholdBp;
+    private final int[] upliftBp;
+
+    private RateRules(int[] weekdayBp, List<Season> seasons, int[] upliftThresholdBp, int[] upliftBp) {
+        this.weekdayBp = weekdayBp;
+        this.seasons = seasons;
+        this.upliftThresholdBp = upliftThresholdBp;
+        this.upliftBp = upliftBp;
+    }
+
+    /**
+     * @throws IllegalArgumentException on malformed rules (fails startup, like any bad property)
+     */
+    public static RateRules parse(String weekdays, String seasons, String occupancyUplift) {
+        int[] weekdayBp = new int[7];
+        String[] w = weekdays.split(",");
+        if (w.length != 7) throw new IllegalArgumentException("Expected 7 weekday multipliers, got: " + weekdays);
+        for (int i = 0; i < 7; i++) weekdayBp[i] = bp(w[i]);
+
+        List<Season> parsedSeasons = new ArrayList<>();
+        for (String s : split(seasons)) {
+            String[] rangeAndBp = s.split(":");
+            String[] range = rangeAndBp[0].split("\\.\\.");
+            if (rangeAndBp.length != 2 || range.length != 2) {
+                throw new IllegalArgumentException("Expected MM-DD..MM-DD:multiplier, got: " + s);
+            }
+            parsedSeasons.add(new Season(MonthDay.parse("--" + range[0].trim()), MonthDay.parse("--" + range[1].trim()),
+                    bp(rangeAndBp[1])));
+        }
+
+        List<String> uplift = split(occupancyUplift);
+        int[] thresholds = new int[uplift.size()];
+        int[] multipliers = new int[uplift.size()];
+        for (int i = 0; i < uplift.size(); i++) {
+            String[] kv = uplift.get(i).split(":");
+            if (kv.length != 2) throw new IllegalArgumentException("Expected threshold:multiplier, got: " + uplift.get(i));
+            thresholds[i] = bp(kv[0]);
+            multipliers[i] = bp(kv[1]);
+            if (i > 0 && thresholds[i] <= thresholds[i - 1]) {
+                throw new IllegalArgumentException("Occupancy thresholds must be increasing: " + occupancyUplift);
+            }
+        }
+        return new RateRules(weekdayBp, List.copyOf(parsedSeasons), thresholds, multipliers);
+    }
+
+    /**
+     * Weekday x season multiplier of the night starting on `date`.
+     */
+    public int calendarBp(LocalDate date) {
+        int bp = weekdayBp[date.getDayOfWeek().getValue() - DayOfWeek.MONDAY.getValue()];
+        MonthDay md = MonthDay.from(date);
+        for (Season s : seasons) {
+            if (s.contains(md)) return multiply(bp, s.bp());
+        }
+        return bp;
+    }
+
+    /**
+     * @param occupancyBp booked room-nights / rooms, in basis points
+     */
+    public int upliftBp(long occupancyBp) {
+        int bp = ONE;
+        for (int i = 0; i < upliftThresholdBp.length && occupancyBp >= upliftThresholdBp[i]; i++) bp = upliftBp[i];
+        return bp;
+    }
+
+    public static int multiply(int aBp, int bBp) {
+        return (int) (((long) aBp * bBp + ONE / 2) / ONE);
+    }
+
+    private static int bp(String multiplier) {
+        double m = Double.parseDouble(multiplier.trim());
+        if (!(m > 0) || m > 100) throw new IllegalArgumentException("Multiplier out of range: " + multiplier);
+        return (int) Math.round(m * ONE);
+    }
+
+    private static List<String> split(String list) {
+        List<String> out = new ArrayList<>();
+        if (list == null) return out;
+        for (String s : list.split(",")) {
+            if (!s.isBlank()) out.add(s.trim());
+        }
+        return out;
+    }
+}
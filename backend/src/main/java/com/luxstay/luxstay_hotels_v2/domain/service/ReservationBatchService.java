@@ -0,0 +1,170 @@
+package com.luxstay.luxstay_hotels_v2.domain.service;
+
+import com.luxstay.luxstay_hotels_v2.domain.repo.ReservationBatchRepository;
+import com.luxstay.luxstay_hotels_v2.domain.repo.ReservationBatchRepository.Snapshot;
+import com.luxstay.luxstay_hotels_v2.web.dto.ReservationDtos;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Check-in / check-out / completion of many reservations at once (tour groups, night audit).
+ *
+ * One transaction per batch: the rows are read and locked with one SELECT ... FOR UPDATE, every item is
+ * checked against the same rules as the single-reservation flow, and the accepted ones are written
+ * with a single UPDATE. The caller gets one result per id; a rejected item doesn't fail the batch.
+ */
+@Service
+public class ReservationBatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationBatchService.class);
+
+    public static final int MAX_BATCH = 1000;
+
+    public enum Action { CHECK_IN, CHECK_OUT, COMPLETE }
+
+    public enum Outcome { UPDATED, SKIPPED, REJECTED, NOT_FOUND }
+
+    private final ReservationBatchRepository batch;
+    private final TransactionTemplate tx;
+    private final boolean auditEnabled;
+
+    public ReservationBatchService(ReservationBatchRepository batch,
+                                   PlatformTransactionManager txManager,
+                                   @Value("${luxstay.night-audit.enabled:true}") boolean auditEnabled) {
+        this.batch = batch;
+        this.tx = new TransactionTemplate(txManager);
+        this.auditEnabled = auditEnabled;
+    }
+
+    @Transactional
+    public ReservationDtos.BatchResponse apply(Action action, List<Long> ids, LocalDateTime at) {
+        if (ids == null || ids.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ids are required");
+        }
+        if (ids.size() > MAX_BATCH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At most " + MAX_BATCH + " reservations per batch");
+        }
+        LocalDateTime when = at == null ? LocalDateTime.now() : at;
+        LocalDate day = when.toLocalDate();
+
+        LinkedHashSet<Long> unique = new LinkedHashSet<>(ids);
+        Map<Long, Snapshot> current = new HashMap<>();
+        for (Snapshot s : batch.lockAll(unique)) current.put(s.id(), s);
+
+        List<ReservationDtos.BatchItemResult> items = new ArrayList<>(unique.size());
+        List<Long> accepted = new ArrayList<>();
+        int[] counts = new int[Outcome.values().length];
+        for (Long id : unique) {
+            Snapshot s = current.get(id);
+            Verdict v = s == null ? new Verdict(Outcome.NOT_FOUND, "Reservation not found: " + id) : check(action, s, day);
+            if (v.outcome() == Outcome.UPDATED) accepted.add(id);
+            counts[v.outcome().ordinal()]++;
+            items.add(new ReservationDtos.BatchItemResult(id, v.outcome().name(), v.message()));
+        }
+
+        int written = switch (action) {
+            case CHECK_IN -> batch.checkIn(accepted, when);
+            case CHECK_OUT -> batch.checkOut(accepted, when);
+            case COMPLETE -> batch.complete(accepted, when);
+        };
+        if (written != accepted.size()) {
+            // rows are locked, so this means a bug rather than a race
+            throw new IllegalStateException("Batch " + action + " updated " + written + " rows, expected " + accepted.size());
+        }
+
+        return new ReservationDtos.BatchResponse(action.name(),
+                counts[Outcome.UPDATED.ordinal()], counts[Outcome.SKIPPED.ordinal()],
+                counts[Outcome.REJECTED.ordinal()], counts[Outcome.NOT_FOUND.ordinal()], items);
+    }
+
+    record Verdict(Outcome outcome, String message) {
+
+        static final Verdict OK = new Verdict(Outcome.UPDATED, null);
+
+        static Verdict skip(String message) { return new Verdict(Outcome.SKIPPED, message); }
+
+        static Verdict reject(String message) { return new Verdict(Outcome.REJECTED, message); }
+    }
+
+    static Verdict check(Action action, Snapshot s, LocalDate day) {
+        boolean cancelled = ReservationService.STATUS_CANCELLED.equalsIgnoreCase(s.status());
+        boolean completed = ReservationService.STATUS_COMPLETED.equalsIgnoreCase(s.status());
+        if (cancelled) return Verdict.reject("Reservation is cancelled");
+
+        return switch (action) {
+            case CHECK_IN -> {
+                if (s.checkedInAt() != null) yield Verdict.skip("Already checked in");
+                if (completed) yield Verdict.reject("Reservation is completed");
+                if (day.isBefore(s.startDate())) yield Verdict.reject("Arrival is on " + s.startDate());
+                if (!day.isBefore(s.endDate())) yield Verdict.reject("Stay ended on " + s.endDate());
+                yield Verdict.OK;
+            }
+            case CHECK_OUT -> {
+                if (s.checkedOutAt() != null) yield Verdict.skip("Already checked out");
+                if (s.checkedInAt() == null) yield Verdict.reject("Not checked in");
+                yield Verdict.OK;
+            }
+            case COMPLETE -> {
+                if (completed) yield Verdict.skip("Already completed");
+                if (s.endDate().isAfter(day)) yield Verdict.reject("Stay ends on " + s.endDate());
+                yield Verdict.OK;
+            }
+        };
+    }
+
+    // ---------- Night audit ----------
+
+    @Scheduled(cron = "${luxstay.night-audit.cron:0 0 2 * * *}")
+    public void scheduledNightAudit() {
+        if (!auditEnabled) return;
+        try {
+            nightAudit(LocalDate.now().minusDays(1));
+        } catch (RuntimeException e) {
+            log.error("Night audit failed", e);
+        }
+    }
+
+    /**
+     * Closes `businessDate`: every ACTIVE stay departing on or before it becomes COMPLETED (guests still
+     * checked in are checked out), in batches of MAX_BATCH, one transaction each. No-shows (arrived on or
+     * before the date, never checked in) are counted for the report but left untouched.
+     * Safe to run twice or on several nodes: completed stays are skipped.
+     */
+    public ReservationDtos.NightAuditReport nightAudit(LocalDate businessDate) {
+        long started = System.nanoTime();
+        LocalDateTime at = LocalDateTime.now();
+
+        int completed = 0;
+        while (true) {
+            List<Long> ids = batch.findEndedActive(businessDate, MAX_BATCH);
+            if (ids.isEmpty()) break;
+
+            ReservationDtos.BatchResponse r = tx.execute(status -> apply(Action.COMPLETE, ids, at));
+            if (r == null || r.updated() == 0) break;
+            completed += r.updated();
+        }
+        long noShows = batch.countNoShows(businessDate);
+
+        ReservationDtos.NightAuditReport report = new ReservationDtos.NightAuditReport(
+                businessDate, completed, noShows, (System.nanoTime() - started) / 1_000_000);
+        log.info("Night audit for {}: {} stays completed, {} no-shows, {} ms",
+                businessDate, completed, noShows, report.elapsedMs());
+        return report;
+    }
+}
@@ -0,0 +1,69 @@
+package com.luxstay.luxstay_hotels_v2.domain.service;
+
+import com.luxstay.luxstay_hotels_v2.domain.Hotel;
+import com.luxstay.luxstay_hotels_v2.domain.Reservation;
+import com.luxstay.luxstay_hotels_v2.domain.Room;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Published by ReservationService for every create/update/cancel/pay/delete.
+ *
+ * before = state prior to the change (null on create)
+ * after  = state after the change (null on delete)
+ *
+ * Each Stay carries the room facts that availability filters look at, so listeners
+ * never have to go back to the database after commit.
+ */
+public record ReservationChangedEvent(Long reservationId, Stay before, Stay after) {
+
+    public record Stay(
+            Long roomId,
+            Long hotelId,
+            String city,
+            String chainName,
+            Integer capacity,
+            BigDecimal price,
+            LocalDate startDate,
+            LocalDate endDate,
+            String status,
+            String paymentStatus
+    ) {
+
+        static Stay of(Reservation r) {
+            Room room = r.getRoom();
+            Hotel hotel = room.getHotel();
+            return new Stay(
+                    room.getId(),
+                    hotel == null ? null : hotel.getId(),
+                    hotel == null ? null : hotel.getCity(),
+                    (hotel == null || hotel.getChain() == null) ? null : hotel.getChain().getName(),
+                    room.getCapacity(),
+                    room.getPrice(),
+                    r.getStartDate(),
+                    r.getEndDate(),
+                    r.getStatus(),
+                    r.getPaymentStatus()
+            );
+        }
+
+        /**
+         * CANCELLED reservations never block a room (same rule as the overlap queries).
+         */
+        public boolean blocksRoom() {
+            return status == null || !ReservationService.STATUS_CANCELLED.equalsIgnoreCase(status);
+        }
+
+        public boolean paid() {
+            return ReservationService.PAY_PAID.equalsIgnoreCase(paymentStatus);
+        }
+
+        /**
+         * [startDate, endDate) overlap, end exclusive.
+         */
+        public boolean overlaps(LocalDate start, LocalDate end) {
+            return start.isBefore(endDate) && end.isAfter(startDate);
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package com.luxstay.luxstay_hotels_v2.domain.service;
+
+import com.luxstay.luxstay_hotels_v2.domain.repo.ReservationPartitionRepository;
+import com.luxstay.luxstay_hotels_v2.domain.repo.ReservationPartitionRepository.Partition;
+import com.luxstay.luxstay_hotels_v2.web.dto.ReservationDtos;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Upkeep of the monthly reservation partitions, and the archive of old ones.
+ *
+ * Partitions: on startup and daily, every month from today (or from the oldest stay that landed in
+ * reservation_default) through `months-ahead` gets its partition, so new bookings never hit the default one.
+ *
+ * Archive (off by default): partitions whose month ended more than `retention-months` ago are exported
+ * to `dir`/reservation_pYYYY_MM.csv.gz.tmp, detached and dropped, and only then renamed to .csv.gz.
+ * A partition that still holds a stay counting as ACTIVE is left alone, so only COMPLETED / CANCELLED
+ * stays are archived.
+ * findArchived reads those files back; they are not visible to any other query.
+ */
+@Service
+public class ReservationPartitionService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationPartitionService.class);
+
+    private static final Pattern ARCHIVE_FILE = Pattern.compile("reservation_p(\\d{4})_(\\d{2})\\.csv\\.gz");
+    private static final Pattern STAGED_FILE = Pattern.compile("reservation_p(\\d{4})_(\\d{2})\\.csv\\.gz\\.tmp");
+    private static final int MAX_ARCHIVE_RESULTS = 10_000;
+
+    private final ReservationPartitionRepository partitions;
+    private final TransactionTemplate tx;
+    private final int monthsAhead;
+    private final boolean archiveEnabled;
+    private final int retentionMonths;
+    private final Path archiveDir;
+
+    public ReservationPartitionService(ReservationPartitionRepository partitions,
+                                       PlatformTransactionManager txManager,
+                                       @Value("${luxstay.reservations.partitions.months-ahead:12}") int monthsAhead,
+                                       @Value("${luxstay.reservations.archive.enabled:false}") boolean archiveEnabled,
+                                       @Value("${luxstay.reservations.archive.retention-months:24}") int retentionMonths,
+                                       @Value("${luxstay.reservations.archive.dir:archive/reservations}") Path archiveDir) {
+        this.partitions = partitions;
+        this.tx = new TransactionTemplate(txManager);
+        this.monthsAhead = Math.max(1, monthsAhead);
+        this.archiveEnabled = archiveEnabled;
+        this.retentionMonths = Math.max(1, retentionMonths);
+        this.archiveDir = archiveDir;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${luxstay.reservations.partitions.cron:0 30 3 * * *}")
+    public void maintain() {
+        try {
+            ensurePartitions();
+            if (archiveEnabled) archiveOldPartitions();
+        } catch (RuntimeException e) {
+            log.error("Reservation partition maintenance failed", e);
+        }
+    }
+
+    /**
+     * @return partitions created
+     */
+    public int ensurePartitions() {
+        LocalDate thisMonth = LocalDate.now().withDayOfMonth(1);
+        LocalDate stray = partitions.findEarliestUnpartitionedStart();
+        LocalDate from = stray != null && stray.isBefore(thisMonth) ? stray.withDayOfMonth(1) : thisMonth;
+
+        Integer created = tx.execute(status -> partitions.ensurePartitions(from, thisMonth.plusMonths(monthsAhead + 1L)));
+        if (created == null) return 0;
+        if (created > 0) log.info("Created {} reservation partitions from {}", created, from);
+        return created;
+    }
+
+    /**
+     * @return partitions archived
+     */
+    public int archiveOldPartitions() {
+        publishStaged();
+
+        LocalDate today = LocalDate.now();
+        LocalDate cutoff = today.withDayOfMonth(1).minusMonths(retentionMonths);
+
+        int archived = 0;
+        for (Partition p : partitions.findPartitions()) {
+            if (p.nextMonth().isAfter(cutoff)) break; // oldest first
+
+            long open = partitions.countOpenStays(p, today);
+            if (open > 0) {
+                log.warn("Not archiving {}: {} stays are still ACTIVE", p.name(), open);
+                continue;
+            }
+            archive(p);
+            archived++;
+        }
+        return archived;
+    }
+
+    /**
+     * One transaction per partition: SHARE lock (no writes meanwhile), export to a staged .tmp file,
+     * check the row count, then log it in reservation_archive and detach + drop. Only once that has
+     * committed is the staged file moved in place; if anything before fails it is deleted and the
+     * partition stays attached, so a later run exports it again.
+     */
+    private void archive(Partition p) {
+        Path target = archiveDir.resolve(p.name() + ".csv.gz");
+        Path staged = staged(target);
+        Long written;
+        try {
+            Files.createDirectories(archiveDir);
+            written = tx.execute(status -> {
+                partitions.lockForExport(p);
+                long rows;
+                try {
+                    rows = export(p, staged);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                long expected = partitions.count(p);
+                if (rows != expected) {
+                    throw new IllegalStateException("Exported " + rows + " of " + expected + " rows from " + p.name());
+                }
+                partitions.recordArchived(p, rows);
+                partitions.detachAndDrop(p);
+                return rows;
+            });
+        } catch (IOException e) {
+            deleteStaged(staged);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            deleteStaged(staged);
+            throw e;
+        }
+        publish(staged, target);
+        log.info("Archived {} ({} reservations) to {}", p.name(), written, target);
+    }
+
+    /**
+     * Staged files left by a run that stopped between the commit and the move: moved in place if their
+     * month was archived (the partition is gone, the file is its only copy), deleted otherwise.
+     */
+    private void publishStaged() {
+        if (!Files.isDirectory(archiveDir)) return;
+        List<Path> leftovers;
+        try (Stream<Path> files = Files.list(archiveDir)) {
+            leftovers = files.filter(file -> STAGED_FILE.matcher(file.getFileName().toString()).matches()).toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't list " + archiveDir, e);
+        }
+        Set<String> live = new HashSet<>();
+        for (Partition p : partitions.findPartitions()) live.add(p.name());
+
+        for (Path file : leftovers) {
+            Matcher m = STAGED_FILE.matcher(file.getFileName().toString());
+            if (!m.matches()) continue;
+            LocalDate month = LocalDate.of(Integer.parseInt(m.group(1)), Integer.parseInt(m.group(2)), 1);
+            String name = "reservation_p" + m.group(1) + "_" + m.group(2);
+            if (!live.contains(name) && partitions.isArchived(month)) {
+                publish(file, archiveDir.resolve(name + ".csv.gz"));
+                log.info("Moved in {} left staged by an earlier run", file.getFileName());
+            } else {
+                deleteStaged(file);
+            }
+        }
+    }
+
+    private static Path staged(Path target) {
+        return target.resolveSibling(target.getFileName() + ".tmp");
+    }
+
+    private static void publish(Path staged, Path target) {
+        try {
+            Files.move(staged, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // The partition is already dropped: keep the staged file, publishStaged moves it on the next run
+            throw new UncheckedIOException("Archived " + target.getFileName() + " but couldn't move it in place", e);
+        }
+    }
+
+    private static void deleteStaged(Path staged) {
+        try {
+            Files.deleteIfExists(staged);
+        } catch (IOException e) {
+            log.warn("Couldn't delete staged archive {}", staged, e);
+        }
+    }
+
+    private long export(Partition p, Path file) throws IOException {
+        long[] rows = {0};
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(file), 64 * 1024), StandardCharsets.UTF_8))) {
+            out.write(String.join(",", ReservationPartitionRepository.COLUMNS));
+            out.write('\n');
+            partitions.scan(p, rs -> {
+                try {
+                    writeRow(out, rs);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            });
+        }
+        return rows[0];
+    }
+
+    private static void writeRow(Writer out, ResultSet rs) throws IOException, SQLException {
+        int columns = ReservationPartitionRepository.COLUMNS.size();
+        for (int i = 1; i <= columns; i++) {
+            if (i > 1) out.write(',');
+            Object value = rs.getObject(i);
+            if (value instanceof Timestamp ts) value = ts.toLocalDateTime();
+            else if (value instanceof Date d) value = d.toLocalDate();
+            out.write(value == null ? "" : csv(value.toString()));
+        }
+        out.write('\n');
+    }
+
+    private static String csv(String s) {
+        if (s.indexOf(',') < 0 && s.indexOf('"') < 0 && s.indexOf('\n') < 0 && s.indexOf('\r') < 0) return s;
+        return '"' + s.replace("\"", "\"\"") + '"';
+    }
+
+    // ---------- Archive queries ----------
+
+    /**
+     * Archived stays with fromDate <= startDate and endDate <= toDate (same rule as the live list),
+     * optionally for one room / customer. Only files for the months in range are read.
+     */
+    public List<ReservationDtos.Response> findArchived(LocalDate fromDate, LocalDate toDate, Long roomId, Long customerId) {
+        if (fromDate != null && toDate != null && toDate.isBefore(fromDate)) {
+            throw new IllegalArgumentException("toDate must not be before fromDate");
+        }
+        if (!Files.isDirectory(archiveDir)) return List.of();
+
+        List<ReservationDtos.Response> out = new ArrayList<>();
+        for (Path file : archiveFiles(fromDate, toDate)) {
+            try (CsvReader csv = new CsvReader(new InputStreamReader(
+                    new GZIPInputStream(Files.newInputStream(file), 64 * 1024), StandardCharsets.UTF_8))) {
+                csv.next(); // header
+                List<String> f;
+                while ((f = csv.next()) != null) {
+                    ReservationDtos.Response r = toResponse(f);
+                    if (fromDate != null && r.startDate().isBefore(fromDate)) continue;
+                    if (toDate != null && r.endDate().isAfter(toDate)) continue;
+                    if (roomId != null && !roomId.equals(r.roomId())) continue;
+                    if (customerId != null && !customerId.equals(r.customerId())) continue;
+
+                    out.add(r);
+                    if (out.size() > MAX_ARCHIVE_RESULTS) {
+                        throw new IllegalArgumentException("More than " + MAX_ARCHIVE_RESULTS
+                                + " archived reservations match; narrow the date range or filter by room / customer");
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Can't read " + file, e);
+            }
+        }
+        out.sort(Comparator.comparing(ReservationDtos.Response::startDate).thenComparing(ReservationDtos.Response::id));
+        return out;
+    }
+
+    private List<Path> archiveFiles(LocalDate fromDate, LocalDate toDate) {
+        LocalDate firstMonth = fromDate == null ? null : fromDate.withDayOfMonth(1);
+        try (Stream<Path> files = Files.list(archiveDir)) {
+            return files
+                    .filter(file -> {
+                        Matcher m = ARCHIVE_FILE.matcher(file.getFileName().toString());
+                        if (!m.matches()) return false;
+                        LocalDate month = LocalDate.of(Integer.parseInt(m.group(1)), Integer.parseInt(m.group(2)), 1);
+                        return (firstMonth == null || !month.isBefore(firstMonth))
+                                && (toDate == null || month.isBefore(toDate));
+                    })
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't list " + archiveDir, e);
+        }
+    }
+
+    /**
+     * Fields in ReservationPartitionRepository.COLUMNS order. Customer details aren't archived.
+     */
+    private static ReservationDtos.Response toResponse(List<String> f) {
+        String status = f.get(5).toUpperCase();
+        LocalDate end = LocalDate.parse(f.get(4));
+        if (ReservationService.STATUS_ACTIVE.equals(status) && end.isBefore(LocalDate.now())) {
+            status = ReservationService.STATUS_COMPLETED;
+        }
+        return new ReservationDtos.Response(
+                Long.parseLong(f.get(0)),
+                Long.parseLong(f.get(1)),
+                Long.parseLong(f.get(2)),
+                LocalDate.parse(f.get(3)),
+                end,
+                status,
+                f.get(6).toUpperCase(),
+                timestamp(f.get(7)),
+                timestamp(f.get(8)),
+                f.get(9).isEmpty() ? null : f.get(9),
+                timestamp(f.get(10)),
+                timestamp(f.get(11)),
+                timestamp(f.get(12)),
+                null
+        );
+    }
+
+    private static LocalDateTime timestamp(String s) {
+        return s.isEmpty() ? null : LocalDateTime.parse(s);
+    }
+}
@@ -0,0 +1,173 @@
+package com.luxstay.luxstay_hotels_v2.domain.service;
+
+import com.luxstay.luxstay_hotels_v2.domain.repo.AnalyticsRepository;
+import com.luxstay.luxstay_hotels_v2.domain.repo.ReservationPartitionRepository;
+import com.luxstay.luxstay_hotels_v2.domain.repo.ReservationRollupRepository;
+import com.luxstay.luxstay_hotels_v2.web.dto.AnalyticsDtos;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Keeps reservation_daily_rollup in step with reservations and serves dashboards from it.
+ *
+ * Every ReservationChangedEvent is applied as -before +after, BEFORE_COMMIT, i.e. in the same
+ * transaction as the change itself: the rollup commits or rolls back with the reservation.
+ * Revenue is at the room's current Room.price: a RoomRepricedEvent rebuilds that room's rows, so a
+ * later -before subtracts exactly what was added. After writing reservations outside ReservationService,
+ * call rebuild for the affected days.
+ *
+ * Rebuilds never touch days before the archive horizon (ReservationPartitionRepository.findArchivedThrough):
+ * archived stays are gone from the reservation table, the rollup is all that's left of their nights.
+ */
+@Service
+public class ReservationRollupService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationRollupService.class);
+
+    private final ReservationRollupRepository rollups;
+    private final ReservationPartitionRepository partitions;
+    private final AnalyticsRepository analytics;
+    private final TransactionTemplate tx;
+
+    public ReservationRollupService(ReservationRollupRepository rollups,
+                                    ReservationPartitionRepository partitions,
+                                    AnalyticsRepository analytics,
+                                    PlatformTransactionManager txManager) {
+        this.rollups = rollups;
+        this.partitions = partitions;
+        this.analytics = analytics;
+        this.tx = new TransactionTemplate(txManager);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        ReservationChangedEvent.Stay before = event.before();
+        ReservationChangedEvent.Stay after = event.after();
+        if (sameRollup(before, after)) return; // notes, check-in times...
+
+        if (before != null) apply(before, -1);
+        if (after != null) apply(after, +1);
+    }
+
+    private void apply(ReservationChangedEvent.Stay s, int sign) {
+        if (s.hotelId() == null) return;
+        if (s.blocksRoom()) {
+            rollups.addNights(s.roomId(), s.hotelId(), s.startDate(), s.endDate(), s.price(), s.paid(), sign);
+        } else {
+            rollups.addCancellation(s.roomId(), s.hotelId(), s.startDate(), sign);
+        }
+    }
+
+    private static boolean sameRollup(ReservationChangedEvent.Stay a, ReservationChangedEvent.Stay b) {
+        if (a == null || b == null) return false;
+        return a.blocksRoom() == b.blocksRoom()
+                && a.paid() == b.paid()
+                && Objects.equals(a.roomId(), b.roomId())
+                && Objects.equals(a.startDate(), b.startDate())
+                && Objects.equals(a.endDate(), b.endDate())
+                && Objects.equals(a.price(), b.price());
+    }
+
+    /**
+     * All of the room's days, at its new price. After commit, in its own transaction: the rebuild
+     * has to see the new price, and its lock shouldn't be held for the rest of the room update.
+     */
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoomRepriced(RoomRepricedEvent event) {
+        try {
+            tx.executeWithoutResult(status -> {
+                ReservationRollupRepository.Range all = rollups.findReservationRange();
+                if (all != null) rebuild(all.from(), all.to(), event.roomId());
+            });
+        } catch (RuntimeException e) {
+            log.error("Reservation rollup rebuild for repriced room {} failed", event.roomId(), e);
+        }
+    }
+
+    /**
+     * Backfill: recomputes [from, to) from the reservation table; both null = everything.
+     * `from` is raised to the archive horizon if it's older.
+     * @return rollup rows written
+     */
+    @Transactional
+    public int rebuild(LocalDate from, LocalDate to) {
+        if (from == null && to == null) {
+            ReservationRollupRepository.Range all = rollups.findReservationRange();
+            if (all == null) {
+                from = LocalDate.now();
+                to = from;
+            } else {
+                from = all.from();
+                to = all.to();
+            }
+        }
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "fromDate and toDate are both required, toDate not before fromDate");
+        }
+
+        return rebuild(from, to, null);
+    }
+
+    private int rebuild(LocalDate from, LocalDate to, Long roomId) {
+        LocalDate horizon = partitions.findArchivedThrough();
+        if (horizon != null && from.isBefore(horizon)) {
+            log.info("Reservation rollup rebuild starts at {}: days before it include archived stays", horizon);
+            from = horizon;
+        }
+        if (!to.isAfter(from)) return 0;
+
+        long started = System.nanoTime();
+        int rows = rollups.rebuild(from, to, roomId);
+        log.info("Rebuilt reservation rollup for [{}, {}){}: {} rows in {} ms",
+                from, to, roomId == null ? "" : " room " + roomId, rows, (System.nanoTime() - started) / 1_000_000);
+        return rows;
+    }
+
+    /**
+     * Per hotel and day in [from, to), from the rollup only (a few rows per hotel and day).
+     * Days without bookings are left out.
+     */
+    @Transactional(readOnly = true)
+    public List<AnalyticsDtos.HotelDay> daily(LocalDate from, LocalDate to, Long hotelId, Long chainId) {
+        if (from == null || to == null || !to.isAfter(from)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "fromDate and toDate are required, toDate after fromDate");
+        }
+        if (ChronoUnit.DAYS.between(from, to) > AnalyticsService.MAX_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At most " + AnalyticsService.MAX_DAYS + " days per report");
+        }
+
+        Map<Long, AnalyticsRepository.HotelInventory> hotels = new HashMap<>();
+        for (AnalyticsRepository.HotelInventory h : analytics.findInventory(hotelId, chainId)) hotels.put(h.hotelId(), h);
+
+        return rollups.findDaily(from, to, hotelId, chainId).stream()
+                .map(d -> {
+                    AnalyticsRepository.HotelInventory h = hotels.get(d.hotelId());
+                    int rooms = h == null ? 0 : h.rooms();
+                    return new AnalyticsDtos.HotelDay(
+                            d.hotelId(),
+                            h == null ? null : h.hotelName(),
+                            AnalyticsService.metrics(d.day(), rooms, d.nightsSold(),
+                                    d.revenue().movePointRight(2).longValueExact()),
+                            d.paidRevenue(),
+                            d.cancellations());
+                })
+                .toList();
+    }
+}
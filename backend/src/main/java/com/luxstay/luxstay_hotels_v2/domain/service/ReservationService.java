@@ -7,6 +7,9 @@ import com.luxstay.luxstay_hotels_v2.domain.repo.CustomerRepository;
 import com.luxstay.luxstay_hotels_v2.domain.repo.ReservationRepository;
 import com.luxstay.luxstay_hotels_v2.domain.repo.RoomRepository;
 import com.luxstay.luxstay_hotels_v2.web.dto.ReservationDtos;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,13 +32,28 @@ public class ReservationService {
     private final ReservationRepository reservations;
     private final RoomRepository rooms;
     private final CustomerRepository customers;
+    private final ApplicationEventPublisher events;
+    private final Counter createConflicts;
+    private final Counter updateConflicts;
 
     public ReservationService(ReservationRepository reservations,
                               RoomRepository rooms,
-                              CustomerRepository customers) {
+                              CustomerRepository customers,
+                              ApplicationEventPublisher events,
+                              MeterRegistry metrics) {
         this.reservations = reservations;
         this.rooms = rooms;
         this.customers = customers;
+        this.events = events;
+        this.createConflicts = conflictCounter(metrics, "create");
+        this.updateConflicts = conflictCounter(metrics, "update");
+    }
+
+    private static Counter conflictCounter(MeterRegistry metrics, String operation) {
+        return Counter.builder("luxstay.booking.conflicts")
+                .description("Bookings rejected with 409 because the room is taken for those dates")
+                .tag("operation", operation)
+                .register(metrics);
     }
 
     @Transactional(readOnly = true)
@@ -74,7 +92,7 @@ public class ReservationService {
         Room room = rooms.findById(req.roomId())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Room not found: " + req.roomId()));
 
-        ensureRoomAvailable(room.getId(), req.startDate(), req.endDate(), null);
+        ensureRoomAvailable(room.getId(), req.startDate(), req.endDate(), null, createConflicts);
 
         Customer customer = findOrCreateCustomer(req.customer());
 
@@ -90,13 +108,16 @@ public class ReservationService {
         r.setCheckedInAt(null);
         r.setCheckedOutAt(null);
 
-        return reservations.save(r);
+        Reservation saved = reservations.save(r);
+        events.publishEvent(new ReservationChangedEvent(saved.getId(), null, ReservationChangedEvent.Stay.of(saved)));
+        return saved;
     }
 
     @Transactional
     public Reservation update(Long id, ReservationDtos.UpdateRequest req) {
         Reservation r = reservations.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Reservation not found: " + id));
+        ReservationChangedEvent.Stay before = ReservationChangedEvent.Stay.of(r);
 
         boolean changesDatesOrRoom =
                 (req.roomId() != null) ||
@@ -122,7 +143,7 @@ public class ReservationService {
         }
 
         if (changesDatesOrRoom) {
-            ensureRoomAvailable(newRoomId, newStart, newEnd, r.getId());
+            ensureRoomAvailable(newRoomId, newStart, newEnd, r.getId(), updateConflicts);
         }
 
         r.setStartDate(newStart);
@@ -152,15 +173,19 @@ public class ReservationService {
             }
         }
 
-        return reservations.save(r);
+        Reservation saved = reservations.save(r);
+        events.publishEvent(new ReservationChangedEvent(id, before, ReservationChangedEvent.Stay.of(saved)));
+        return saved;
     }
 
     @Transactional
     public void delete(Long id) {
-        if (!reservations.existsById(id)) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Reservation not found: " + id);
-        }
-        reservations.deleteById(id);
+        Reservation r = reservations.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Reservation not found: " + id));
+        ReservationChangedEvent.Stay before = ReservationChangedEvent.Stay.of(r);
+
+        reservations.delete(r);
+        events.publishEvent(new ReservationChangedEvent(id, before, null));
     }
 
     @Transactional
@@ -176,6 +201,7 @@ public class ReservationService {
                     "Cannot cancel a reservation after check-in.");
         }
 
+        ReservationChangedEvent.Stay before = ReservationChangedEvent.Stay.of(r);
         r.setStatus(STATUS_CANCELLED);
         r.setCancelledAt(LocalDateTime.now());
 
@@ -185,7 +211,9 @@ public class ReservationService {
             r.setNotes(existing.isEmpty() ? add : (existing + "\n" + add));
         }
 
-        return reservations.save(r);
+        Reservation saved = reservations.save(r);
+        events.publishEvent(new ReservationChangedEvent(id, before, ReservationChangedEvent.Stay.of(saved)));
+        return saved;
     }
 
     @Transactional
@@ -198,8 +226,11 @@ public class ReservationService {
 
         if (PAY_PAID.equalsIgnoreCase(r.getPaymentStatus())) return r; // idempotent
 
+        ReservationChangedEvent.Stay before = ReservationChangedEvent.Stay.of(r);
         r.setPaymentStatus(PAY_PAID);
-        return reservations.save(r);
+        Reservation saved = reservations.save(r);
+        events.publishEvent(new ReservationChangedEvent(id, before, ReservationChangedEvent.Stay.of(saved)));
+        return saved;
     }
 
     // ---------- Helpers ----------
@@ -211,9 +242,17 @@ public class ReservationService {
         if (!end.isAfter(start)) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "endDate must be after startDate");
         }
+        if (start.plusDays(Reservation.MAX_NIGHTS).isBefore(end)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "A stay can't be longer than " + Reservation.MAX_NIGHTS + " nights");
+        }
     }
 
-    private void ensureRoomAvailable(Long roomId, LocalDate start, LocalDate end, Long excludeReservationId) {
+    private void ensureRoomAvailable(Long roomId,
+                                     LocalDate start,
+                                     LocalDate end,
+                                     Long excludeReservationId,
+                                     Counter conflictCounter) {
 
         // Fetch conflicts for a detailed error message (overlap rule: [start,end) )
         List<Reservation> conflicts =
@@ -221,6 +260,7 @@ public class ReservationService {
 
         if (conflicts.isEmpty()) return;
 
+        conflictCounter.increment();
         Reservation c = conflicts.get(0); // earliest conflict
 
         String message = String.format(
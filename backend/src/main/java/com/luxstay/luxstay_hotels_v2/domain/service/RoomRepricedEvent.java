@@ -0,0 +1,8 @@
+package com.luxstay.luxstay_hotels_v2.domain.service;
+
+/**
+ * Published by RoomService when a room's price changes (on top of the CatalogChangedEvent).
+ * The reservation rollup prices every night at Room.price, so it rebuilds that room's rows.
+ */
+public record RoomRepricedEvent(Long roomId) {
+}
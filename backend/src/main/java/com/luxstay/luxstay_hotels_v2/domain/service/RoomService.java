@@ -1,11 +1,13 @@
 package com.luxstay.luxstay_hotels_v2.domain.service;
 
+import com.luxstay.luxstay_hotels_v2.config.ReadWriteRoutingDataSource;
 import com.luxstay.luxstay_hotels_v2.domain.Hotel;
 import com.luxstay.luxstay_hotels_v2.domain.Room;
 import com.luxstay.luxstay_hotels_v2.domain.repo.HotelRepository;
 import com.luxstay.luxstay_hotels_v2.domain.repo.ReservationRepository;
 import com.luxstay.luxstay_hotels_v2.domain.repo.RoomRepository;
 import com.luxstay.luxstay_hotels_v2.web.exception.ResourceNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,17 +23,24 @@ public class RoomService {
     private final HotelRepository hotelRepo;
     private final ReservationRepository reservationRepo;
     private final RoomImageUrlSelector roomImageUrlSelector;
+    private final AvailabilityCache availabilityCache;
+    private final ApplicationEventPublisher events;
 
     public RoomService(RoomRepository roomRepo,
                        HotelRepository hotelRepo,
                        ReservationRepository reservationRepo,
-                       RoomImageUrlSelector roomImageUrlSelector) {
+                       RoomImageUrlSelector roomImageUrlSelector,
+                       AvailabilityCache availabilityCache,
+                       ApplicationEventPublisher events) {
         this.roomRepo = roomRepo;
         this.hotelRepo = hotelRepo;
         this.reservationRepo = reservationRepo;
         this.roomImageUrlSelector = roomImageUrlSelector;
+        this.availabilityCache = availabilityCache;
+        this.events = events;
     }
 
+    @Transactional(readOnly = true)
     public List<Room> list(Long hotelId, String city, String chainName) {
         if (hotelId != null) return roomRepo.findByHotelId(hotelId);
         if (city != null && !city.isBlank()) return roomRepo.findByHotelCityIgnoreCase(city);
@@ -39,6 +48,7 @@ public class RoomService {
         return roomRepo.findAll();
     }
 
+    @Transactional(readOnly = true)
     public Room get(Long id) {
         return roomRepo.findById(id).orElseThrow(() -> new ResourceNotFoundException("Room not found: " + id));
     }
@@ -55,11 +65,15 @@ public class RoomService {
             payload.setImageUrl(roomImageUrlSelector.nextUrl());
         }
 
-        return roomRepo.save(payload);
+        Room saved = roomRepo.save(payload);
+        events.publishEvent(new CatalogChangedEvent("room", saved.getId()));
+        return saved;
     }
 
     public Room update(Long id, Room payload) {
         Room existing = get(id);
+        boolean repriced = existing.getPrice() == null || payload.getPrice() == null
+                || existing.getPrice().compareTo(payload.getPrice()) != 0;
         existing.setRoomNumber(payload.getRoomNumber());
         existing.setPrice(payload.getPrice());
         existing.setCapacity(payload.getCapacity());
@@ -67,14 +81,23 @@ public class RoomService {
         existing.setAmenities(payload.getAmenities());
         existing.setProblemsAndDamages(payload.getProblemsAndDamages());
         existing.setImageUrl(payload.getImageUrl());
+        events.publishEvent(new CatalogChangedEvent("room", id));
+        if (repriced) events.publishEvent(new RoomRepricedEvent(id));
         return roomRepo.save(existing);
     }
 
     public void delete(Long id) {
         if (!roomRepo.existsById(id)) throw new ResourceNotFoundException("Room not found: " + id);
         roomRepo.deleteById(id);
+        events.publishEvent(new CatalogChangedEvent("room", id));
     }
 
+    /**
+     * Cached results are always read on the primary: a replica that hasn't replayed the latest
+     * booking yet would otherwise put the sold room back into the cache for the whole TTL.
+     * Pinned callers (read-your-writes window) skip the cache.
+     */
+    @Transactional(readOnly = true)
     public List<Room> available(LocalDate startDate,
                                 LocalDate endDate,
                                 Long hotelId,
@@ -90,14 +113,30 @@ public class RoomService {
             throw new IllegalArgumentException("endDate must be after startDate");
         }
 
-        List<Long> bookedIds = reservationRepo.findBookedRoomIdsInRange(startDate, endDate);
+        AvailabilityCache.Query query =
+                AvailabilityCache.Query.of(startDate, endDate, hotelId, city, chainName, capacity, maxPrice);
+
+        if (ReadWriteRoutingDataSource.pinned()) return searchAvailable(query);
+
+        List<Room> cached = availabilityCache.get(query);
+        if (cached != null) return cached;
+
+        // No statement ran yet in this transaction, so the lazy connection still picks the primary
+        long stamp = availabilityCache.stamp();
+        List<Room> rooms = ReadWriteRoutingDataSource.onPrimary(() -> searchAvailable(query));
+        availabilityCache.put(query, rooms, stamp);
+        return rooms;
+    }
+
+    private List<Room> searchAvailable(AvailabilityCache.Query q) {
+        List<Long> bookedIds = reservationRepo.findBookedRoomIdsInRange(q.startDate(), q.endDate());
 
         return roomRepo.searchAvailableRooms(
-                hotelId,
-                city,
-                chainName,
-                capacity,
-                maxPrice,
+                q.hotelId(),
+                q.city(),
+                q.chainName(),
+                q.capacity(),
+                q.maxPrice(),
                 bookedIds.isEmpty() ? null : bookedIds
         );
     }
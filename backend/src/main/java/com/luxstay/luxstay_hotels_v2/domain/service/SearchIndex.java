@@ -0,0 +1,257 @@
+package com.luxstay.luxstay_hotels_v2.domain.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable inverted index over the text of every room: hotel name, address, city, chain name and amenities.
+ *
+ * Documents are rooms in ascending id order. Each term maps to the rooms containing it (ascending)
+ * with a field-weighted frequency per room: hotel name and city count 3, chain name and amenities 2,
+ * address 1. A query matches the rooms containing every term and scores them
+ * sum(idf(term) * weight), idf = ln(1 + rooms / rooms with the term).
+ *
+ * Terms are lowercased, accent-free runs of letters / digits with a trailing plural "s" dropped
+ * ("Suites" -> "suite"), the same for documents and queries.
+ */
+public final class SearchIndex {
+
+    private static final float NAME = 3;
+    private static final float CITY = 3;
+    private static final float CHAIN = 2;
+    private static final float AMENITIES = 2;
+    private static final float ADDRESS = 1;
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final long[] roomIds;
+    private final int[] capacity;
+    private final long[] priceCents;
+    private final Map<String, Postings> terms;
+    private final long builtAtMillis = System.currentTimeMillis();
+
+    private SearchIndex(long[] roomIds, int[] capacity, long[] priceCents, Map<String, Postings> terms) {
+        this.roomIds = roomIds;
+        this.capacity = capacity;
+        this.priceCents = priceCents;
+        this.terms = terms;
+    }
+
+    public int rooms() { return roomIds.length; }
+
+    public int terms() { return terms.size(); }
+
+    public long builtAtMillis() { return builtAtMillis; }
+
+    public long roomId(int room) { return roomIds[room]; }
+
+    public int capacity(int room) { return capacity[room]; }
+
+    public long priceCents(int room) { return priceCents[room]; }
+
+    /**
+     * Position of the room in the index, or -1.
+     */
+    public int indexOf(long roomId) {
+        int i = Arrays.binarySearch(roomIds, roomId);
+        return i < 0 ? -1 : i;
+    }
+
+    /**
+     * Rooms containing every term (ascending), with their scores. Starts from the rarest term and
+     * narrows the candidates with a binary search per remaining term.
+     */
+    public Matches match(Collection<String> queryTerms) {
+        List<Postings> lists = new ArrayList<>();
+        for (String term : new LinkedHashSet<>(queryTerms)) {
+            Postings p = terms.get(term);
+            if (p == null) return Matches.NONE;
+            lists.add(p);
+        }
+        if (lists.isEmpty()) return Matches.NONE;
+        lists.sort(Comparator.comparingInt(p -> p.docs.length));
+
+        Postings rarest = lists.get(0);
+        int size = rarest.docs.length;
+        int[] docs = rarest.docs.clone();
+        float[] scores = new float[size];
+        for (int i = 0; i < size; i++) scores[i] = rarest.idf * rarest.weights[i];
+
+        for (int k = 1; k < lists.size() && size > 0; k++) {
+            Postings p = lists.get(k);
+            int kept = 0;
+            int from = 0;
+            for (int i = 0; i < size; i++) {
+                int at = Arrays.binarySearch(p.docs, from, p.docs.length, docs[i]);
+                if (at < 0) {
+                    from = -at - 1;
+                    continue;
+                }
+                docs[kept] = docs[i];
+                scores[kept] = scores[i] + p.idf * p.weights[at];
+                kept++;
+                from = at + 1;
+            }
+            size = kept;
+        }
+        return new Matches(docs, scores, size);
+    }
+
+    /**
+     * Terms of a document or query, in order (duplicates kept).
+     */
+    public static List<String> terms(String text) {
+        String folded = fold(text);
+        if (folded.isEmpty()) return List.of();
+
+        List<String> out = new ArrayList<>();
+        for (String token : folded.split(" ")) out.add(singular(token));
+        return out;
+    }
+
+    /**
+     * Lowercase, accents stripped, runs of anything but letters / digits turned into one space, trimmed.
+     * "Québec-City " -> "quebec city"
+     */
+    public static String fold(String text) {
+        if (text == null || text.isBlank()) return "";
+        String s = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("").toLowerCase(Locale.ROOT);
+        return SEPARATORS.matcher(s).replaceAll(" ").trim();
+    }
+
+    private static String singular(String token) {
+        int n = token.length();
+        return n > 3 && token.charAt(n - 1) == 's' && token.charAt(n - 2) != 's' ? token.substring(0, n - 1) : token;
+    }
+
+    /**
+     * Matching rooms: index positions and scores in [0, size).
+     */
+    public static final class Matches {
+
+        static final Matches NONE = new Matches(new int[0], new float[0], 0);
+
+        private final int[] docs;
+        private final float[] scores;
+        private final int size;
+
+        private Matches(int[] docs, float[] scores, int size) {
+            this.docs = docs;
+            this.scores = scores;
+            this.size = size;
+        }
+
+        public int size() { return size; }
+
+        public int room(int i) { return docs[i]; }
+
+        public float score(int i) { return scores[i]; }
+    }
+
+    private static final class Postings {
+
+        final int[] docs;
+        final float[] weights;
+        final float idf;
+
+        Postings(int[] docs, float[] weights, int rooms) {
+            this.docs = docs;
+            this.weights = weights;
+            this.idf = (float) Math.log(1 + (double) rooms / docs.length);
+        }
+    }
+
+    // ---------- Build ----------
+
+    /**
+     * Rooms must be added in ascending id order. Hotel and amenity text repeats across rooms,
+     * so each distinct hotel / amenities string is tokenized once.
+     */
+    public static final class Builder {
+
+        private long[] roomIds = new long[1024];
+        private int[] capacity = new int[1024];
+        private long[] priceCents = new long[1024];
+        private int size;
+
+        private final Map<String, TermPostings> postings = new HashMap<>();
+        private final Map<Long, Map<String, Float>> hotelTerms = new HashMap<>();
+        private final Map<String, Map<String, Float>> amenityTerms = new HashMap<>();
+
+        public Builder add(long roomId, long hotelId, int roomCapacity, long roomPriceCents,
+                           String hotelName, String address, String city, String chainName, String amenities) {
+            if (size > 0 && roomId <= roomIds[size - 1]) {
+                throw new IllegalArgumentException("Rooms must be added in ascending id order: " + roomId);
+            }
+            if (size == roomIds.length) {
+                roomIds = Arrays.copyOf(roomIds, size * 2);
+                capacity = Arrays.copyOf(capacity, size * 2);
+                priceCents = Arrays.copyOf(priceCents, size * 2);
+            }
+            int doc = size++;
+            roomIds[doc] = roomId;
+            capacity[doc] = roomCapacity;
+            priceCents[doc] = roomPriceCents;
+
+            Map<String, Float> hotel = hotelTerms.computeIfAbsent(hotelId, k -> {
+                Map<String, Float> w = new HashMap<>();
+                weigh(w, hotelName, NAME);
+                weigh(w, city, CITY);
+                weigh(w, chainName, CHAIN);
+                weigh(w, address, ADDRESS);
+                return w;
+            });
+            Map<String, Float> room = amenityTerms.computeIfAbsent(amenities == null ? "" : amenities, text -> {
+                Map<String, Float> w = new HashMap<>();
+                weigh(w, text, AMENITIES);
+                return w;
+            });
+
+            hotel.forEach((term, weight) -> postings.computeIfAbsent(term, k -> new TermPostings())
+                    .add(doc, weight + room.getOrDefault(term, 0f)));
+            room.forEach((term, weight) -> {
+                if (!hotel.containsKey(term)) postings.computeIfAbsent(term, k -> new TermPostings()).add(doc, weight);
+            });
+            return this;
+        }
+
+        public SearchIndex build() {
+            Map<String, Postings> terms = new HashMap<>(postings.size() * 2);
+            postings.forEach((term, p) -> terms.put(term, new Postings(
+                    Arrays.copyOf(p.docs, p.size), Arrays.copyOf(p.weights, p.size), size)));
+            return new SearchIndex(Arrays.copyOf(roomIds, size), Arrays.copyOf(capacity, size),
+                    Arrays.copyOf(priceCents, size), terms);
+        }
+
+        private static void weigh(Map<String, Float> weights, String text, float fieldWeight) {
+            for (String term : terms(text)) weights.merge(term, fieldWeight, Float::sum);
+        }
+    }
+
+    private static final class TermPostings {
+
+        int[] docs = new int[8];
+        float[] weights = new float[8];
+        int size;
+
+        void add(int doc, float weight) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            docs[size] = doc;
+            weights[size] = weight;
+            size++;
+        }
+    }
+}
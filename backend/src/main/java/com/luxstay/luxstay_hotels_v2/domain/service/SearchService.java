@@ -0,0 +1,209 @@
+package com.luxstay.luxstay_hotels_v2.domain.service;
+
+import com.luxstay.luxstay_hotels_v2.domain.Reservation;
+import com.luxstay.luxstay_hotels_v2.domain.Room;
+import com.luxstay.luxstay_hotels_v2.domain.repo.ReservationRepository;
+import com.luxstay.luxstay_hotels_v2.domain.repo.RoomRepository;
+import com.luxstay.luxstay_hotels_v2.domain.repo.SearchRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Full-text room search ("ottawa spa king suite") over the in-memory SearchIndex, and search-box
+ * suggestions (city, hotel and chain names by prefix) from the SuggestIndex.
+ *
+ * Both indexes are built on first use and rebuilt in the background after catalog changes; until the
+ * rebuild lands, new text isn't findable and deleted rooms are dropped from the results.
+ * With dates, rooms booked for any night of the stay are filtered out (same rule as /rooms/available);
+ * capacity and maxPrice are checked against the index, so only the returned page is loaded as entities.
+ */
+@Service
+public class SearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchService.class);
+
+    public static final int MAX_TERMS = 10;
+    public static final int MAX_LIMIT = 100;
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_SUGGESTIONS = 20;
+    public static final int DEFAULT_SUGGESTIONS = 8;
+
+    public record Hit(Room room, double score) {}
+
+    public record Result(int matched, List<Hit> hits, long elapsedMs) {}
+
+    private final SearchRepository texts;
+    private final ReservationRepository reservations;
+    private final RoomRepository rooms;
+
+    private volatile SearchIndex index;
+    private volatile SuggestIndex suggestions;
+
+    public SearchService(SearchRepository texts, ReservationRepository reservations, RoomRepository rooms) {
+        this.texts = texts;
+        this.reservations = reservations;
+        this.rooms = rooms;
+    }
+
+    public SearchIndex index() {
+        SearchIndex i = index;
+        if (i != null) return i;
+        synchronized (this) {
+            return index != null ? index : rebuild();
+        }
+    }
+
+    public SuggestIndex suggestIndex() {
+        SuggestIndex s = suggestions;
+        if (s != null) return s;
+        synchronized (this) {
+            return suggestions != null ? suggestions : rebuildSuggestions();
+        }
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        try {
+            if (index != null) rebuild();
+            if (suggestions != null) rebuildSuggestions();
+        } catch (RuntimeException e) {
+            log.warn("Search index rebuild failed, keeping the previous one: {}", e.toString());
+        }
+    }
+
+    public synchronized SearchIndex rebuild() {
+        long started = System.nanoTime();
+        SearchIndex.Builder builder = new SearchIndex.Builder();
+        texts.findRoomText(builder::add);
+
+        SearchIndex built = builder.build();
+        index = built;
+        log.info("Search index built in {} ms: {} rooms, {} terms",
+                (System.nanoTime() - started) / 1_000_000, built.rooms(), built.terms());
+        return built;
+    }
+
+    public synchronized SuggestIndex rebuildSuggestions() {
+        long started = System.nanoTime();
+        SuggestIndex.Builder builder = new SuggestIndex.Builder();
+        texts.findHotels(builder::hotel);
+
+        SuggestIndex built = builder.build();
+        suggestions = built;
+        log.info("Suggestion index built in {} ms: {} names",
+                (System.nanoTime() - started) / 1_000_000, built.size());
+        return built;
+    }
+
+    /**
+     * Cities, hotels and chains with a word starting with `prefix`, most rooms first; empty for a blank prefix.
+     * `type` (CITY / HOTEL / CHAIN, optional) is applied before the limit.
+     */
+    public List<SuggestIndex.Suggestion> suggest(String prefix, String type, Integer limit) {
+        int max = limit == null ? DEFAULT_SUGGESTIONS : limit;
+        if (max < 1 || max > MAX_SUGGESTIONS) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_SUGGESTIONS);
+        }
+        SuggestIndex.Type only = null;
+        if (type != null && !type.isBlank()) {
+            try {
+                only = SuggestIndex.Type.valueOf(type.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown type: " + type + " (use CITY, HOTEL or CHAIN)");
+            }
+        }
+        return suggestIndex().suggest(prefix, only, max);
+    }
+
+    /**
+     * Rooms matching every word of `q`, best first (ties by room id).
+     *
+     * @param endDate exclusive; startDate and endDate are both given or both omitted
+     */
+    @Transactional(readOnly = true)
+    public Result search(String q, LocalDate startDate, LocalDate endDate, Integer capacity, BigDecimal maxPrice,
+                         Integer limit) {
+        if (q == null || q.isBlank()) throw new IllegalArgumentException("q is required");
+        List<String> terms = SearchIndex.terms(q);
+        if (terms.isEmpty()) throw new IllegalArgumentException("q has no searchable words");
+        if (terms.size() > MAX_TERMS) throw new IllegalArgumentException("At most " + MAX_TERMS + " words per search");
+        int max = limit == null ? DEFAULT_LIMIT : limit;
+        if (max < 1 || max > MAX_LIMIT) throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        validateStay(startDate, endDate);
+
+        long started = System.nanoTime();
+        SearchIndex idx = index();
+        SearchIndex.Matches matches = idx.match(terms);
+
+        BitSet booked = new BitSet();
+        if (startDate != null && matches.size() > 0) {
+            for (Long id : reservations.findBookedRoomIdsInRange(startDate, endDate)) {
+                int room = idx.indexOf(id);
+                if (room >= 0) booked.set(room);
+            }
+        }
+        long maxCents = maxPrice == null ? Long.MAX_VALUE
+                : maxPrice.movePointRight(2).setScale(0, RoundingMode.FLOOR).longValueExact();
+
+        // Score bits (monotonic for non-negative floats) above, inverted position below: descending
+        // order of the sorted keys is best score first, then lowest room id
+        long[] keys = new long[matches.size()];
+        int matched = 0;
+        for (int i = 0; i < matches.size(); i++) {
+            int room = matches.room(i);
+            if (booked.get(room)) continue;
+            if (capacity != null && idx.capacity(room) < capacity) continue;
+            if (idx.priceCents(room) > maxCents) continue;
+            keys[matched++] = ((long) Float.floatToIntBits(matches.score(i)) << 32) | (Integer.MAX_VALUE - room);
+        }
+        Arrays.sort(keys, 0, matched);
+
+        int page = Math.min(max, matched);
+        List<Long> ids = new ArrayList<>(page);
+        Map<Long, Double> scores = new HashMap<>();
+        for (int k = 0; k < page; k++) {
+            long key = keys[matched - 1 - k];
+            long roomId = idx.roomId(Integer.MAX_VALUE - (int) key);
+            ids.add(roomId);
+            scores.put(roomId, Math.round(Float.intBitsToFloat((int) (key >>> 32)) * 1000) / 1000.0);
+        }
+
+        Map<Long, Room> loaded = new HashMap<>();
+        for (Room r : rooms.findAllById(ids)) loaded.put(r.getId(), r);
+        List<Hit> hits = new ArrayList<>(page);
+        for (Long id : ids) {
+            Room r = loaded.get(id);
+            if (r != null) hits.add(new Hit(r, scores.get(id)));
+        }
+        return new Result(matched, hits, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private static void validateStay(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null && endDate == null) return;
+        if (startDate == null || endDate == null) {
+            throw new IllegalArgumentException("startDate and endDate go together");
+        }
+        if (!endDate.isAfter(startDate)) {
+            throw new IllegalArgumentException("endDate must be after startDate");
+        }
+        if (startDate.plusDays(Reservation.MAX_NIGHTS).isBefore(endDate)) {
+            throw new IllegalArgumentException("A stay can't be longer than " + Reservation.MAX_NIGHTS + " nights");
+        }
+    }
+}
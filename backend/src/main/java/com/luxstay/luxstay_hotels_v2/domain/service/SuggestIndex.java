@@ -0,0 +1,151 @@
+package com.luxstay.luxstay_hotels_v2.domain.service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable prefix index for the search box: city, hotel and chain names.
+ *
+ * Every word start of every folded name is a key ("hilton toronto airport" -> "hilton toronto airport",
+ * "toronto airport", "airport") in one sorted String[]; the keys starting with a prefix are the range
+ * between two binary searches. Suggestions are numbered best first (most rooms) at build time,
+ * so the top N of a range are its N smallest distinct numbers.
+ */
+public final class SuggestIndex {
+
+    public enum Type { CITY, HOTEL, CHAIN }
+
+    /**
+     * id: hotel / chain id (null for cities); city: the hotel's city (null otherwise).
+     */
+    public record Suggestion(Type type, String label, Long id, String city, int rooms) {}
+
+    private final String[] keys;
+    private final int[] keySuggestion;
+    private final Suggestion[] suggestions;
+    private final long builtAtMillis = System.currentTimeMillis();
+
+    private SuggestIndex(String[] keys, int[] keySuggestion, Suggestion[] suggestions) {
+        this.keys = keys;
+        this.keySuggestion = keySuggestion;
+        this.suggestions = suggestions;
+    }
+
+    public int size() { return suggestions.length; }
+
+    public long builtAtMillis() { return builtAtMillis; }
+
+    /**
+     * Up to `limit` names with a word starting with `prefix` (folded like SearchIndex terms), most rooms first;
+     * only suggestions of `type` unless it is null.
+     */
+    public List<Suggestion> suggest(String prefix, Type type, int limit) {
+        String p = SearchIndex.fold(prefix);
+        if (p.isEmpty() || limit < 1) return List.of();
+
+        int from = lowerBound(p);
+        int to = lowerBound(p + Character.MAX_VALUE);
+        if (from == to) return List.of();
+
+        BitSet found = new BitSet(suggestions.length);
+        for (int k = from; k < to; k++) found.set(keySuggestion[k]);
+
+        List<Suggestion> out = new ArrayList<>(Math.min(limit, to - from));
+        for (int s = found.nextSetBit(0); s >= 0 && out.size() < limit; s = found.nextSetBit(s + 1)) {
+            if (type == null || suggestions[s].type() == type) out.add(suggestions[s]);
+        }
+        return out;
+    }
+
+    /**
+     * First key >= `key` (keys may repeat, e.g. a hotel named after its chain).
+     */
+    private int lowerBound(String key) {
+        int lo = 0;
+        int hi = keys.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid].compareTo(key) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    // ---------- Build ----------
+
+    public static final class Builder {
+
+        private final Map<String, Total> cities = new LinkedHashMap<>();
+        private final Map<Long, Total> chains = new LinkedHashMap<>();
+        private final List<Suggestion> hotels = new ArrayList<>();
+
+        /**
+         * Cities are merged by folded name (the first spelling seen is shown), chains by id.
+         */
+        public Builder hotel(long hotelId, String hotelName, String city, long chainId, String chainName, int rooms) {
+            if (!SearchIndex.fold(hotelName).isEmpty()) {
+                hotels.add(new Suggestion(Type.HOTEL, hotelName, hotelId, city, rooms));
+            }
+            if (!SearchIndex.fold(city).isEmpty()) {
+                cities.computeIfAbsent(SearchIndex.fold(city), k -> new Total(city.trim(), null)).rooms += rooms;
+            }
+            if (!SearchIndex.fold(chainName).isEmpty()) {
+                chains.computeIfAbsent(chainId, k -> new Total(chainName, chainId)).rooms += rooms;
+            }
+            return this;
+        }
+
+        public SuggestIndex build() {
+            List<Suggestion> all = new ArrayList<>(cities.size() + chains.size() + hotels.size());
+            cities.values().forEach(c -> all.add(new Suggestion(Type.CITY, c.label, null, null, c.rooms)));
+            chains.values().forEach(c -> all.add(new Suggestion(Type.CHAIN, c.label, c.id, null, c.rooms)));
+            all.addAll(hotels);
+            all.sort(Comparator.comparingInt(Suggestion::rooms).reversed()
+                    .thenComparing(Suggestion::type)
+                    .thenComparing(Suggestion::label, String.CASE_INSENSITIVE_ORDER));
+
+            Map<String, List<Integer>> byKey = new HashMap<>();
+            for (int s = 0; s < all.size(); s++) {
+                String folded = SearchIndex.fold(all.get(s).label());
+                for (int i = 0; i < folded.length(); i++) {
+                    if (i == 0 || folded.charAt(i - 1) == ' ') {
+                        byKey.computeIfAbsent(folded.substring(i), k -> new ArrayList<>()).add(s);
+                    }
+                }
+            }
+
+            List<String> sorted = new ArrayList<>(byKey.keySet());
+            sorted.sort(null);
+            int n = 0;
+            for (List<Integer> owners : byKey.values()) n += owners.size();
+
+            String[] keys = new String[n];
+            int[] keySuggestion = new int[n];
+            int k = 0;
+            for (String key : sorted) {
+                for (int s : byKey.get(key)) {
+                    keys[k] = key;
+                    keySuggestion[k++] = s;
+                }
+            }
+            return new SuggestIndex(keys, keySuggestion, all.toArray(new Suggestion[0]));
+        }
+    }
+
+    private static final class Total {
+
+        final String label;
+        final Long id;
+        int rooms;
+
+        Total(String label, Long id) {
+            this.label = label;
+            this.id = id;
+        }
+    }
+}
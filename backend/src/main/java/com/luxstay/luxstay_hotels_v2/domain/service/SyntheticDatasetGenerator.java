@@ -0,0 +1,376 @@
+package com.luxstay.luxstay_hotels_v2.domain.service;
+
+import com.luxstay.luxstay_hotels_v2.domain.Customer;
+import com.luxstay.luxstay_hotels_v2.domain.Hotel;
+import com.luxstay.luxstay_hotels_v2.domain.HotelChain;
+import com.luxstay.luxstay_hotels_v2.domain.Reservation;
+import com.luxstay.luxstay_hotels_v2.domain.Room;
+import com.luxstay.luxstay_hotels_v2.domain.enums.IdType;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic synthetic catalog + booking history for scale testing.
+ *
+ * Same Spec (seed included) -> byte-for-byte the same rows, so results from tests and
+ * benchmarks are comparable across runs and machines.
+ *
+ * - chains, hotels (spread over cities), rooms with tiered prices and capacities
+ * - customers, a small "regulars" pool receives most repeat stays
+ * - reservations walked per room along the timeline: never overlapping, gaps shrink in
+ *   high season, a share is CANCELLED, past stays are COMPLETED, current ones checked in
+ *
+ * Rows are handed to a Sink in batches (never the whole dataset at once), with explicit ids
+ * starting at 1 so foreign keys are known without reading anything back.
+ */
+public class SyntheticDatasetGenerator {
+
+    public record Spec(
+            long seed,
+            int chains,
+            int hotels,
+            int rooms,
+            int customers,
+            long reservations,
+            double cancellationRate,
+            double repeatGuestRate,
+            LocalDate today,
+            int historyDays,
+            int futureDays
+    ) {
+        public Spec {
+            if (chains < 1 || hotels < chains || rooms < hotels || customers < 1 || reservations < 0) {
+                throw new IllegalArgumentException("Need chains >= 1, hotels >= chains, rooms >= hotels, customers >= 1");
+            }
+            if (cancellationRate < 0 || cancellationRate > 1 || repeatGuestRate < 0 || repeatGuestRate > 1) {
+                throw new IllegalArgumentException("Rates must be between 0 and 1");
+            }
+        }
+
+        /**
+         * 1k hotels / 100k rooms / 10M reservations over 3 years back and 1 year ahead.
+         */
+        public static Spec large(long seed, LocalDate today) {
+            return new Spec(seed, 11, 1_000, 100_000, 1_000_000, 10_000_000L, 0.12, 0.35, today, 3 * 365, 365);
+        }
+
+        public static Spec small(long seed, LocalDate today) {
+            return new Spec(seed, 11, 40, 1_000, 5_000, 20_000L, 0.12, 0.35, today, 365, 180);
+        }
+    }
+
+    public record Summary(int chains, int hotels, int rooms, int customers, long reservations, long elapsedMs) {}
+
+    /**
+     * Where generated rows go (database, in-memory fixture, ...). Batches may be reused by the caller
+     * after the method returns.
+     */
+    public interface Sink {
+        void reset();
+        void chains(List<HotelChain> batch);
+        void hotels(List<Hotel> batch);
+        void rooms(List<Room> batch);
+        void customers(List<Customer> batch);
+        void reservations(List<Reservation> batch);
+        default void finish() {}
+    }
+
+    private static final int BATCH = 5_000;
+
+    private static final String[] CHAIN_NAMES = {
+            "Delta", "Fairmont Hotels", "Sheraton", "Hampton Inn", "Hilton", "Westin",
+            "Marriott", "Four Seasons Hotels", "Quality Inn", "Hyatt Place", "Ramada"
+    };
+
+    private static final String[] CITIES = {
+            "Ottawa", "Toronto", "Montreal", "Quebec City", "Vancouver", "Calgary", "Edmonton",
+            "Winnipeg", "Halifax", "Victoria", "Kingston", "Gatineau", "Nepean", "Levis", "Banff"
+    };
+
+    private static final String[] STREETS = {
+            "Rideau St", "King St W", "Rue Sainte-Catherine", "Granville St", "Main St",
+            "Elgin St", "Bank St", "Queen St", "Wellington St", "Bay St"
+    };
+
+    private static final String[] AMENITIES = {
+            "WiFi, AC, TV",
+            "WiFi, AC, Smart TV, Work desk",
+            "WiFi, AC, Smart TV, Mini bar",
+            "WiFi, AC, Smart TV, Spa bath, King bed",
+            "WiFi, AC, Kitchenette, Sofa bed",
+            "WiFi, AC, Smart TV, Balcony, Suite"
+    };
+
+    private static final String[] FIRST_NAMES = {
+            "Alex", "Sam", "Jordan", "Taylor", "Morgan", "Casey", "Riley", "Jamie", "Avery", "Quinn"
+    };
+
+    private static final String[] LAST_NAMES = {
+            "Martin", "Roy", "Tremblay", "Smith", "Brown", "Wilson", "Gagnon", "Lee", "Singh", "Nguyen"
+    };
+
+    /**
+     * Relative demand per month (Jan..Dec): summer and December peaks.
+     */
+    private static final double[] SEASON = {0.55, 0.6, 0.75, 0.85, 1.0, 1.25, 1.45, 1.45, 1.05, 0.9, 0.7, 1.1};
+
+    private static final double MEAN_NIGHTS = 2.6;
+    private static final int MAX_NIGHTS = 14;
+
+    private final Sink sink;
+
+    public SyntheticDatasetGenerator(Sink sink) {
+        this.sink = sink;
+    }
+
+    public Summary generate(Spec spec) {
+        long started = System.nanoTime();
+        SplittableRandom root = new SplittableRandom(spec.seed());
+
+        sink.reset();
+        List<HotelChain> chains = chains(spec);
+        hotels(spec, chains, root.split());
+        int[] roomHotel = rooms(spec, root.split());
+        customers(spec, root.split());
+        long reservations = reservations(spec, roomHotel, root.split());
+        sink.finish();
+
+        return new Summary(spec.chains(), spec.hotels(), spec.rooms(), spec.customers(), reservations,
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    // ---------- Catalog ----------
+
+    private List<HotelChain> chains(Spec spec) {
+        List<HotelChain> chains = new ArrayList<>(spec.chains());
+        for (int i = 0; i < spec.chains(); i++) {
+            String name = i < CHAIN_NAMES.length ? CHAIN_NAMES[i] : "Chain " + (i + 1);
+            chains.add(HotelChain.builder().id((long) i + 1).name(name).build());
+        }
+        sink.chains(chains);
+        return chains;
+    }
+
+    private void hotels(Spec spec, List<HotelChain> chains, SplittableRandom rnd) {
+        List<Hotel> batch = new ArrayList<>(BATCH);
+        for (int i = 0; i < spec.hotels(); i++) {
+            HotelChain chain = chains.get(i % chains.size());
+            String city = CITIES[skewed(rnd, CITIES.length)];
+
+            batch.add(Hotel.builder()
+                    .id((long) i + 1)
+                    .chain(chain)
+                    .name(chain.getName() + " " + city + " " + (i + 1))
+                    .address((100 + rnd.nextInt(9_900)) + " " + STREETS[rnd.nextInt(STREETS.length)] + ", " + city)
+                    .city(city)
+                    .email("hotel-" + (i + 1) + "@luxstay.test")
+                    .rating(1 + rnd.nextInt(5))
+                    .build());
+
+            if (batch.size() == BATCH) flushHotels(batch);
+        }
+        flushHotels(batch);
+    }
+
+    /**
+     * @return hotel index (0-based) for each room index
+     */
+    private int[] rooms(Spec spec, SplittableRandom rnd) {
+        int[] roomHotel = new int[spec.rooms()];
+        List<Room> batch = new ArrayList<>(BATCH);
+
+        int perHotel = spec.rooms() / spec.hotels();
+        int extra = spec.rooms() % spec.hotels();
+        int roomIndex = 0;
+
+        for (int h = 0; h < spec.hotels(); h++) {
+            int count = perHotel + (h < extra ? 1 : 0);
+            Hotel hotel = Hotel.builder().id((long) h + 1).build();
+            int tier = h % 4; // 0 budget .. 3 luxury
+
+            for (int n = 0; n < count; n++) {
+                int capacity = 1 + skewed(rnd, 5);
+                BigDecimal price = BigDecimal.valueOf(
+                        (80 + tier * 70 + capacity * 25 + rnd.nextInt(60)) * 100L + rnd.nextInt(100), 2);
+
+                roomHotel[roomIndex] = h;
+                batch.add(Room.builder()
+                        .id((long) roomIndex + 1)
+                        .hotel(hotel)
+                        .roomNumber((n / 40 + 1) * 100 + n % 40 + 1)
+                        .price(price)
+                        .capacity(capacity)
+                        .extendable(rnd.nextInt(3) != 0)
+                        .amenities(AMENITIES[Math.min(AMENITIES.length - 1, tier + rnd.nextInt(3))])
+                        .problemsAndDamages(rnd.nextInt(20) == 0 ? "Loose cabinet hinge (reported)" : null)
+                        .build());
+                roomIndex++;
+
+                if (batch.size() == BATCH) flushRooms(batch);
+            }
+        }
+        flushRooms(batch);
+        return roomHotel;
+    }
+
+    private void customers(Spec spec, SplittableRandom rnd) {
+        List<Customer> batch = new ArrayList<>(BATCH);
+        LocalDate registeredFrom = spec.today().minusDays(spec.historyDays() + 365L);
+
+        for (int i = 0; i < spec.customers(); i++) {
+            String first = FIRST_NAMES[rnd.nextInt(FIRST_NAMES.length)];
+            String last = LAST_NAMES[rnd.nextInt(LAST_NAMES.length)];
+
+            batch.add(Customer.builder()
+                    .id((long) i + 1)
+                    .fullName(first + " " + last)
+                    .address((1 + rnd.nextInt(999)) + " " + STREETS[rnd.nextInt(STREETS.length)])
+                    .dateOfBirth(LocalDate.of(1950 + rnd.nextInt(55), 1 + rnd.nextInt(12), 1 + rnd.nextInt(28)))
+                    .idNumber(String.format("SYN%09d", i + 1))
+                    .idType(IdType.values()[rnd.nextInt(IdType.values().length)])
+                    .email("guest-" + (i + 1) + "@luxstay.test")
+                    .registrationDate(registeredFrom.plusDays(rnd.nextInt(spec.historyDays() + 365)))
+                    .build());
+
+            if (batch.size() == BATCH) flushCustomers(batch);
+        }
+        flushCustomers(batch);
+    }
+
+    // ---------- Bookings ----------
+
+    private long reservations(Spec spec, int[] roomHotel, SplittableRandom rnd) {
+        LocalDate from = spec.today().minusDays(spec.historyDays());
+        LocalDate to = spec.today().plusDays(spec.futureDays());
+        long horizon = spec.historyDays() + (long) spec.futureDays();
+
+        int rooms = roomHotel.length;
+        long perRoom = spec.reservations() / rooms;
+        long extra = spec.reservations() % rooms;
+        int regulars = Math.max(1, spec.customers() / 20);
+
+        List<Reservation> batch = new ArrayList<>(BATCH);
+        long id = 0;
+
+        for (int r = 0; r < rooms; r++) {
+            long budget = perRoom + (r < extra ? 1 : 0);
+            if (budget == 0) continue;
+
+            Room room = Room.builder().id((long) r + 1).build();
+            // mean free nights between stays so that `budget` stays roughly fill the horizon
+            double meanGap = Math.max(0.2, horizon / (double) budget - MEAN_NIGHTS);
+            LocalDate cursor = from.plusDays((long) (rnd.nextDouble() * meanGap));
+
+            for (long n = 0; n < budget && cursor.isBefore(to); n++) {
+                int nights = Math.min(MAX_NIGHTS, 1 + geometric(rnd, MEAN_NIGHTS - 1));
+                LocalDate start = cursor;
+                LocalDate end = start.plusDays(nights);
+
+                int customer = rnd.nextDouble() < spec.repeatGuestRate()
+                        ? 1 + rnd.nextInt(regulars)
+                        : 1 + rnd.nextInt(spec.customers());
+
+                batch.add(reservation(++id, room, customer, start, end, spec, rnd));
+                if (batch.size() == BATCH) flushReservations(batch);
+
+                // high season -> shorter gaps (rooms fill up)
+                double season = SEASON[end.getMonthValue() - 1];
+                cursor = end.plusDays(geometric(rnd, meanGap / season));
+            }
+        }
+        flushReservations(batch);
+        return id;
+    }
+
+    private static Reservation reservation(long id, Room room, int customer,
+                                           LocalDate start, LocalDate end,
+                                           Spec spec, SplittableRandom rnd) {
+        LocalDate today = spec.today();
+        LocalDateTime createdAt = start.minusDays(geometric(rnd, 30)).atTime(LocalTime.of(8 + rnd.nextInt(14), rnd.nextInt(60)));
+
+        Reservation.ReservationBuilder b = Reservation.builder()
+                .id(id)
+                .room(room)
+                .customer(Customer.builder().id((long) customer).build())
+                .startDate(start)
+                .endDate(end)
+                .createdAt(createdAt)
+                .updatedAt(createdAt);
+
+        if (rnd.nextDouble() < spec.cancellationRate()) {
+            LocalDateTime cancelledAt = createdAt.plusHours(1 + rnd.nextInt(
+                    (int) Math.max(1, Duration.between(createdAt, start.atStartOfDay()).toHours())));
+            return b.status(ReservationService.STATUS_CANCELLED)
+                    .paymentStatus(ReservationService.PAY_UNPAID)
+                    .cancelledAt(cancelledAt)
+                    .updatedAt(cancelledAt)
+                    .build();
+        }
+
+        if (!end.isAfter(today)) {
+            return b.status(ReservationService.STATUS_COMPLETED)
+                    .paymentStatus(ReservationService.PAY_PAID)
+                    .checkedInAt(start.atTime(15, rnd.nextInt(60)))
+                    .checkedOutAt(end.atTime(10, rnd.nextInt(60)))
+                    .updatedAt(end.atTime(11, 0))
+                    .build();
+        }
+
+        if (!start.isAfter(today)) {
+            return b.status(ReservationService.STATUS_ACTIVE)
+                    .paymentStatus(rnd.nextInt(4) == 0 ? ReservationService.PAY_UNPAID : ReservationService.PAY_PAID)
+                    .checkedInAt(start.atTime(15, rnd.nextInt(60)))
+                    .build();
+        }
+
+        return b.status(ReservationService.STATUS_ACTIVE)
+                .paymentStatus(rnd.nextInt(3) == 0 ? ReservationService.PAY_PAID : ReservationService.PAY_UNPAID)
+                .build();
+    }
+
+    // ---------- Helpers ----------
+
+    /**
+     * Geometric number of trials-before-success with the given mean (>= 0).
+     */
+    private static int geometric(SplittableRandom rnd, double mean) {
+        if (mean <= 0) return 0;
+        double p = 1.0 / (mean + 1.0);
+        return (int) Math.min(Integer.MAX_VALUE, Math.floor(Math.log(1 - rnd.nextDouble()) / Math.log(1 - p)));
+    }
+
+    /**
+     * Index in [0, n) biased towards the first entries (big cities get more hotels).
+     */
+    private static int skewed(SplittableRandom rnd, int n) {
+        double u = rnd.nextDouble();
+        return Math.min(n - 1, (int) (u * u * n));
+    }
+
+    private void flushHotels(List<Hotel> batch) {
+        if (!batch.isEmpty()) sink.hotels(batch);
+        batch.clear();
+    }
+
+    private void flushRooms(List<Room> batch) {
+        if (!batch.isEmpty()) sink.rooms(batch);
+        batch.clear();
+    }
+
+    private void flushCustomers(List<Customer> batch) {
+        if (!batch.isEmpty()) sink.customers(batch);
+        batch.clear();
+    }
+
+    private void flushReservations(List<Reservation> batch) {
+        if (!batch.isEmpty()) sink.reservations(batch);
+        batch.clear();
+    }
+}
@@ -0,0 +1,147 @@
+package com.luxstay.luxstay_hotels_v2.web;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit that adapts to latency (gradient style, as in Netflix concurrency-limits).
+ *
+ * - longRtt: slow moving average of response times = what "healthy" looks like
+ * - shortRtt: fast moving average = what it looks like right now
+ * - gradient = clamp(tolerance * longRtt / shortRtt, 0.5, 1): 1 while latency is normal,
+ *   below 1 as soon as requests start queueing somewhere (pool, database)
+ * - newLimit = limit * gradient + headroom; smoothed, clamped to [minLimit, maxLimit]
+ *
+ * Above the limit, callers wait in a bounded queue for at most maxWait; beyond that they are
+ * rejected immediately so the caller can answer 503 instead of piling up.
+ */
+public class AdaptiveLimiter {
+
+    public record Stats(int limit, int inFlight, int queued, long admitted, long rejected, double shortRttMs, double longRttMs) {}
+
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double SHORT_ALPHA = 0.1;    // ~10 samples
+    private static final double LONG_ALPHA = 1 / 600.0; // ~600 samples
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueue;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+
+    // guarded by lock
+    private double limit;
+    private int inFlight;
+    private int queued;
+    private double shortRtt;
+    private double longRtt;
+
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public AdaptiveLimiter(int initialLimit, int minLimit, int maxLimit, int maxQueue) {
+        if (minLimit < 1 || maxLimit < minLimit) throw new IllegalArgumentException("invalid limiter bounds");
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.maxQueue = maxQueue;
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+    }
+
+    /**
+     * @return true if admitted; the caller must then call release(...) exactly once
+     */
+    public boolean tryAcquire(long maxWaitNanos) throws InterruptedException {
+        lock.lock();
+        try {
+            if (inFlight < (int) limit) {
+                inFlight++;
+                admitted.increment();
+                return true;
+            }
+            if (queued >= maxQueue || maxWaitNanos <= 0) {
+                rejected.increment();
+                return false;
+            }
+
+            queued++;
+            try {
+                long remaining = maxWaitNanos;
+                while (inFlight >= (int) limit) {
+                    if (remaining <= 0) {
+                        rejected.increment();
+                        return false;
+                    }
+                    remaining = released.awaitNanos(remaining);
+                }
+            } finally {
+                queued--;
+            }
+            inFlight++;
+            admitted.increment();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param rttNanos time the admitted request took; failures that didn't reach the database may pass -1
+     */
+    public void release(long rttNanos) {
+        lock.lock();
+        try {
+            inFlight--;
+            if (rttNanos > 0) sample(rttNanos);
+            released.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Queue pressure, used by lower-priority endpoints to step aside.
+     */
+    public boolean congested() {
+        lock.lock();
+        try {
+            return queued > 0 || inFlight >= (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Stats stats() {
+        lock.lock();
+        try {
+            return new Stats((int) limit, inFlight, queued, admitted.sum(), rejected.sum(),
+                    shortRtt / 1_000_000.0, longRtt / 1_000_000.0);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void sample(long rtt) {
+        if (longRtt == 0) {
+            shortRtt = longRtt = rtt;
+            return;
+        }
+        shortRtt += (rtt - shortRtt) * SHORT_ALPHA;
+        longRtt += (rtt - longRtt) * LONG_ALPHA;
+
+        // Latency fell far below the baseline (load went away): let the baseline follow it down
+        if (longRtt / shortRtt > 2) longRtt *= 0.95;
+
+        double gradient = Math.clamp(TOLERANCE * longRtt / shortRtt, 0.5, 1.0);
+        double headroom = Math.sqrt(limit);
+        double newLimit = limit * gradient + headroom;
+
+        limit = Math.clamp(limit * (1 - SMOOTHING) + newLimit * SMOOTHING, minLimit, maxLimit);
+
+        // The limit may have grown: let queued callers re-check
+        released.signalAll();
+    }
+}
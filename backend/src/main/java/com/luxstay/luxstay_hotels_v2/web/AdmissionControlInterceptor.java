@@ -0,0 +1,125 @@
+package com.luxstay.luxstay_hotels_v2.web;
+
+import com.luxstay.luxstay_hotels_v2.web.exception.ServiceOverloadedException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Admission control for the endpoints that can saturate the connection pool.
+ *
+ * Each endpoint has its own AdaptiveLimiter. Bookings (create / pay) have priority:
+ * - they may queue for up to 2s, searches and list scans only for a few milliseconds
+ * - while bookings are congested, searches and unfiltered reservation lists are shed outright
+ *
+ * Shed requests get 503 + Retry-After (ServiceOverloadedException) before touching the database.
+ * Runs as a HandlerInterceptor (not a servlet filter) so CORS headers are already on the 503.
+ */
+@Component
+public class AdmissionControlInterceptor implements HandlerInterceptor {
+
+    public enum Endpoint {
+        BOOKING(true, 20, 2_000, 200),
+        PAYMENT(true, 10, 2_000, 100),
+        SEARCH(false, 20, 25, 20),
+        RESERVATION_SCAN(false, 4, 0, 0);
+
+        final boolean priority;
+        final int initialLimit;
+        final long maxWaitMillis;
+        final int maxQueue;
+
+        Endpoint(boolean priority, int initialLimit, long maxWaitMillis, int maxQueue) {
+            this.priority = priority;
+            this.initialLimit = initialLimit;
+            this.maxWaitMillis = maxWaitMillis;
+            this.maxQueue = maxQueue;
+        }
+    }
+
+    public record Stats(AdaptiveLimiter.Stats limiter, long shedForPriority) {}
+
+    private static final String ADMITTED = AdmissionControlInterceptor.class.getName() + ".admitted";
+    private static final String STARTED = AdmissionControlInterceptor.class.getName() + ".started";
+
+    private final Map<Endpoint, AdaptiveLimiter> limiters = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> shedForPriority = new EnumMap<>(Endpoint.class);
+    private final Duration retryAfter;
+
+    public AdmissionControlInterceptor(@Value("${luxstay.admission.max-limit:100}") int maxLimit,
+                                       @Value("${luxstay.admission.retry-after:1s}") Duration retryAfter) {
+        for (Endpoint e : Endpoint.values()) {
+            limiters.put(e, new AdaptiveLimiter(e.initialLimit, 1, Math.max(maxLimit, e.initialLimit), e.maxQueue));
+            shedForPriority.put(e, new LongAdder());
+        }
+        this.retryAfter = retryAfter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws InterruptedException {
+        Endpoint endpoint = classify(request);
+        if (endpoint == null) return true;
+
+        if (!endpoint.priority && bookingsCongested()) {
+            shedForPriority.get(endpoint).increment();
+            throw new ServiceOverloadedException("Busy serving bookings, retry shortly", retryAfter);
+        }
+
+        AdaptiveLimiter limiter = limiters.get(endpoint);
+        if (!limiter.tryAcquire(Duration.ofMillis(endpoint.maxWaitMillis).toNanos())) {
+            throw new ServiceOverloadedException("Too many concurrent requests, retry shortly", retryAfter);
+        }
+
+        request.setAttribute(ADMITTED, endpoint);
+        request.setAttribute(STARTED, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(ADMITTED) instanceof Endpoint endpoint)) return;
+        request.removeAttribute(ADMITTED);
+
+        // 4xx never reached the expensive part: don't let them teach the limiter "fast"
+        long rtt = response.getStatus() >= 400 && response.getStatus() < 500
+                ? -1
+                : System.nanoTime() - (long) request.getAttribute(STARTED);
+        limiters.get(endpoint).release(rtt);
+    }
+
+    public Map<Endpoint, Stats> stats() {
+        Map<Endpoint, Stats> out = new LinkedHashMap<>();
+        limiters.forEach((e, limiter) -> out.put(e, new Stats(limiter.stats(), shedForPriority.get(e).sum())));
+        return out;
+    }
+
+    private boolean bookingsCongested() {
+        return limiters.get(Endpoint.BOOKING).congested() || limiters.get(Endpoint.PAYMENT).congested();
+    }
+
+    private static Endpoint classify(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) return null;
+
+        return switch (request.getMethod() + " " + pattern) {
+            case "POST /api/v2/reservations" -> Endpoint.BOOKING;
+            case "POST /api/v2/reservations/{id}/pay" -> Endpoint.PAYMENT;
+            case "GET /api/v2/rooms/available", "GET /api/v2/search" -> Endpoint.SEARCH;
+            // Only unfiltered lists scan the whole table; by room / customer is cheap
+            case "GET /api/v2/reservations" -> request.getParameter("roomId") == null
+                    && request.getParameter("customerId") == null ? Endpoint.RESERVATION_SCAN : null;
+            case "GET /api/v2/reservations/archive", "GET /api/v2/analytics/occupancy" -> Endpoint.RESERVATION_SCAN;
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,67 @@
+package com.luxstay.luxstay_hotels_v2.web;
+
+import com.luxstay.luxstay_hotels_v2.domain.service.AnalyticsService;
+import com.luxstay.luxstay_hotels_v2.domain.service.ReservationRollupService;
+import com.luxstay.luxstay_hotels_v2.web.dto.AnalyticsDtos;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v2/analytics")
+public class AnalyticsController {
+
+    private final AnalyticsService service;
+    private final ReservationRollupService rollups;
+
+    public AnalyticsController(AnalyticsService service, ReservationRollupService rollups) {
+        this.service = service;
+        this.rollups = rollups;
+    }
+
+    /**
+     * Occupancy, ADR and RevPAR per day for [fromDate, toDate), per hotel (default) or per chain.
+     */
+    @GetMapping("/occupancy")
+    public AnalyticsDtos.OccupancyReport occupancy(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @RequestParam(defaultValue = "HOTEL") String groupBy,
+            @RequestParam(required = false) Long hotelId,
+            @RequestParam(required = false) Long chainId
+    ) {
+        AnalyticsService.GroupBy group = AnalyticsService.GroupBy.valueOf(groupBy.trim().toUpperCase());
+        return service.occupancy(fromDate, toDate, group, hotelId, chainId);
+    }
+
+    /**
+     * Dashboard view: per hotel and day from the pre-aggregated rollup (days without bookings omitted).
+     */
+    @GetMapping("/daily")
+    public List<AnalyticsDtos.HotelDay> daily(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @RequestParam(required = false) Long hotelId,
+            @RequestParam(required = false) Long chainId
+    ) {
+        return rollups.daily(fromDate, toDate, hotelId, chainId);
+    }
+
+    /**
+     * Recomputes the rollup for [fromDate, toDate) from the reservations; no dates = all of it.
+     */
+    @PostMapping("/rollups/rebuild")
+    public Map<String, Object> rebuild(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate
+    ) {
+        return Map.of("rows", rollups.rebuild(fromDate, toDate));
+    }
+}
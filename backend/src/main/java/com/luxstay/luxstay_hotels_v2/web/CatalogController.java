@@ -0,0 +1,44 @@
+package com.luxstay.luxstay_hotels_v2.web;
+
+import com.luxstay.luxstay_hotels_v2.domain.service.CatalogImportService;
+import com.luxstay.luxstay_hotels_v2.web.dto.CatalogDtos;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.Reader;
+import java.util.List;
+
+/**
+ * Admin bulk import. Request bodies are raw CSV (text/csv) in the data/*.csv formats and are
+ * streamed straight into the loader — no need to buffer the file in memory.
+ */
+@RestController
+@RequestMapping("/api/v2/catalog")
+public class CatalogController {
+
+    private final CatalogImportService service;
+
+    public CatalogController(CatalogImportService service) {
+        this.service = service;
+    }
+
+    @PostMapping("/hotels/import")
+    public CatalogDtos.ImportReport importHotels(Reader body) {
+        return service.importHotels("request", body);
+    }
+
+    @PostMapping("/rooms/import")
+    public CatalogDtos.ImportReport importRooms(Reader body) {
+        return service.importRooms("request", body);
+    }
+
+    /**
+     * Loads the bundled data/hotels.csv then data/rooms.csv.
+     * Expects the default chains (POST /api/v2/chains/reset-and-seed) and an empty hotel table.
+     */
+    @PostMapping("/import-bundled")
+    public List<CatalogDtos.ImportReport> importBundled() {
+        return service.importBundled();
+    }
+}
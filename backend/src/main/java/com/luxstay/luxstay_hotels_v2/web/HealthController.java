@@ -1,5 +1,9 @@
 package com.luxstay.luxstay_hotels_v2.web;
 
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -9,8 +13,29 @@ import java.util.Map;
 @RestController
 @RequestMapping("/api/v2")
 public class HealthController {
+
+    private final ApplicationAvailability availability;
+
+    public HealthController(ApplicationAvailability availability) {
+        this.availability = availability;
+    }
+
+    /**
+     * Liveness: the process is up (answers during warm-up too).
+     */
     @GetMapping("/health")
     public Map<String, String> health() {
         return Map.of("status", "ok");
     }
+
+    /**
+     * Readiness: 503 until startup runners (data loading, WarmupRunner) are done.
+     */
+    @GetMapping("/ready")
+    public ResponseEntity<Map<String, String>> ready() {
+        if (availability.getReadinessState() == ReadinessState.ACCEPTING_TRAFFIC) {
+            return ResponseEntity.ok(Map.of("status", "ready"));
+        }
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("status", "warming-up"));
+    }
 }
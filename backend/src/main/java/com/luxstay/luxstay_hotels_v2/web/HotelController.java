@@ -1,21 +1,31 @@
 package com.luxstay.luxstay_hotels_v2.web;
 
 import com.luxstay.luxstay_hotels_v2.domain.Hotel;
+import com.luxstay.luxstay_hotels_v2.domain.service.FrontDeskService;
 import com.luxstay.luxstay_hotels_v2.domain.service.HotelService;
+import com.luxstay.luxstay_hotels_v2.web.dto.FrontDeskDtos;
 import com.luxstay.luxstay_hotels_v2.web.dto.HotelDtos;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 
 @RestController
 @RequestMapping("/api/v2/hotels")
 public class HotelController {
 
     private final HotelService service;
+    private final FrontDeskService frontDesk;
+    private final RequestCoalescer coalescer;
 
-    public HotelController(HotelService service) {
+    public HotelController(HotelService service, FrontDeskService frontDesk, RequestCoalescer coalescer) {
         this.service = service;
+        this.frontDesk = frontDesk;
+        this.coalescer = coalescer;
     }
 
     @GetMapping
@@ -23,7 +33,10 @@ public class HotelController {
             @RequestParam(required = false) Long chainId,
             @RequestParam(required = false) String city
     ) {
-        return service.list(chainId, city).stream().map(this::toDto).toList();
+        List<Hotel> hotels = coalescer.coalesce("hotels.list",
+                Arrays.asList(chainId, city == null ? null : city.toLowerCase(Locale.ROOT)),
+                () -> service.list(chainId, city));
+        return hotels.stream().map(this::toDto).toList();
     }
 
     @GetMapping("/{id}")
@@ -31,6 +44,17 @@ public class HotelController {
         return toDto(service.get(id));
     }
 
+    /**
+     * Front desk: arrivals, departures and in-house guests on `date` (default today).
+     */
+    @GetMapping("/{id}/day-view")
+    public FrontDeskDtos.DayView dayView(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    ) {
+        return frontDesk.dayView(id, date);
+    }
+
     @PostMapping
     public HotelDtos.Response create(@Valid @RequestBody HotelDtos.CreateRequest req) {
         Hotel payload = Hotel.builder()
@@ -0,0 +1,144 @@
+package com.luxstay.luxstay_hotels_v2.web;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * In-memory copy of static/images/logos, prepared once at startup:
+ * - content fingerprint (used in /assets/logos/{name}.{hash}.{ext} and as ETag)
+ * - gzip variant, kept only when it actually saves bytes
+ * - thumbnails for a few fixed widths, rendered on first use and then cached
+ */
+@Component
+public class LogoAssetCache {
+
+    public static final Set<Integer> THUMBNAIL_WIDTHS = Set.of(64, 128, 256);
+
+    private static final String LOCATION = "classpath:static/images/logos/*";
+
+    public record Asset(String file, String fingerprint, MediaType contentType, byte[] bytes, byte[] gzip) {
+
+        public String etag() {
+            return "\"" + fingerprint + "\"";
+        }
+
+        /**
+         * Strong ETags must differ per content encoding.
+         */
+        public String gzipEtag() {
+            return "\"" + fingerprint + "-gz\"";
+        }
+
+        public String fingerprintedFile() {
+            int dot = file.lastIndexOf('.');
+            return dot < 0 ? file + "." + fingerprint : file.substring(0, dot) + "." + fingerprint + file.substring(dot);
+        }
+    }
+
+    private final Map<String, Asset> byFile = new ConcurrentHashMap<>();
+    private final Map<String, Asset> byFingerprintedFile = new ConcurrentHashMap<>();
+    private final Map<String, Asset> thumbnails = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void load() throws IOException {
+        for (Resource r : new PathMatchingResourcePatternResolver().getResources(LOCATION)) {
+            String file = r.getFilename();
+            if (file == null || !r.isReadable()) continue;
+
+            try (InputStream in = r.getInputStream()) {
+                Asset asset = asset(file, in.readAllBytes());
+                byFile.put(file, asset);
+                byFingerprintedFile.put(asset.fingerprintedFile(), asset);
+            }
+        }
+    }
+
+    public Asset get(String file) {
+        return byFile.get(file);
+    }
+
+    public Asset getFingerprinted(String fingerprintedFile) {
+        return byFingerprintedFile.get(fingerprintedFile);
+    }
+
+    /**
+     * @return a PNG no wider than `width` (never upscaled), or null for an unknown file / width
+     */
+    public Asset thumbnail(Asset original, int width) {
+        if (!THUMBNAIL_WIDTHS.contains(width)) return null;
+        return thumbnails.computeIfAbsent(original.file() + "@" + width, k -> resize(original, width));
+    }
+
+    /**
+     * file -> fingerprinted file name, for clients that want immutable URLs.
+     */
+    public Map<String, String> manifest() {
+        Map<String, String> out = new TreeMap<>();
+        byFile.forEach((file, asset) -> out.put(file, asset.fingerprintedFile()));
+        return out;
+    }
+
+    private Asset resize(Asset original, int width) {
+        try {
+            BufferedImage src = ImageIO.read(new ByteArrayInputStream(original.bytes()));
+            if (src == null || src.getWidth() <= width) return original;
+
+            int height = Math.max(1, Math.round(src.getHeight() * (width / (float) src.getWidth())));
+            BufferedImage dst = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = dst.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                g.drawImage(src, 0, 0, width, height, null);
+            } finally {
+                g.dispose();
+            }
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(dst, "png", out);
+
+            String base = original.file().substring(0, original.file().lastIndexOf('.'));
+            return asset(base + "-w" + width + ".png", out.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Asset asset(String file, byte[] bytes) {
+        String fingerprint = DigestUtils.md5DigestAsHex(bytes).substring(0, 12);
+        MediaType type = MediaTypeFactory.getMediaType(file).orElse(MediaType.APPLICATION_OCTET_STREAM);
+        return new Asset(file, fingerprint, type, bytes, gzipIfSmaller(bytes));
+    }
+
+    private static byte[] gzipIfSmaller(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length);
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        // PNGs are already deflated: only keep gzip when it saves at least 10%
+        return out.size() < bytes.length * 0.9 ? out.toByteArray() : null;
+    }
+}
@@ -0,0 +1,96 @@
+package com.luxstay.luxstay_hotels_v2.web;
+
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Chain logos from LogoAssetCache instead of the default jar resource handler.
+ *
+ * /images/logos/{file}          existing URLs, cached for a day and revalidated by ETag
+ * /assets/logos/{name.hash.ext} fingerprinted URLs, cached forever (immutable)
+ * ?w=64|128|256                 resized thumbnail
+ *
+ * Bodies are Resources, so Spring answers Range requests (206) on its own.
+ */
+@RestController
+public class LogoAssetController {
+
+    private static final CacheControl REVALIDATE = CacheControl.maxAge(Duration.ofDays(1)).cachePublic();
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+    private final LogoAssetCache cache;
+
+    public LogoAssetController(LogoAssetCache cache) {
+        this.cache = cache;
+    }
+
+    @GetMapping("/images/logos/{file}")
+    public ResponseEntity<Resource> logo(@PathVariable String file,
+                                         @RequestParam(required = false) Integer w,
+                                         @RequestHeader HttpHeaders headers) {
+        return serve(cache.get(file), w, REVALIDATE, headers);
+    }
+
+    @GetMapping("/assets/logos/{file}")
+    public ResponseEntity<Resource> fingerprinted(@PathVariable String file,
+                                                  @RequestParam(required = false) Integer w,
+                                                  @RequestHeader HttpHeaders headers) {
+        return serve(cache.getFingerprinted(file), w, IMMUTABLE, headers);
+    }
+
+    /**
+     * logo file -> fingerprinted file (serve it from /assets/logos/).
+     */
+    @GetMapping("/api/v2/assets/logos")
+    public Map<String, String> manifest() {
+        return cache.manifest();
+    }
+
+    private ResponseEntity<Resource> serve(LogoAssetCache.Asset asset,
+                                           Integer width,
+                                           CacheControl cacheControl,
+                                           HttpHeaders request) {
+        if (asset == null) return ResponseEntity.notFound().build();
+
+        if (width != null) {
+            asset = cache.thumbnail(asset, width);
+            if (asset == null) {
+                throw new IllegalArgumentException("w must be one of " + LogoAssetCache.THUMBNAIL_WIDTHS);
+            }
+        }
+
+        String acceptEncoding = request.getFirst(HttpHeaders.ACCEPT_ENCODING);
+        boolean gzip = asset.gzip() != null
+                && request.getFirst(HttpHeaders.RANGE) == null
+                && acceptEncoding != null && acceptEncoding.contains("gzip");
+
+        String etag = gzip ? asset.gzipEtag() : asset.etag();
+
+        if (request.getIfNoneMatch().contains(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok()
+                .contentType(asset.contentType())
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+        if (gzip) {
+            return ok.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(new ByteArrayResource(asset.gzip()));
+        }
+        return ok.body(new ByteArrayResource(asset.bytes()));
+    }
+}
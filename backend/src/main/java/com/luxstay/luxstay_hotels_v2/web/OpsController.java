@@ -0,0 +1,66 @@
+package com.luxstay.luxstay_hotels_v2.web;
+
+import com.luxstay.luxstay_hotels_v2.config.BulkheadDataSource;
+import com.luxstay.luxstay_hotels_v2.config.ReadWriteRoutingDataSource;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Operational counters for the read-path optimizations (not part of the public booking API).
+ */
+@RestController
+@RequestMapping("/api/v2/ops")
+public class OpsController {
+
+    private final RequestCoalescer coalescer;
+    private final DataSource dataSource;
+    private final AdmissionControlInterceptor admission;
+
+    public OpsController(RequestCoalescer coalescer, DataSource dataSource, AdmissionControlInterceptor admission) {
+        this.coalescer = coalescer;
+        this.dataSource = dataSource;
+        this.admission = admission;
+    }
+
+    /**
+     * executions = loader actually ran, collapsed = callers that shared an in-flight result.
+     */
+    @GetMapping("/coalescing")
+    public Map<String, RequestCoalescer.Stats> coalescing() {
+        return coalescer.stats();
+    }
+
+    /**
+     * Current adaptive limits; shed requests = limiter.rejected + shedForPriority.
+     */
+    @GetMapping("/admission")
+    public Map<AdmissionControlInterceptor.Endpoint, AdmissionControlInterceptor.Stats> admission() {
+        return admission.stats();
+    }
+
+    /**
+     * Per pool (primary, replica when routing is on).
+     * waiting = threads parked on the bulkhead, rejected = gave up after max-wait (answered 503).
+     */
+    @GetMapping("/jdbc-bulkhead")
+    public Map<String, BulkheadDataSource.Stats> jdbcBulkhead() {
+        Map<String, BulkheadDataSource.Stats> out = new LinkedHashMap<>();
+        BulkheadDataSource.find(dataSource).forEach((pool, bulkhead) -> out.put(pool, bulkhead.stats()));
+        return out;
+    }
+
+    /**
+     * lagMillis is the last measured replica lag (read-only transactions fall back to the primary above max-lag).
+     */
+    @GetMapping("/replica")
+    public Map<String, Object> replica() {
+        ReadWriteRoutingDataSource router = ReadWriteRoutingDataSource.find(dataSource);
+        if (router == null) return Map.of("enabled", false);
+        return Map.of("enabled", true, "lagMillis", router.lagMillis());
+    }
+}
@@ -0,0 +1,68 @@
+package com.luxstay.luxstay_hotels_v2.web;
+
+import com.luxstay.luxstay_hotels_v2.config.ReadWriteRoutingDataSource;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Read-your-writes for replica routing.
+ *
+ * A write (POST/PUT/PATCH/DELETE) runs pinned to the primary and answers with
+ * X-Read-Primary-Until: epoch millis. Clients echo that header back; until it expires their
+ * read-only transactions stay on the primary too, so a booking is visible right after it's made.
+ * (A header rather than a cookie: the SPA calls the API cross-origin without credentials.)
+ */
+@Component
+@ConditionalOnExpression("!'${luxstay.datasource.replica.url:}'.isBlank()")
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Read-Primary-Until";
+
+    private final long windowMillis;
+
+    public ReadYourWritesFilter(@Value("${luxstay.datasource.replica.read-your-writes-window:5s}") Duration window) {
+        this.windowMillis = window.toMillis();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        boolean write = switch (request.getMethod()) {
+            case "GET", "HEAD", "OPTIONS" -> false;
+            default -> true;
+        };
+
+        if (!write && !inWindow(request.getHeader(HEADER), now, windowMillis)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        // Set before the body is written; a failed write just costs a few primary reads
+        if (write) response.setHeader(HEADER, Long.toString(now + windowMillis));
+
+        try (ReadWriteRoutingDataSource.Pin ignored = ReadWriteRoutingDataSource.pinToPrimary()) {
+            chain.doFilter(request, response);
+        }
+    }
+
+    private static boolean inWindow(String header, long now, long windowMillis) {
+        if (header == null) return false;
+        try {
+            long until = Long.parseLong(header.trim());
+            return until > now && until <= now + windowMillis;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
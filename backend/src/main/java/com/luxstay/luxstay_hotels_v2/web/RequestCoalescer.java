@@ -0,0 +1,97 @@
+package com.luxstay.luxstay_hotels_v2.web;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight for identical concurrent reads.
+ *
+ * The first caller for a (name, key) runs the loader; callers arriving while it is in flight
+ * wait for and share its result (or its exception). Nothing is kept once the flight lands —
+ * caching is the job of AvailabilityCache / RoomListingSnapshots.
+ *
+ * Used from controllers, i.e. BEFORE entering the @Transactional services, so collapsed
+ * callers don't hold a pooled connection while they wait.
+ */
+@Component
+public class RequestCoalescer {
+
+    public record Stats(long executions, long collapsed) {}
+
+    private record FlightKey(String name, Object key) {}
+
+    private static final class Counters {
+        final LongAdder executions = new LongAdder();
+        final LongAdder collapsed = new LongAdder();
+    }
+
+    private final ConcurrentHashMap<FlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counters> counters = new ConcurrentHashMap<>();
+    private final MeterRegistry registry;
+
+    public RequestCoalescer(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T coalesce(String name, Object key, Supplier<T> loader) {
+        FlightKey flightKey = new FlightKey(name, key);
+        Counters c = counters.get(name);
+        if (c == null) c = counters.computeIfAbsent(name, this::register);
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(flightKey, mine);
+
+        if (leader != null) {
+            c.collapsed.increment();
+            return (T) await(leader);
+        }
+
+        c.executions.increment();
+        try {
+            T result = loader.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, mine);
+        }
+    }
+
+    private Counters register(String name) {
+        Counters c = new Counters();
+        FunctionCounter.builder("luxstay.coalescer.calls", c.executions, LongAdder::sum)
+                .tags("name", name, "result", "executed").register(registry);
+        FunctionCounter.builder("luxstay.coalescer.calls", c.collapsed, LongAdder::sum)
+                .tags("name", name, "result", "collapsed").register(registry);
+        return c;
+    }
+
+    public Map<String, Stats> stats() {
+        Map<String, Stats> out = new TreeMap<>();
+        counters.forEach((name, c) -> out.put(name, new Stats(c.executions.sum(), c.collapsed.sum())));
+        return out;
+    }
+
+    private static Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            // Rethrow the leader's exception so followers get the same status code
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            if (e.getCause() instanceof Error err) throw err;
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.luxstay.luxstay_hotels_v2.web;
+
+import com.luxstay.luxstay_hotels_v2.domain.service.ReservationPartitionService;
+import com.luxstay.luxstay_hotels_v2.web.dto.ReservationDtos;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Reservations whose partition was archived (see ReservationPartitionService).
+ * Read from the export files, so customer details are not included.
+ */
+@RestController
+@RequestMapping("/api/v2/reservations/archive")
+public class ReservationArchiveController {
+
+    private final ReservationPartitionService partitions;
+
+    public ReservationArchiveController(ReservationPartitionService partitions) {
+        this.partitions = partitions;
+    }
+
+    @GetMapping
+    public List<ReservationDtos.Response> list(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @RequestParam(required = false) Long roomId,
+            @RequestParam(required = false) Long customerId
+    ) {
+        return partitions.findArchived(fromDate, toDate, roomId, customerId);
+    }
+}
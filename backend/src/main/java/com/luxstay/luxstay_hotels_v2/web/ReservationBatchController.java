@@ -0,0 +1,43 @@
+package com.luxstay.luxstay_hotels_v2.web;
+
+import com.luxstay.luxstay_hotels_v2.domain.service.ReservationBatchService;
+import com.luxstay.luxstay_hotels_v2.web.dto.ReservationDtos;
+import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+/**
+ * Group check-in / check-out and the night audit (see ReservationBatchService).
+ */
+@RestController
+@RequestMapping("/api/v2/reservations")
+public class ReservationBatchController {
+
+    private final ReservationBatchService service;
+
+    public ReservationBatchController(ReservationBatchService service) {
+        this.service = service;
+    }
+
+    @PostMapping("/batch")
+    public ReservationDtos.BatchResponse batch(@Valid @RequestBody ReservationDtos.BatchRequest req) {
+        ReservationBatchService.Action action = ReservationBatchService.Action.valueOf(req.action().trim().toUpperCase());
+        return service.apply(action, req.ids(), req.at());
+    }
+
+    /**
+     * Runs the night audit now for `businessDate` (default yesterday).
+     */
+    @PostMapping("/night-audit")
+    public ReservationDtos.NightAuditReport nightAudit(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate businessDate
+    ) {
+        return service.nightAudit(businessDate == null ? LocalDate.now().minusDays(1) : businessDate);
+    }
+}
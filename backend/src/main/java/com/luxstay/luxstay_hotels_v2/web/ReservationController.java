@@ -72,7 +72,7 @@ public class ReservationController {
 
     // ---------- Mapping ----------
 
-    private ReservationDtos.Response toDto(Reservation r) {
+    ReservationDtos.Response toDto(Reservation r) {
         Customer c = r.getCustomer();
 
         ReservationDtos.CustomerSummary customer = (c == null) ? null :
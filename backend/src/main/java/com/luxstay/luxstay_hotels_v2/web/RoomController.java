@@ -1,33 +1,60 @@
 package com.luxstay.luxstay_hotels_v2.web;
 
+import com.luxstay.luxstay_hotels_v2.config.ReadWriteRoutingDataSource;
 import com.luxstay.luxstay_hotels_v2.domain.Room;
+import com.luxstay.luxstay_hotels_v2.domain.service.AvailabilityCache;
+import com.luxstay.luxstay_hotels_v2.domain.service.RateGridService;
 import com.luxstay.luxstay_hotels_v2.domain.service.RoomService;
 import com.luxstay.luxstay_hotels_v2.web.dto.RoomDtos;
 import jakarta.validation.Valid;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Locale;
 
 @RestController
 @RequestMapping("/api/v2/rooms")
 public class RoomController {
 
     private final RoomService service;
+    private final RoomListingSnapshots snapshots;
+    private final RequestCoalescer coalescer;
+    private final RateGridService rates;
 
-    public RoomController(RoomService service) {
+    public RoomController(RoomService service,
+                          RoomListingSnapshots snapshots,
+                          RequestCoalescer coalescer,
+                          RateGridService rates) {
         this.service = service;
+        this.snapshots = snapshots;
+        this.coalescer = coalescer;
+        this.rates = rates;
     }
 
+    /**
+     * Unfiltered, per-hotel and per-city listings are served from pre-encoded snapshots
+     * (gzip when the client accepts it). Chain-filtered listings are serialized per request.
+     */
     @GetMapping
-    public List<RoomDtos.Response> list(
+    public ResponseEntity<?> list(
             @RequestParam(required = false) Long hotelId,
             @RequestParam(required = false) String city,
-            @RequestParam(required = false) String chainName
+            @RequestParam(required = false) String chainName,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
-        return service.list(hotelId, city, chainName).stream().map(this::toResponse).toList();
+        RoomListingSnapshots.Snapshot snapshot = snapshots.lookup(hotelId, city, chainName);
+        if (snapshot != null) {
+            return snapshot.render(acceptEncoding, ifNoneMatch);
+        }
+        List<Room> rooms = coalescer.coalesce("rooms.list", chainName.toLowerCase(Locale.ROOT),
+                () -> service.list(null, null, chainName));
+        return ResponseEntity.ok(rooms.stream().map(RoomController::toResponse).toList());
     }
 
     @GetMapping("/{id}")
@@ -71,7 +98,7 @@ public class RoomController {
     }
 
     @GetMapping("/available")
-    public List<RoomDtos.Response> available(
+    public List<RoomDtos.Available> available(
             @RequestParam(required = false)
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam
@@ -80,15 +107,63 @@ public class RoomController {
             @RequestParam(required = false) String city,
             @RequestParam(required = false) String chainName,
             @RequestParam(required = false) Integer capacity,
-            @RequestParam(required = false) BigDecimal maxPrice
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) String sort
+    ) {
+        AvailabilityCache.Query key =
+                AvailabilityCache.Query.of(startDate, endDate, hotelId, city, chainName, capacity, maxPrice);
+
+        // Pinned requests (read-your-writes window) must see their own booking: no shared flight
+        List<Room> rooms = ReadWriteRoutingDataSource.pinned()
+                ? service.available(startDate, endDate, hotelId, city, chainName, capacity, maxPrice)
+                : coalescer.coalesce("rooms.available", key,
+                        () -> service.available(startDate, endDate, hotelId, city, chainName, capacity, maxPrice));
+
+        if (sort == null) return rooms.stream().map(r -> toAvailable(r, null)).toList();
+
+        // sort=price / price_desc: by the stay total from the rate grid (returned too), not the flat Room.price
+        List<RateGridService.Priced> priced = switch (sort.trim().toLowerCase(Locale.ROOT)) {
+            case "price" -> rates.sortByStayPrice(rooms, startDate, endDate, false);
+            case "price_desc" -> rates.sortByStayPrice(rooms, startDate, endDate, true);
+            default -> throw new IllegalArgumentException("Unknown sort: " + sort + " (use price or price_desc)");
+        };
+        return priced.stream().map(p -> toAvailable(p.room(), p.quote())).toList();
+    }
+
+    /**
+     * Stay totals for candidate rooms (e.g. a search result page), from the nightly rate grid.
+     */
+    @GetMapping("/quote")
+    public List<RoomDtos.Quote> quote(
+            @RequestParam List<Long> roomIds,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
     ) {
-        return service.available(startDate, endDate, hotelId, city, chainName, capacity, maxPrice)
-                .stream()
-                .map(this::toResponse)
-                .toList();
+        return rates.quote(roomIds, startDate, endDate);
+    }
+
+    private static RoomDtos.Available toAvailable(Room room, RoomDtos.Quote quote) {
+        RoomDtos.Response r = toResponse(room);
+        return new RoomDtos.Available(
+                r.id(),
+                r.hotelId(),
+                r.hotelName(),
+                r.city(),
+                r.chainId(),
+                r.chainName(),
+                r.roomNumber(),
+                r.price(),
+                r.capacity(),
+                r.extendable(),
+                r.amenities(),
+                r.problemsAndDamages(),
+                r.imageUrl(),
+                quote == null ? null : quote.total(),
+                quote == null ? null : quote.averageNightly()
+        );
     }
 
-    private RoomDtos.Response toResponse(Room r) {
+    static RoomDtos.Response toResponse(Room r) {
         Long hotelId = (r.getHotel() == null) ? null : r.getHotel().getId();
         String hotelName = (r.getHotel() == null) ? null : r.getHotel().getName();
         String city = (r.getHotel() == null) ? null : r.getHotel().getCity();
@@ -0,0 +1,183 @@
+package com.luxstay.luxstay_hotels_v2.web;
+
+import com.luxstay.luxstay_hotels_v2.config.ReadWriteRoutingDataSource;
+import com.luxstay.luxstay_hotels_v2.domain.Room;
+import com.luxstay.luxstay_hotels_v2.domain.service.CatalogChangedEvent;
+import com.luxstay.luxstay_hotels_v2.domain.service.RoomService;
+import com.luxstay.luxstay_hotels_v2.web.dto.RoomDtos;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Pre-encoded JSON (plain + gzip) for the busiest room listings:
+ * - GET /api/v2/rooms
+ * - GET /api/v2/rooms?hotelId=...
+ * - GET /api/v2/rooms?city=...
+ *
+ * Snapshots are dropped as soon as a catalog change commits, then rebuilt in the
+ * background, so requests only pay for serialization on a cold key.
+ *
+ * Only listings with rooms are kept: hotel ids / cities come straight from the client, and
+ * unknown ones must not fill the `max-entries` slots (or be rebuilt on every catalog change).
+ */
+@Component
+public class RoomListingSnapshots {
+
+    public record Snapshot(byte[] json, byte[] gzip, String etag, int rooms) {
+
+        public ResponseEntity<byte[]> render(String acceptEncoding, String ifNoneMatch) {
+            boolean gzipped = acceptEncoding != null && acceptEncoding.contains("gzip");
+            // Strong ETags must differ per content encoding
+            String tag = gzipped ? etag.substring(0, etag.length() - 1) + "-gz\"" : etag;
+            if (tag.equals(ifNoneMatch)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(tag).build();
+            }
+
+            ResponseEntity.BodyBuilder ok = ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .eTag(tag)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+            if (gzipped) {
+                return ok.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                        .contentLength(gzip.length)
+                        .body(gzip);
+            }
+            return ok.contentLength(json.length).body(json);
+        }
+    }
+
+    private record Key(Long hotelId, String city) {
+        static final Key ALL = new Key(null, null);
+    }
+
+    private record Build(Key key, long generation) {}
+
+    private final RoomService service;
+    private final ObjectMapper mapper;
+    private final RequestCoalescer coalescer;
+    private final int maxEntries;
+
+    private final ConcurrentHashMap<Key, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final Set<Key> hotKeys = ConcurrentHashMap.newKeySet();
+    private final AtomicLong generation = new AtomicLong();
+
+    public RoomListingSnapshots(RoomService service,
+                                ObjectMapper mapper,
+                                RequestCoalescer coalescer,
+                                @Value("${luxstay.snapshots.max-entries:256}") int maxEntries) {
+        this.service = service;
+        this.mapper = mapper;
+        this.coalescer = coalescer;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Mirrors the precedence of RoomService.list(hotelId, city, chainName).
+     * Returns null for chain-filtered listings, which are not snapshotted.
+     */
+    public Snapshot lookup(Long hotelId, String city, String chainName) {
+        if (hotelId != null) return get(new Key(hotelId, null));
+        if (city != null && !city.isBlank()) return get(new Key(null, city.toLowerCase(Locale.ROOT)));
+        if (chainName != null && !chainName.isBlank()) return null;
+        return get(Key.ALL);
+    }
+
+    private Snapshot get(Key key) {
+        Snapshot snapshot = snapshots.get(key);
+        if (snapshot != null) return snapshot;
+
+        // Concurrent cold misses share one build; a new generation starts a new flight
+        long gen = generation.get();
+        return coalescer.coalesce("rooms.snapshot", new Build(key, gen), () -> {
+            Snapshot built = build(key);
+            store(key, built, gen);
+            return built;
+        });
+    }
+
+    private void store(Key key, Snapshot snapshot, long gen) {
+        if (snapshot.rooms() == 0) {
+            hotKeys.remove(key);
+            return;
+        }
+        if (generation.get() != gen || snapshots.size() >= maxEntries) return;
+
+        snapshots.put(key, snapshot);
+        if (hotKeys.size() < maxEntries) hotKeys.add(key);
+
+        // An invalidation raced with the build -> don't keep what we just built
+        if (generation.get() != gen) snapshots.remove(key, snapshot);
+    }
+
+    private Snapshot build(Key key) {
+        // Snapshots live until the next catalog change: never build one from a lagging replica
+        List<Room> loaded = ReadWriteRoutingDataSource.onPrimary(() -> service.list(key.hotelId(), key.city(), null));
+        List<RoomDtos.Response> rooms = loaded.stream()
+                .map(RoomController::toResponse)
+                .toList();
+
+        byte[] json = mapper.writeValueAsBytes(rooms);
+        String etag = "\"" + DigestUtils.md5DigestAsHex(json) + "\"";
+        return new Snapshot(json, gzip(json), etag, rooms.size());
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    public int size() {
+        return snapshots.size();
+    }
+
+    // ---------- Catalog changes ----------
+
+    /**
+     * Runs synchronously after commit: no request may see a snapshot older than the change.
+     */
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void invalidate(CatalogChangedEvent event) {
+        generation.incrementAndGet();
+        snapshots.clear();
+    }
+
+    /**
+     * Re-encodes the keys that were in use before the change, off the request path.
+     */
+    @Async
+    @Order(1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void rebuild(CatalogChangedEvent event) {
+        for (Key key : Set.copyOf(hotKeys)) {
+            long gen = generation.get();
+            if (snapshots.containsKey(key)) continue;
+            store(key, build(key), gen);
+        }
+    }
+}
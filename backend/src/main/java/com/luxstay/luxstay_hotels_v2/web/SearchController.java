@@ -0,0 +1,57 @@
+package com.luxstay.luxstay_hotels_v2.web;
+
+import com.luxstay.luxstay_hotels_v2.domain.service.SearchService;
+import com.luxstay.luxstay_hotels_v2.web.dto.SearchDtos;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Free-text room search over hotel name, address, city, chain and amenities, and search-box
+ * suggestions (see SearchService).
+ */
+@RestController
+@RequestMapping("/api/v2/search")
+public class SearchController {
+
+    private final SearchService service;
+
+    public SearchController(SearchService service) {
+        this.service = service;
+    }
+
+    @GetMapping
+    public SearchDtos.Result search(
+            @RequestParam String q,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Integer capacity,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Integer limit
+    ) {
+        SearchService.Result r = service.search(q, startDate, endDate, capacity, maxPrice, limit);
+        return new SearchDtos.Result(q, startDate, endDate, r.matched(),
+                r.hits().stream().map(h -> new SearchDtos.Hit(h.score(), RoomController.toResponse(h.room()))).toList(),
+                r.elapsedMs());
+    }
+
+    /**
+     * Typeahead: served from memory, no database round trip.
+     */
+    @GetMapping("/suggest")
+    public List<SearchDtos.Suggestion> suggest(
+            @RequestParam(required = false) String prefix,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return service.suggest(prefix, type, limit).stream()
+                .map(s -> new SearchDtos.Suggestion(s.type().name(), s.label(), s.id(), s.city(), s.rooms()))
+                .toList();
+    }
+}
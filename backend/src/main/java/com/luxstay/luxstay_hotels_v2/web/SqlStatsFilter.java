@@ -0,0 +1,108 @@
+package com.luxstay.luxstay_hotels_v2.web;
+
+import com.luxstay.luxstay_hotels_v2.config.SqlStats;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Per-request SQL statistics (non-prod, SQL_STATS=true):
+ * - Server-Timing: db;dur=...;desc="N statements, M rows" on every API response
+ * - WARN log when a request runs more than max-statements, or one statement shape more than
+ *   max-repeats times (typical N+1: Reservation.customer / Room.hotel loaded row by row)
+ */
+@Component
+@ConditionalOnProperty(name = "luxstay.sql-stats.enabled", havingValue = "true")
+public class SqlStatsFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING = "Server-Timing";
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatsFilter.class);
+    private static final String ATTRIBUTE = SqlStats.class.getName();
+
+    private final int maxStatements;
+    private final int maxRepeats;
+
+    public SqlStatsFilter(@Value("${luxstay.sql-stats.max-statements:20}") int maxStatements,
+                          @Value("${luxstay.sql-stats.max-repeats:5}") int maxRepeats) {
+        this.maxStatements = maxStatements;
+        this.maxRepeats = maxRepeats;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        try (SqlStats stats = SqlStats.start()) {
+            request.setAttribute(ATTRIBUTE, stats);
+            chain.doFilter(request, response);
+
+            // Bodyless responses never went through the advice below
+            if (!response.isCommitted() && !response.containsHeader(SERVER_TIMING)) {
+                response.setHeader(SERVER_TIMING, stats.serverTiming());
+            }
+            report(request, stats);
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlStats stats) {
+        boolean tooMany = stats.statements() > maxStatements;
+        boolean repeated = stats.maxRepeats() > maxRepeats;
+        if (!tooMany && !repeated) return;
+
+        Map<String, Integer> shapes = stats.repeatedShapes(maxRepeats + 1);
+        log.warn("SQL budget exceeded by {} {}: {}{}",
+                request.getMethod(), request.getRequestURI(), stats,
+                shapes.isEmpty() ? "" : " — repeated statements (likely N+1): " + shapes);
+    }
+
+    /**
+     * Adds the header right before the body is written (afterwards it would be too late).
+     */
+    @ControllerAdvice
+    @ConditionalOnProperty(name = "luxstay.sql-stats.enabled", havingValue = "true")
+    static class ServerTimingAdvice implements ResponseBodyAdvice<Object> {
+
+        @Override
+        public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+            return true;
+        }
+
+        @Override
+        public Object beforeBodyWrite(Object body,
+                                      MethodParameter returnType,
+                                      MediaType contentType,
+                                      Class<? extends HttpMessageConverter<?>> converterType,
+                                      ServerHttpRequest request,
+                                      ServerHttpResponse response) {
+            if (request instanceof ServletServerHttpRequest servlet
+                    && servlet.getServletRequest().getAttribute(ATTRIBUTE) instanceof SqlStats stats) {
+                response.getHeaders().set(SERVER_TIMING, stats.serverTiming());
+            }
+            return body;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.luxstay.luxstay_hotels_v2.web.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public class AnalyticsDtos {
+
+    /**
+     * roomsAvailable / roomsSold are room-nights; occupancy = sold / available,
+     * adr = revenue / sold, revpar = revenue / available. date is null for the range total.
+     */
+    public record Metrics(
+            LocalDate date,
+            long roomsAvailable,
+            long roomsSold,
+            BigDecimal revenue,
+            double occupancy,
+            BigDecimal adr,
+            BigDecimal revpar
+    ) {}
+
+    /**
+     * One hotel (chainId / chainName set) or one chain (hotel fields null).
+     */
+    public record Series(
+            Long hotelId,
+            String hotelName,
+            Long chainId,
+            String chainName,
+            int rooms,
+            Metrics total,
+            List<Metrics> days
+    ) {}
+
+    /**
+     * From the daily rollup: metrics plus paid revenue and cancelled stays arriving that day.
+     */
+    public record HotelDay(
+            Long hotelId,
+            String hotelName,
+            Metrics metrics,
+            BigDecimal paidRevenue,
+            long cancellations
+    ) {}
+
+    public record OccupancyReport(
+            LocalDate fromDate,
+            LocalDate toDate,
+            String groupBy,
+            long staysScanned,
+            List<Series> series,
+            long elapsedMs
+    ) {}
+}
@@ -0,0 +1,19 @@
+package com.luxstay.luxstay_hotels_v2.web.dto;
+
+import java.util.List;
+
+public class CatalogDtos {
+
+    public record RowError(long line, String message) {}
+
+    public record ImportReport(
+            String source,
+            long rowsRead,
+            long inserted,
+            long skipped,
+            long rejected,
+            List<RowError> errors,
+            long elapsedMs,
+            double rowsPerSecond
+    ) {}
+}
@@ -0,0 +1,30 @@
+package com.luxstay.luxstay_hotels_v2.web.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class FrontDeskDtos {
+
+    public record Row(
+            Long reservationId,
+            Long roomId,
+            Integer roomNumber,
+            String guestName,
+            LocalDate startDate,
+            LocalDate endDate,
+            String paymentStatus,
+            boolean checkedIn,
+            boolean checkedOut
+    ) {}
+
+    /**
+     * arrivals: startDate = date, departures: endDate = date, inHouse: staying over (startDate < date < endDate).
+     */
+    public record DayView(
+            Long hotelId,
+            LocalDate date,
+            List<Row> arrivals,
+            List<Row> departures,
+            List<Row> inHouse
+    ) {}
+}
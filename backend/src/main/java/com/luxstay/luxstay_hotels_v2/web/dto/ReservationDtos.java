@@ -4,11 +4,13 @@ import com.luxstay.luxstay_hotels_v2.domain.enums.IdType;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class ReservationDtos {
 
@@ -46,6 +48,15 @@ public class ReservationDtos {
             @Size(max = 1000) String notes
     ) {}
 
+    /**
+     * action: CHECK_IN, CHECK_OUT or COMPLETE. at defaults to now.
+     */
+    public record BatchRequest(
+            @NotBlank String action,
+            @NotEmpty @Size(max = 1000) List<@NotNull Long> ids,
+            LocalDateTime at
+    ) {}
+
     // ---------- Responses ----------
 
     public record CustomerSummary(
@@ -59,6 +70,27 @@ public class ReservationDtos {
             LocalDate registrationDate
     ) {}
 
+    /**
+     * outcome: UPDATED, SKIPPED (already in the requested state), REJECTED or NOT_FOUND.
+     */
+    public record BatchItemResult(Long id, String outcome, String message) {}
+
+    public record BatchResponse(
+            String action,
+            int updated,
+            int skipped,
+            int rejected,
+            int notFound,
+            List<BatchItemResult> items
+    ) {}
+
+    public record NightAuditReport(
+            LocalDate businessDate,
+            int completed,
+            long noShows,
+            long elapsedMs
+    ) {}
+
     public record Response(
             Long id,
             Long roomId,
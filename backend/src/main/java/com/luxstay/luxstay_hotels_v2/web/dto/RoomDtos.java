@@ -5,6 +5,7 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 
 public class RoomDtos {
 
@@ -45,4 +46,38 @@ public class RoomDtos {
             String problemsAndDamages,
             String imageUrl
     ) {}
+
+    /**
+     * GET /rooms/available: Response fields, plus the stay total from the rate grid when sorted by price
+     * (null otherwise).
+     */
+    public record Available(
+            Long id,
+            Long hotelId,
+            String hotelName,
+            String city,
+            Long chainId,
+            String chainName,
+            Integer roomNumber,
+            BigDecimal price,
+            Integer capacity,
+            Boolean extendable,
+            String amenities,
+            String problemsAndDamages,
+            String imageUrl,
+            BigDecimal stayTotal,
+            BigDecimal averageNightly
+    ) {}
+
+    /**
+     * Stay total from the nightly rate grid (weekday / season / occupancy pricing on top of price).
+     */
+    public record Quote(
+            Long roomId,
+            LocalDate startDate,
+            LocalDate endDate,
+            int nights,
+            BigDecimal total,
+            BigDecimal averageNightly
+    ) {}
 }
@@ -0,0 +1,35 @@
+package com.luxstay.luxstay_hotels_v2.web.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class SearchDtos {
+
+    public record Hit(
+            double score,
+            RoomDtos.Response room
+    ) {}
+
+    /**
+     * matched: rooms matching the words and filters; hits: the best `limit` of them.
+     */
+    public record Result(
+            String query,
+            LocalDate startDate,
+            LocalDate endDate,
+            int matched,
+            List<Hit> hits,
+            long elapsedMs
+    ) {}
+
+    /**
+     * type: CITY | HOTEL | CHAIN; id: hotel / chain id; city: set for hotels; rooms: the ranking weight.
+     */
+    public record Suggestion(
+            String type,
+            String label,
+            Long id,
+            String city,
+            int rooms
+    ) {}
+}
@@ -0,0 +1,20 @@
+package com.luxstay.luxstay_hotels_v2.web.exception;
+
+import java.time.Duration;
+
+/**
+ * Request shed on purpose (admission control): answered 503 with Retry-After.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public ServiceOverloadedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
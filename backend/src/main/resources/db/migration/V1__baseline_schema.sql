@@ -0,0 +1,79 @@
+-- Baseline: the schema Hibernate (ddl-auto=update) created from the entities, with named constraints.
+-- Databases that already have these tables are baselined at version 1 and skip this script
+-- (spring.flyway.baseline-on-migrate); new databases start here.
+
+create table hotel_chain (
+    id   bigint generated by default as identity primary key,
+    name varchar(255) not null,
+    constraint uk_hotel_chain_name unique (name)
+);
+
+create table hotel (
+    id        bigint generated by default as identity primary key,
+    chain_id  bigint        not null,
+    name      varchar(255)  not null,
+    address   varchar(255)  not null,
+    city      varchar(255)  not null,
+    email     varchar(255),
+    rating    integer,
+    image_url varchar(1000),
+    constraint fk_hotel_chain foreign key (chain_id) references hotel_chain (id)
+);
+
+create table room (
+    id                   bigint generated by default as identity primary key,
+    hotel_id             bigint         not null,
+    room_number          integer        not null,
+    price                numeric(10, 2) not null,
+    capacity             integer        not null,
+    extendable           boolean        not null,
+    amenities            varchar(512),
+    problems_and_damages varchar(512),
+    image_url            varchar(512),
+    constraint uq_room_hotel_room_number unique (hotel_id, room_number),
+    constraint fk_room_hotel foreign key (hotel_id) references hotel (id)
+);
+
+create table customer (
+    id                bigint generated by default as identity primary key,
+    full_name         varchar(255) not null,
+    address           varchar(255) not null,
+    date_of_birth     date         not null,
+    id_number         varchar(255) not null,
+    id_type           varchar(255) not null,
+    email             varchar(255) not null,
+    registration_date date         not null,
+    constraint uk_customer_idnumber_email unique (id_number, email),
+    constraint ck_customer_id_type check (id_type in ('PASSPORT', 'DRIVER_LICENSE', 'NATIONAL_ID'))
+);
+
+create table employee (
+    id         bigint generated by default as identity primary key,
+    full_name  varchar(255) not null,
+    address    varchar(255) not null,
+    position   varchar(255) not null,
+    sin_number varchar(255) not null
+);
+
+create table reservation (
+    id             bigint generated by default as identity primary key,
+    room_id        bigint        not null,
+    customer_id    bigint        not null,
+    start_date     date          not null,
+    end_date       date          not null,
+    status         varchar(255)  not null,
+    payment_status varchar(255)  not null,
+    checked_in_at  timestamp(6),
+    checked_out_at timestamp(6),
+    notes          varchar(1000),
+    cancelled_at   timestamp(6),
+    created_at     timestamp(6)  not null,
+    updated_at     timestamp(6)  not null,
+    constraint fk_reservation_room foreign key (room_id) references room (id),
+    constraint fk_reservation_customer foreign key (customer_id) references customer (id),
+    constraint ck_reservation_status check (status in ('ACTIVE', 'CANCELLED', 'COMPLETED')),
+    constraint ck_reservation_payment_status check (payment_status in ('UNPAID', 'PAID'))
+);
+
+create index idx_reservation_customer on reservation (customer_id);
+create index idx_reservation_room_dates on reservation (room_id, start_date, end_date);
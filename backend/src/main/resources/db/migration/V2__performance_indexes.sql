@@ -0,0 +1,26 @@
+-- Indexes for the lookups the repositories actually issue. Expression indexes must match the
+-- generated SQL: Spring Data's ...IgnoreCase derives upper(col) = upper(?), not lower().
+
+-- HotelRepository.findByCityIgnoreCase, RoomRepository.findByHotelCityIgnoreCase
+create index idx_hotel_city_upper on hotel (upper(city));
+
+-- HotelRepository.findByChainId and the chain -> hotel join (Postgres doesn't index FKs)
+create index idx_hotel_chain on hotel (chain_id);
+
+-- Per-hotel listings and searchAvailableRooms(hotelId, maxPrice)
+create index idx_room_hotel_price on room (hotel_id, price);
+
+-- ReservationRepository.findAllFiltered(status = ?), newest first
+create index idx_reservation_status_created on reservation (status, created_at desc);
+
+-- Overlap checks and findBookedRoomIdsInRange only look at non-cancelled stays;
+-- the predicate is spelled exactly like the JPQL so the planner can use the partial indexes
+create index idx_reservation_active_room_dates
+    on reservation (room_id, start_date, end_date)
+    where upper(status) <> 'CANCELLED';
+create index idx_reservation_active_dates
+    on reservation (start_date, end_date) include (room_id)
+    where upper(status) <> 'CANCELLED';
+
+-- CustomerRepository.findByEmailIgnoreCase (emails are stored lower-cased, lookups go through upper())
+create index idx_customer_email_upper on customer (upper(email));
@@ -0,0 +1,101 @@
+-- reservation becomes a table range-partitioned by start_date, one partition per month.
+-- - partitions are created ahead of time by luxstay_ensure_reservation_partitions (ReservationPartitionService runs it daily)
+-- - reservation_default catches stays outside the prepared months; creating a month later moves its rows out
+-- - the primary key has to contain the partition key: (id, start_date); ids still come from one sequence
+-- - stays are capped at 365 nights (Reservation.MAX_NIGHTS) so overlap queries can bound start_date on both sides
+
+do $$
+begin
+    if exists (select 1 from reservation where end_date - start_date > 365 or end_date <= start_date) then
+        raise exception 'reservation has empty stays or stays longer than 365 nights; fix them before partitioning';
+    end if;
+end $$;
+
+alter table reservation rename to reservation_legacy;
+
+create table reservation (
+    id             bigint        not null,
+    room_id        bigint        not null,
+    customer_id    bigint        not null,
+    start_date     date          not null,
+    end_date       date          not null,
+    status         varchar(255)  not null,
+    payment_status varchar(255)  not null,
+    checked_in_at  timestamp(6),
+    checked_out_at timestamp(6),
+    notes          varchar(1000),
+    cancelled_at   timestamp(6),
+    created_at     timestamp(6)  not null,
+    updated_at     timestamp(6)  not null,
+    constraint fk_reservation_room foreign key (room_id) references room (id),
+    constraint fk_reservation_customer foreign key (customer_id) references customer (id),
+    constraint ck_reservation_status check (status in ('ACTIVE', 'CANCELLED', 'COMPLETED')),
+    constraint ck_reservation_payment_status check (payment_status in ('UNPAID', 'PAID')),
+    constraint ck_reservation_max_stay check (end_date > start_date and end_date - start_date <= 365)
+) partition by range (start_date);
+
+create table reservation_default partition of reservation default;
+
+-- Creates reservation_pYYYY_MM for every month in [from_month, to_month) that doesn't exist yet.
+-- Rows already sitting in the default partition for that month are moved into it first
+-- (ATTACH would fail otherwise). Serialized with an advisory lock so several nodes can call it.
+create or replace function luxstay_ensure_reservation_partitions(from_month date, to_month date)
+returns integer
+language plpgsql as $$
+declare
+    m       date := date_trunc('month', from_month)::date;
+    m_next  date;
+    part    text;
+    created integer := 0;
+begin
+    perform pg_advisory_xact_lock(hashtext('luxstay_reservation_partitions'));
+
+    while m < to_month loop
+        m_next := (m + interval '1 month')::date;
+        part := 'reservation_p' || to_char(m, 'YYYY_MM');
+
+        if to_regclass(part) is null then
+            execute format('create table %I (like reservation including defaults including constraints)', part);
+            execute format('insert into %I select * from reservation_default where start_date >= %L and start_date < %L',
+                           part, m, m_next);
+            execute format('delete from reservation_default where start_date >= %L and start_date < %L', m, m_next);
+            execute format('alter table reservation attach partition %I for values from (%L) to (%L)', part, m, m_next);
+            created := created + 1;
+        end if;
+
+        m := m_next;
+    end loop;
+    return created;
+end $$;
+
+-- Months with existing stays (oldest first) through one year ahead
+select luxstay_ensure_reservation_partitions(
+    coalesce((select min(start_date) from reservation_legacy), current_date),
+    (date_trunc('month', current_date) + interval '13 months')::date
+);
+
+insert into reservation (id, room_id, customer_id, start_date, end_date, status, payment_status,
+                         checked_in_at, checked_out_at, notes, cancelled_at, created_at, updated_at)
+select id, room_id, customer_id, start_date, end_date, status, payment_status,
+       checked_in_at, checked_out_at, notes, cancelled_at, created_at, updated_at
+from reservation_legacy;
+
+-- Drops the old identity sequence and indexes, freeing their names
+drop table reservation_legacy;
+
+create sequence reservation_id_seq owned by reservation.id;
+select setval('reservation_id_seq', coalesce((select max(id) from reservation), 0) + 1, false);
+alter table reservation alter column id set default nextval('reservation_id_seq');
+
+alter table reservation add constraint reservation_pkey primary key (id, start_date);
+
+-- Same indexes as before, now partitioned (one per partition, created on attach as well)
+create index idx_reservation_customer on reservation (customer_id);
+create index idx_reservation_room_dates on reservation (room_id, start_date, end_date);
+create index idx_reservation_status_created on reservation (status, created_at desc);
+create index idx_reservation_active_room_dates
+    on reservation (room_id, start_date, end_date)
+    where upper(status) <> 'CANCELLED';
+create index idx_reservation_active_dates
+    on reservation (start_date, end_date) include (room_id)
+    where upper(status) <> 'CANCELLED';
@@ -0,0 +1,36 @@
+-- Pre-aggregated bookings per room and night, kept up to date by ReservationRollupService
+-- in the same transaction as each reservation change.
+-- - nights_sold / revenue / paid_revenue: non-cancelled stays, one row per night, at Room.price
+-- - cancellations: cancelled stays, counted on their arrival day (start_date)
+-- No foreign keys: rows outlive deleted reservations and must not block room deletes.
+
+create table reservation_daily_rollup (
+    room_id       bigint         not null,
+    day           date           not null,
+    hotel_id      bigint         not null,
+    nights_sold   integer        not null default 0,
+    revenue       numeric(14, 2) not null default 0,
+    paid_revenue  numeric(14, 2) not null default 0,
+    cancellations integer        not null default 0,
+    constraint reservation_daily_rollup_pkey primary key (room_id, day)
+);
+
+create index idx_reservation_daily_rollup_hotel_day on reservation_daily_rollup (hotel_id, day);
+
+-- Backfill from existing reservations (same query as ReservationRollupRepository.rebuild, unbounded)
+insert into reservation_daily_rollup (room_id, day, hotel_id, nights_sold, revenue, paid_revenue, cancellations)
+select room_id, day, hotel_id, sum(nights), sum(revenue), sum(paid), sum(cancelled)
+from (
+    select r.room_id, d::date as day, rm.hotel_id, 1 as nights, rm.price as revenue,
+           case when upper(r.payment_status) = 'PAID' then rm.price else 0 end as paid, 0 as cancelled
+    from reservation r
+    join room rm on rm.id = r.room_id
+    cross join generate_series(r.start_date::timestamp, (r.end_date - 1)::timestamp, interval '1 day') d
+    where upper(r.status) <> 'CANCELLED'
+    union all
+    select r.room_id, r.start_date, rm.hotel_id, 0, 0, 0, 1
+    from reservation r
+    join room rm on rm.id = r.room_id
+    where upper(r.status) = 'CANCELLED'
+) x
+group by room_id, day, hotel_id;
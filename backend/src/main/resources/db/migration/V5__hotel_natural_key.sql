@@ -0,0 +1,11 @@
+-- A hotel is identified by (chain_id, name, address): CatalogBulkRepository inserts hotels with
+-- "on conflict do nothing" on it, so re-importing hotels.csv is a no-op like it already is for rooms.
+
+do $$
+begin
+    if exists (select 1 from hotel group by chain_id, name, address having count(*) > 1) then
+        raise exception 'hotel has duplicate (chain_id, name, address) rows; merge them before adding the key';
+    end if;
+end $$;
+
+alter table hotel add constraint uq_hotel_chain_name_address unique (chain_id, name, address);
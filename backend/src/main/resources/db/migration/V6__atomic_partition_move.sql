@@ -0,0 +1,36 @@
+-- luxstay_ensure_reservation_partitions (V3) copied a month out of reservation_default and deleted it
+-- in two statements: a booking committed between them was deleted without having been copied.
+-- - the default partition is locked (exclusive: reads go on, writes wait) before a month is moved,
+--   so no booking can land in it between the move and the attach
+-- - the move is one statement (delete ... returning feeding the insert)
+-- The lock is only taken when a month is actually created, i.e. not on the daily no-op run.
+
+create or replace function luxstay_ensure_reservation_partitions(from_month date, to_month date)
+returns integer
+language plpgsql as $$
+declare
+    m       date := date_trunc('month', from_month)::date;
+    m_next  date;
+    part    text;
+    created integer := 0;
+begin
+    perform pg_advisory_xact_lock(hashtext('luxstay_reservation_partitions'));
+
+    while m < to_month loop
+        m_next := (m + interval '1 month')::date;
+        part := 'reservation_p' || to_char(m, 'YYYY_MM');
+
+        if to_regclass(part) is null then
+            lock table reservation_default in exclusive mode;
+            execute format('create table %I (like reservation including defaults including constraints)', part);
+            execute format('with moved as (delete from reservation_default where start_date >= %L and start_date < %L returning *) '
+                           'insert into %I select * from moved',
+                           m, m_next, part);
+            execute format('alter table reservation attach partition %I for values from (%L) to (%L)', part, m, m_next);
+            created := created + 1;
+        end if;
+
+        m := m_next;
+    end loop;
+    return created;
+end $$;
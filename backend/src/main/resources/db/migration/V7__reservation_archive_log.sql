@@ -0,0 +1,13 @@
+-- One row per monthly partition archived by ReservationPartitionService (file written, partition dropped).
+-- last_end_date: latest end_date among its stays, so no archived stay has a night on or after it.
+-- The rollup is the only live record of the nights before that: ReservationRollupService.rebuild
+-- never deletes days older than max(last_end_date).
+-- Partitions archived before this migration aren't listed; rebuild only from days you know are live.
+
+create table reservation_archive (
+    month         date         not null,
+    reservations  bigint       not null,
+    last_end_date date,
+    archived_at   timestamp(6) not null default now(),
+    constraint reservation_archive_pkey primary key (month)
+);
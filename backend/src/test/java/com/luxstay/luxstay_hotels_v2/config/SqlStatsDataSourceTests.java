@@ -0,0 +1,76 @@
+package com.luxstay.luxstay_hotels_v2.config;
+
+import com.luxstay.luxstay_hotels_v2.domain.service.FrontDeskService;
+import com.luxstay.luxstay_hotels_v2.support.SqlStatsAssert;
+import com.luxstay.luxstay_hotels_v2.support.TestCatalog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SqlStatsDataSource wrapping the real DataSource, and SqlStatsAssert guarding a query path.
+ */
+@SpringBootTest(properties = {
+        "luxstay.warmup.enabled=false",
+        "luxstay.sql-stats.enabled=true"
+})
+class SqlStatsDataSourceTests {
+
+    private static final LocalDate DAY = LocalDate.of(2089, 8, 15);
+
+    @Autowired
+    JdbcTemplate jdbc;
+
+    @Autowired
+    FrontDeskService frontDesk;
+
+    private TestCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = TestCatalog.create(jdbc);
+        for (int n = 101; n <= 105; n++) {
+            long room = catalog.room(n, "150.00");
+            catalog.reservation(room, DAY.minusDays(2), DAY, "ACTIVE", "PAID");
+            catalog.reservation(room, DAY, DAY.plusDays(2), "ACTIVE", "UNPAID");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalog.delete();
+    }
+
+    @Test
+    void statementsRowsAndShapesAreRecorded() {
+        SqlStats stats = SqlStatsAssert.assertSql(() -> {
+                    for (int n = 101; n <= 103; n++) {
+                        jdbc.queryForObject("select id from room where hotel_id = " + catalog.hotelId()
+                                + " and room_number = " + n, Long.class);
+                    }
+                })
+                .hasStatements(3)
+                .hasAtMostRows(3)
+                .stats();
+
+        assertThat(stats.rows()).isEqualTo(3);
+        assertThat(stats.repeatedShapes(2))
+                .containsOnlyKeys("select id from room where hotel_id = ? and room_number = ?");
+        assertThat(SqlStats.active()).isFalse();
+    }
+
+    @Test
+    void dayViewIsOneQueryHoweverManyRooms() {
+        SqlStatsAssert.assertSql(() -> frontDesk.dayView(catalog.hotelId(), DAY))
+                .hasAtMostStatements(2) // hotel exists + the day rows
+                .hasNoRepeatedStatements()
+                .hasAtMostRows(1 + 10);
+    }
+}
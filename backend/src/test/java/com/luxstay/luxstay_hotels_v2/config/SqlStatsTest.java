@@ -0,0 +1,101 @@
+package com.luxstay.luxstay_hotels_v2.config;
+
+import com.luxstay.luxstay_hotels_v2.support.SqlStatsAssert;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+class SqlStatsTest {
+
+    @Test
+    void shapeFoldsLiterals() {
+        assertThat(SqlStats.shape("select * from room where id = 42 and price > 10.50"))
+                .isEqualTo("select * from room where id = ? and price > ?");
+        assertThat(SqlStats.shape("select * from customer where full_name = 'O''Brien, room 7'"))
+                .isEqualTo("select * from customer where full_name = ?");
+    }
+
+    @Test
+    void shapeKeepsDigitsInsideIdentifiers() {
+        assertThat(SqlStats.shape("select r1_0.id from reservation_p2030_06 r1_0 where r1_0.room_id = 5"))
+                .isEqualTo("select r1_0.id from reservation_p2030_06 r1_0 where r1_0.room_id = ?");
+    }
+
+    @Test
+    void shapeFoldsInListsOfAnyLength() {
+        assertThat(SqlStats.shape("select * from room where id in (?, ?, ?)"))
+                .isEqualTo(SqlStats.shape("select * from room where id in (?)"))
+                .isEqualTo(SqlStats.shape("select * from room where id in ( 1,2 )"))
+                .isEqualTo("select * from room where id in (?)");
+    }
+
+    @Test
+    void shapeCollapsesWhitespace() {
+        assertThat(SqlStats.shape("  select id\n\t from   room\n where id = ?  ")).isEqualTo("select id from room where id = ?");
+    }
+
+    @Test
+    void nestedScopesCountTowardsTheOuterOne() {
+        SqlStats inner;
+        try (SqlStats outer = SqlStats.start()) {
+            SqlStats.statement("select * from room where id = 1", 1_000_000);
+            try (SqlStats scope = SqlStats.start()) {
+                inner = scope;
+                SqlStats.statement("select * from room where id = 2", 2_000_000);
+                SqlStats.rows(3);
+            }
+
+            assertThat(inner.statements()).isEqualTo(1);
+            assertThat(inner.rows()).isEqualTo(3);
+            assertThat(outer.statements()).isEqualTo(2);
+            assertThat(outer.rows()).isEqualTo(3);
+            assertThat(outer.jdbcNanos()).isEqualTo(3_000_000);
+            assertThat(outer.maxRepeats()).isEqualTo(2);
+            assertThat(outer.serverTiming()).isEqualTo("db;dur=3.0;desc=\"2 statements, 3 rows\"");
+        }
+        assertThat(SqlStats.active()).isFalse();
+    }
+
+    @Test
+    void repeatedShapesMostFrequentFirst() {
+        SqlStats stats = SqlStats.capture(() -> {
+            for (int id = 1; id <= 3; id++) SqlStats.statement("select * from customer where id = " + id, 0);
+            for (int id = 1; id <= 5; id++) SqlStats.statement("select * from hotel where id = " + id, 0);
+            SqlStats.statement("select count(*) from room", 0);
+            SqlStats.statement(null, 0);
+        });
+
+        assertThat(stats.repeatedShapes(2)).containsExactly(
+                entry("select * from hotel where id = ?", 5),
+                entry("select * from customer where id = ?", 3));
+        assertThat(stats.repeatedShapes(1)).hasSize(4).containsEntry("?", 1);
+    }
+
+    @Test
+    void nothingIsRecordedOutsideAScope() {
+        SqlStats.statement("select 1", 1_000);
+        SqlStats.rows(1);
+
+        assertThat(SqlStats.active()).isFalse();
+        assertThat(SqlStats.capture(() -> {}).statements()).isZero();
+    }
+
+    @Test
+    void assertionListsTheRepeatedStatements() {
+        SqlStatsAssert.assertSql(() -> SqlStats.statement("select * from hotel where id = 1", 0))
+                .hasStatements(1)
+                .hasNoRepeatedStatements();
+
+        assertThatThrownBy(() -> SqlStatsAssert
+                .assertSql(() -> {
+                    for (int id = 1; id <= 3; id++) SqlStats.statement("select * from hotel where id = " + id, 0);
+                })
+                .hasAtMostStatements(5)
+                .hasNoRepeatedStatements())
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("expected no statement to run more than 1 times, but got 3 statements")
+                .hasMessageContaining("repeated statements: {select * from hotel where id = ?=3}");
+    }
+}
@@ -0,0 +1,104 @@
+package com.luxstay.luxstay_hotels_v2.domain.service;
+
+import com.luxstay.luxstay_hotels_v2.web.dto.AnalyticsDtos;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnalyticsServiceTest {
+
+    @Test
+    void overlappingStaysAddUpPerNight() {
+        AnalyticsService.Stays stays = new AnalyticsService.Stays();
+        stays.add(0, 3, 100_00);
+        stays.add(2, 5, 200_00);
+        stays.add(4, 5, 50_00);
+
+        AnalyticsService.Totals t = stays.reduce(5);
+
+        assertThat(t.sold).containsExactly(1, 1, 2, 1, 2);
+        assertThat(t.cents).containsExactly(100_00, 100_00, 300_00, 200_00, 250_00);
+    }
+
+    @Test
+    void staysClippedToTheWholeRangeCoverEveryDay() {
+        AnalyticsService.Stays stays = new AnalyticsService.Stays();
+        stays.add(0, 4, 80_00);
+
+        assertThat(stays.reduce(4).sold).containsExactly(1, 1, 1, 1);
+    }
+
+    @Test
+    void noStaysNoSales() {
+        AnalyticsService.Totals t = AnalyticsService.Stays.EMPTY.reduce(3);
+
+        assertThat(t.sold).containsOnly(0);
+        assertThat(t.cents).containsOnly(0);
+    }
+
+    @Test
+    void matchesCountingNightByNight() {
+        Random rnd = new Random(42);
+        int days = 60;
+        long[] sold = new long[days];
+        long[] cents = new long[days];
+
+        AnalyticsService.Stays stays = new AnalyticsService.Stays(); // grows past its initial 16
+        for (int i = 0; i < 1_000; i++) {
+            int s = rnd.nextInt(days);
+            int e = s + 1 + rnd.nextInt(days - s);
+            long price = 50_00 + rnd.nextInt(500_00);
+            stays.add(s, e, price);
+            for (int d = s; d < e; d++) {
+                sold[d]++;
+                cents[d] += price;
+            }
+        }
+
+        AnalyticsService.Totals t = stays.reduce(days);
+        assertThat(t.sold).containsExactly(sold);
+        assertThat(t.cents).containsExactly(cents);
+    }
+
+    @Test
+    void chainTotalsAreTheSumOfTheirHotels() {
+        AnalyticsService.Stays a = new AnalyticsService.Stays();
+        a.add(0, 2, 100_00);
+        AnalyticsService.Stays b = new AnalyticsService.Stays();
+        b.add(1, 3, 120_00);
+
+        AnalyticsService.Totals chain = new AnalyticsService.Totals(3);
+        chain.add(a.reduce(3));
+        chain.add(b.reduce(3));
+
+        assertThat(chain.sold).containsExactly(1, 2, 1);
+        assertThat(chain.cents).containsExactly(100_00, 220_00, 120_00);
+    }
+
+    @Test
+    void metricsFromSoldAndRevenue() {
+        LocalDate day = LocalDate.of(2030, 6, 1);
+        AnalyticsDtos.Metrics m = AnalyticsService.metrics(day, 10, 7, 1_050_00);
+
+        assertThat(m.date()).isEqualTo(day);
+        assertThat(m.revenue()).isEqualByComparingTo("1050");
+        assertThat(m.occupancy()).isEqualTo(0.7);
+        assertThat(m.adr()).isEqualTo(new BigDecimal("150.00"));
+        assertThat(m.revpar()).isEqualTo(new BigDecimal("105.00"));
+    }
+
+    @Test
+    void metricsWithoutSalesOrRooms() {
+        AnalyticsDtos.Metrics unsold = AnalyticsService.metrics(null, 10, 0, 0);
+        assertThat(unsold.occupancy()).isZero();
+        assertThat(unsold.adr()).isEqualTo(new BigDecimal("0.00"));
+
+        AnalyticsDtos.Metrics noRooms = AnalyticsService.metrics(null, 0, 0, 0);
+        assertThat(noRooms.occupancy()).isZero();
+        assertThat(noRooms.revpar()).isEqualTo(new BigDecimal("0.00"));
+    }
+}
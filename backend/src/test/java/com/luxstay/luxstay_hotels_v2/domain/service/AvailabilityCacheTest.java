@@ -0,0 +1,149 @@
+package com.luxstay.luxstay_hotels_v2.domain.service;
+
+import com.luxstay.luxstay_hotels_v2.domain.Room;
+import com.luxstay.luxstay_hotels_v2.domain.service.AvailabilityCache.Query;
+import com.luxstay.luxstay_hotels_v2.domain.service.ReservationChangedEvent.Stay;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AvailabilityCacheTest {
+
+    private static final LocalDate JUNE_1 = LocalDate.of(2030, 6, 1);
+    private static final LocalDate JULY_1 = LocalDate.of(2030, 7, 1);
+
+    private final AvailabilityCache cache = new AvailabilityCache(Duration.ofMinutes(1), 100);
+
+    @Test
+    void queryFoldsCityChainAndPriceScale() {
+        assertThat(Query.of(JUNE_1, JUNE_1.plusDays(2), null, "Ottawa", "Hilton", null, new BigDecimal("150.00")))
+                .isEqualTo(Query.of(JUNE_1, JUNE_1.plusDays(2), null, "OTTAWA", "hilton", null, new BigDecimal("150")));
+    }
+
+    @Test
+    void bookingDropsOnlyOverlappingStays() {
+        Query june = cached(Query.of(JUNE_1, JUNE_1.plusDays(3), null, null, null, null, null));
+        Query july = cached(Query.of(JULY_1, JULY_1.plusDays(3), null, null, null, null, null));
+
+        cache.onReservationChanged(created(stay(JUNE_1.plusDays(2), JUNE_1.plusDays(5), "Ottawa", "ACTIVE")));
+
+        assertThat(cache.get(june)).isNull();
+        assertThat(cache.get(july)).isNotNull();
+    }
+
+    @Test
+    void stayEndingOnArrivalDayDoesNotOverlap() {
+        Query june = cached(Query.of(JUNE_1, JUNE_1.plusDays(3), null, null, null, null, null));
+
+        cache.onReservationChanged(created(stay(JUNE_1.minusDays(2), JUNE_1, "Ottawa", "ACTIVE")));
+
+        assertThat(cache.get(june)).isNotNull();
+    }
+
+    @Test
+    void bookingOutsideTheFiltersKeepsTheEntry() {
+        Query ottawa = cached(Query.of(JUNE_1, JUNE_1.plusDays(3), null, "Ottawa", null, null, null));
+        Query toronto = cached(Query.of(JUNE_1, JUNE_1.plusDays(3), null, "Toronto", null, null, null));
+        Query bigRooms = cached(Query.of(JUNE_1, JUNE_1.plusDays(3), null, null, null, 4, null));
+        Query cheap = cached(Query.of(JUNE_1, JUNE_1.plusDays(3), null, null, null, null, new BigDecimal("100")));
+
+        cache.onReservationChanged(created(stay(JUNE_1, JUNE_1.plusDays(1), "Ottawa", "ACTIVE")));
+
+        assertThat(cache.get(ottawa)).isNull();
+        assertThat(cache.get(toronto)).isNotNull();
+        assertThat(cache.get(bigRooms)).isNotNull(); // the room sleeps 2
+        assertThat(cache.get(cheap)).isNotNull();    // and costs 150
+    }
+
+    @Test
+    void cityPatternsMatchLikeIlike() {
+        Query prefix = Query.of(JUNE_1, JUNE_1.plusDays(1), null, "ott%", null, null, null);
+        Query oneChar = Query.of(JUNE_1, JUNE_1.plusDays(1), null, "_ttawa", null, null, null);
+        Query literalDot = Query.of(JUNE_1, JUNE_1.plusDays(1), null, "o.t%", null, null, null);
+
+        Stay ottawa = stay(JUNE_1, JUNE_1.plusDays(1), "Ottawa", "ACTIVE");
+        assertThat(prefix.couldInclude(ottawa)).isTrue();
+        assertThat(oneChar.couldInclude(ottawa)).isTrue();
+        assertThat(literalDot.couldInclude(ottawa)).isFalse();
+        assertThat(prefix.couldInclude(stay(JUNE_1, JUNE_1.plusDays(1), "Toronto", "ACTIVE"))).isFalse();
+    }
+
+    @Test
+    void unknownRoomFactsInvalidate() {
+        Query ottawa = Query.of(JUNE_1, JUNE_1.plusDays(1), 7L, "Ottawa", "Hilton", 4, new BigDecimal("50"));
+
+        assertThat(ottawa.couldInclude(new Stay(1L, null, null, null, null, null,
+                JUNE_1, JUNE_1.plusDays(1), "ACTIVE", "UNPAID"))).isTrue();
+    }
+
+    @Test
+    void paymentDoesNotInvalidate() {
+        Query june = cached(Query.of(JUNE_1, JUNE_1.plusDays(3), null, null, null, null, null));
+        long stamp = cache.stamp();
+
+        Stay unpaid = stay(JUNE_1, JUNE_1.plusDays(2), "Ottawa", "ACTIVE");
+        Stay paid = new Stay(unpaid.roomId(), unpaid.hotelId(), unpaid.city(), unpaid.chainName(), unpaid.capacity(),
+                unpaid.price(), unpaid.startDate(), unpaid.endDate(), "ACTIVE", "PAID");
+        cache.onReservationChanged(new ReservationChangedEvent(1L, unpaid, paid));
+
+        assertThat(cache.get(june)).isNotNull();
+        assertThat(cache.stamp()).isEqualTo(stamp);
+    }
+
+    @Test
+    void cancellationFreesTheRoomAndInvalidates() {
+        Query june = cached(Query.of(JUNE_1, JUNE_1.plusDays(3), null, null, null, null, null));
+
+        cache.onReservationChanged(new ReservationChangedEvent(1L,
+                stay(JUNE_1, JUNE_1.plusDays(2), "Ottawa", "ACTIVE"),
+                stay(JUNE_1, JUNE_1.plusDays(2), "Ottawa", "CANCELLED")));
+
+        assertThat(cache.get(june)).isNull();
+    }
+
+    @Test
+    void resultComputedAcrossAnInvalidationIsNotStored() {
+        Query june = Query.of(JUNE_1, JUNE_1.plusDays(3), null, null, null, null, null);
+        long stamp = cache.stamp();
+
+        // A booking for another month commits while the search runs
+        cache.onReservationChanged(created(stay(JULY_1, JULY_1.plusDays(1), "Ottawa", "ACTIVE")));
+        cache.put(june, List.of(new Room()), stamp);
+
+        assertThat(cache.get(june)).isNull();
+    }
+
+    @Test
+    void catalogChangeDropsEverything() {
+        Query june = cached(Query.of(JUNE_1, JUNE_1.plusDays(3), null, null, null, null, null));
+        Query july = cached(Query.of(JULY_1, JULY_1.plusDays(3), null, "Toronto", null, null, null));
+
+        cache.onCatalogChanged(new CatalogChangedEvent("room", 1L));
+
+        assertThat(cache.get(june)).isNull();
+        assertThat(cache.get(july)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    private Query cached(Query query) {
+        cache.put(query, List.of(new Room()), cache.stamp());
+        assertThat(cache.get(query)).isNotNull();
+        return query;
+    }
+
+    private static ReservationChangedEvent created(Stay stay) {
+        return new ReservationChangedEvent(1L, null, stay);
+    }
+
+    /**
+     * Room 1 of hotel 1: sleeps 2, 150 a night.
+     */
+    private static Stay stay(LocalDate start, LocalDate end, String city, String status) {
+        return new Stay(1L, 1L, city, "Hilton", 2, new BigDecimal("150"), start, end, status, "UNPAID");
+    }
+}
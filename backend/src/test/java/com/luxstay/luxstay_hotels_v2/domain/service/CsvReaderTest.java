@@ -0,0 +1,99 @@
+package com.luxstay.luxstay_hotels_v2.domain.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvReaderTest {
+
+    @Test
+    void plainRecords() throws IOException {
+        assertThat(readAll("id,name\n1,Ottawa\n2,Toronto\n"))
+                .containsExactly(List.of("id", "name"), List.of("1", "Ottawa"), List.of("2", "Toronto"));
+    }
+
+    @Test
+    void lastLineWithoutLineBreak() throws IOException {
+        assertThat(readAll("a,b\nc,d")).containsExactly(List.of("a", "b"), List.of("c", "d"));
+    }
+
+    @Test
+    void crlfLineBreaks() throws IOException {
+        assertThat(readAll("a,b\r\nc,d\r\n")).containsExactly(List.of("a", "b"), List.of("c", "d"));
+    }
+
+    @Test
+    void emptyFields() throws IOException {
+        assertThat(readAll(",,\n\"\",x,\n")).containsExactly(List.of("", "", ""), List.of("", "x", ""));
+    }
+
+    @Test
+    void quotedCommasAndQuotes() throws IOException {
+        assertThat(readAll("\"Hilton, Downtown\",\"the \"\"Grand\"\" suite\",x\n"))
+                .containsExactly(List.of("Hilton, Downtown", "the \"Grand\" suite", "x"));
+    }
+
+    @Test
+    void quoteInsideAnUnquotedFieldIsLiteral() throws IOException {
+        assertThat(readAll("5\" screen,b\n")).containsExactly(List.of("5\" screen", "b"));
+    }
+
+    @Test
+    void lineBreaksInsideQuotesStayInTheField() throws IOException {
+        try (CsvReader csv = new CsvReader(new StringReader("\"first\nsecond\r\nthird\",b\nnext,row\n"))) {
+            assertThat(csv.next()).containsExactly("first\nsecond\r\nthird", "b");
+            assertThat(csv.recordLine()).isEqualTo(1);
+            assertThat(csv.next()).containsExactly("next", "row");
+            assertThat(csv.recordLine()).isEqualTo(4);
+            assertThat(csv.next()).isNull();
+        }
+    }
+
+    @Test
+    void skipsByteOrderMark() throws IOException {
+        assertThat(readAll("\uFEFFid,name\n1,x\n")).containsExactly(List.of("id", "name"), List.of("1", "x"));
+    }
+
+    @Test
+    void unterminatedQuoteReportsItsLine() {
+        assertThatThrownBy(() -> readAll("a,b\n\"never closed,c\nd\n"))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("line 2");
+    }
+
+    @Test
+    void readsAcrossBufferRefills() throws IOException {
+        String longField = "x".repeat(20_000);
+        String csv = "\"" + longField + "\"\"\",\"a\r\nb\"\r\nend,\"\"\"\"\r\n";
+
+        // One char per read(): every quote / CR lookahead lands on a refill
+        Reader trickle = new StringReader(csv) {
+            @Override
+            public int read(char[] cbuf, int off, int len) throws IOException {
+                return super.read(cbuf, off, Math.min(len, 1));
+            }
+        };
+        List<List<String>> records = new ArrayList<>();
+        try (CsvReader reader = new CsvReader(trickle)) {
+            List<String> r;
+            while ((r = reader.next()) != null) records.add(r);
+        }
+        assertThat(records).containsExactly(List.of(longField + "\"", "a\r\nb"), List.of("end", "\""));
+    }
+
+    private static List<List<String>> readAll(String text) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        try (CsvReader csv = new CsvReader(new StringReader(text))) {
+            List<String> r;
+            while ((r = csv.next()) != null) records.add(r);
+        }
+        return records;
+    }
+}
@@ -0,0 +1,70 @@
+package com.luxstay.luxstay_hotels_v2.domain.service;
+
+import com.luxstay.luxstay_hotels_v2.domain.repo.FrontDeskRepository.DayRow;
+import com.luxstay.luxstay_hotels_v2.web.dto.FrontDeskDtos;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FrontDeskServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2030, 6, 10);
+
+    @Test
+    void rowsAreSortedIntoArrivalsDeparturesAndInHouse() {
+        DayRow arriving = row(1, 101, DAY, DAY.plusDays(2));
+        DayRow departing = row(2, 102, DAY.minusDays(3), DAY);
+        DayRow inHouse = row(3, 103, DAY.minusDays(1), DAY.plusDays(1));
+
+        FrontDeskDtos.DayView view = FrontDeskService.classify(7L, DAY, List.of(arriving, departing, inHouse));
+
+        assertThat(view.hotelId()).isEqualTo(7L);
+        assertThat(view.date()).isEqualTo(DAY);
+        assertThat(view.arrivals()).extracting(FrontDeskDtos.Row::reservationId).containsExactly(1L);
+        assertThat(view.departures()).extracting(FrontDeskDtos.Row::reservationId).containsExactly(2L);
+        assertThat(view.inHouse()).extracting(FrontDeskDtos.Row::reservationId).containsExactly(3L);
+    }
+
+    @Test
+    void turnoverRoomIsBothADepartureAndAnArrival() {
+        DayRow leaving = row(1, 101, DAY.minusDays(2), DAY);
+        DayRow coming = row(2, 101, DAY, DAY.plusDays(1));
+
+        FrontDeskDtos.DayView view = FrontDeskService.classify(7L, DAY, List.of(leaving, coming));
+
+        assertThat(view.departures()).extracting(FrontDeskDtos.Row::reservationId).containsExactly(1L);
+        assertThat(view.arrivals()).extracting(FrontDeskDtos.Row::reservationId).containsExactly(2L);
+        assertThat(view.inHouse()).isEmpty();
+    }
+
+    @Test
+    void stayThatEndedOrHasNotStartedLeavesTheRoomFree() {
+        DayRow ended = row(1, 101, DAY.minusDays(3), DAY.minusDays(1));
+        DayRow upcoming = row(2, 102, DAY.plusDays(1), DAY.plusDays(4));
+
+        FrontDeskDtos.DayView view = FrontDeskService.classify(7L, DAY, List.of(ended, upcoming));
+
+        assertThat(view.arrivals()).isEmpty();
+        assertThat(view.departures()).isEmpty();
+        assertThat(view.inHouse()).isEmpty();
+    }
+
+    @Test
+    void rowFieldsAreCopiedAndPaymentStatusUppercased() {
+        DayRow r = new DayRow(5, 42, 305, "Ada Lovelace", DAY, DAY.plusDays(3), "paid", true, false);
+
+        FrontDeskDtos.Row row = FrontDeskService.classify(7L, DAY, List.of(r)).arrivals().get(0);
+
+        assertThat(row).isEqualTo(new FrontDeskDtos.Row(5L, 42L, 305, "Ada Lovelace", DAY, DAY.plusDays(3),
+                "PAID", true, false));
+        assertThat(FrontDeskService.classify(7L, DAY, List.of(row(6, 101, DAY, DAY.plusDays(1))))
+                .arrivals().get(0).paymentStatus()).isNull();
+    }
+
+    private static DayRow row(long reservationId, int roomNumber, LocalDate start, LocalDate end) {
+        return new DayRow(reservationId, roomNumber, roomNumber, "Guest " + reservationId, start, end, null, false, false);
+    }
+}
@@ -0,0 +1,93 @@
+package com.luxstay.luxstay_hotels_v2.domain.service;
+
+import com.luxstay.luxstay_hotels_v2.support.TestCatalog;
+import com.luxstay.luxstay_hotels_v2.web.dto.FrontDeskDtos;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The lateral "latest two stays per room" query behind the day view, against the real database.
+ * Stays are in 2089 (the default partition), away from anything the application books.
+ */
+@SpringBootTest(properties = "luxstay.warmup.enabled=false")
+class FrontDeskServiceTests {
+
+    private static final LocalDate DAY = LocalDate.of(2089, 8, 15);
+
+    @Autowired
+    FrontDeskService frontDesk;
+
+    @Autowired
+    JdbcTemplate jdbc;
+
+    private TestCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = TestCatalog.create(jdbc);
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalog.delete();
+    }
+
+    @Test
+    void dayViewFindsTheStaysTouchingTheDayAndNothingElse() {
+        // 101: back-to-back history, turnover on DAY (needs both of the two latest stays)
+        long turnover = catalog.room(101, "150.00");
+        for (int i = 5; i >= 1; i--) {
+            catalog.reservation(turnover, DAY.minusDays(2L * i + 2), DAY.minusDays(2L * i), "COMPLETED", "PAID");
+        }
+        long leaving = catalog.reservation(turnover, DAY.minusDays(2), DAY, "ACTIVE", "PAID");
+        long arriving = catalog.reservation(turnover, DAY, DAY.plusDays(3), "ACTIVE", "UNPAID");
+
+        // 102: staying over, with an older stay behind it
+        long stayOver = catalog.room(102, "150.00");
+        catalog.reservation(stayOver, DAY.minusDays(20), DAY.minusDays(10), "COMPLETED", "PAID");
+        long inHouse = catalog.reservation(stayOver, DAY.minusDays(3), DAY.plusDays(2), "ACTIVE", "PAID");
+
+        // 103: left yesterday; a cancelled stay over DAY doesn't count
+        long free = catalog.room(103, "150.00");
+        catalog.reservation(free, DAY.minusDays(4), DAY.minusDays(1), "COMPLETED", "PAID");
+        catalog.reservation(free, DAY.minusDays(1), DAY.plusDays(1), "CANCELLED", "UNPAID");
+
+        // 104: next stay starts tomorrow
+        long upcoming = catalog.room(104, "150.00");
+        catalog.reservation(upcoming, DAY.plusDays(1), DAY.plusDays(2), "ACTIVE", "UNPAID");
+
+        FrontDeskDtos.DayView view = frontDesk.dayView(catalog.hotelId(), DAY);
+
+        assertThat(view.arrivals()).extracting(FrontDeskDtos.Row::reservationId).containsExactly(arriving);
+        assertThat(view.departures()).extracting(FrontDeskDtos.Row::reservationId).containsExactly(leaving);
+        assertThat(view.inHouse()).extracting(FrontDeskDtos.Row::reservationId).containsExactly(inHouse);
+
+        FrontDeskDtos.Row arrival = view.arrivals().get(0);
+        assertThat(arrival.roomId()).isEqualTo(turnover);
+        assertThat(arrival.roomNumber()).isEqualTo(101);
+        assertThat(arrival.guestName()).isEqualTo(catalog.tag());
+        assertThat(arrival.paymentStatus()).isEqualTo("UNPAID");
+        assertThat(arrival.checkedIn()).isFalse();
+    }
+
+    @Test
+    void checkInAndCheckOutFlagsComeFromTheTimestamps() {
+        long room = catalog.room(101, "150.00");
+        long leaving = catalog.reservation(room, DAY.minusDays(2), DAY, "ACTIVE", "PAID");
+        jdbc.update("update reservation set checked_in_at = ?, checked_out_at = ? where id = ?",
+                DAY.minusDays(2).atTime(15, 0), DAY.atTime(10, 0), leaving);
+
+        FrontDeskDtos.Row departure = frontDesk.dayView(catalog.hotelId(), DAY).departures().get(0);
+
+        assertThat(departure.checkedIn()).isTrue();
+        assertThat(departure.checkedOut()).isTrue();
+    }
+}
@@ -0,0 +1,131 @@
+package com.luxstay.luxstay_hotels_v2.domain.service;
+
+import com.luxstay.luxstay_hotels_v2.domain.Room;
+import com.luxstay.luxstay_hotels_v2.domain.repo.RateRepository;
+import com.luxstay.luxstay_hotels_v2.domain.repo.RoomRepository;
+import com.luxstay.luxstay_hotels_v2.web.dto.RoomDtos;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Grid build, quotes and price sorting over stub repositories. Flat calendar (every night x1.0),
+ * +20% from 50% occupancy, five nights of grid from today.
+ *
+ * Hotel 1: rooms 10 (100.00) and 11 (150.00), one of its two rooms sold on night 2 (-> x1.2).
+ * Hotel 2: rooms 20 and 21 (80.00), nothing sold.
+ * Room 30 (55.55) was created after the build: only RoomRepository knows it.
+ */
+class RateGridServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+    private static final LocalDate FOUR_NIGHTS = TODAY.plusDays(4);
+
+    private final RateGridService service = new RateGridService(new StubRates(), rooms(room(30, "55.55")),
+            5, "1,1,1,1,1,1,1", "", "0.50:1.20");
+
+    @Test
+    void occupancyRaisesEveryRoomOfThatHotelOnly() {
+        assertThat(totals(service.quote(List.of(10L, 11L, 20L), TODAY, FOUR_NIGHTS)))
+                .containsExactly("420.00", "630.00", "320.00");
+    }
+
+    @Test
+    void quoteAveragesTheNights() {
+        RoomDtos.Quote q = service.quote(List.of(11L), TODAY, FOUR_NIGHTS).get(0);
+
+        assertThat(q.roomId()).isEqualTo(11L);
+        assertThat(q.nights()).isEqualTo(4);
+        assertThat(q.total()).isEqualByComparingTo("630.00");
+        assertThat(q.averageNightly()).isEqualByComparingTo("157.50");
+    }
+
+    @Test
+    void nightsPastTheHorizonUseTheCalendarOnly() {
+        // Nights 2..4 from the grid (night 2 at x1.2), 5 from the calendar
+        assertThat(totals(service.quote(List.of(10L), TODAY.plusDays(2), TODAY.plusDays(6))))
+                .containsExactly("420.00");
+    }
+
+    @Test
+    void roomNewerThanTheGridIsPricedFromRoomPriceAndUnknownIdsAreLeftOut() {
+        List<RoomDtos.Quote> quotes = service.quote(List.of(30L, 99L, 20L), TODAY, FOUR_NIGHTS);
+
+        assertThat(quotes).extracting(RoomDtos.Quote::roomId).containsExactly(30L, 20L);
+        assertThat(totals(quotes)).containsExactly("222.20", "320.00");
+    }
+
+    @Test
+    void sortByStayPriceKeepsTiesInSearchOrderBothWays() {
+        List<Room> found = List.of(room(11, "150.00"), room(20, "80.00"), room(30, "55.55"),
+                room(21, "80.00"), room(10, "100.00"));
+
+        assertThat(ids(service.sortByStayPrice(found, TODAY, FOUR_NIGHTS, false))).containsExactly(30L, 20L, 21L, 10L, 11L);
+        assertThat(ids(service.sortByStayPrice(found, TODAY, FOUR_NIGHTS, true))).containsExactly(11L, 10L, 20L, 21L, 30L);
+    }
+
+    @Test
+    void sortedRoomsCarryTheirQuote() {
+        List<RateGridService.Priced> sorted =
+                service.sortByStayPrice(List.of(room(11, "150.00"), room(30, "55.55")), TODAY, FOUR_NIGHTS, false);
+
+        assertThat(sorted.get(0).quote().total()).isEqualByComparingTo("222.20");
+        assertThat(sorted.get(1).quote().total()).isEqualByComparingTo("630.00");
+        assertThat(sorted.get(1).quote().averageNightly()).isEqualByComparingTo("157.50");
+    }
+
+    private static List<String> totals(List<RoomDtos.Quote> quotes) {
+        return quotes.stream().map(q -> q.total().toPlainString()).toList();
+    }
+
+    private static List<Long> ids(List<RateGridService.Priced> sorted) {
+        return sorted.stream().map(p -> p.room().getId()).toList();
+    }
+
+    private static Room room(long id, String price) {
+        return Room.builder().id(id).price(new BigDecimal(price)).build();
+    }
+
+    /**
+     * RoomRepository answering findAllById from `known`; nothing else is used by RateGridService.
+     */
+    @SuppressWarnings("unchecked")
+    private static RoomRepository rooms(Room... known) {
+        return (RoomRepository) Proxy.newProxyInstance(RoomRepository.class.getClassLoader(),
+                new Class<?>[]{RoomRepository.class}, (proxy, method, args) -> {
+                    if (!method.getName().equals("findAllById")) throw new UnsupportedOperationException(method.getName());
+                    List<Room> out = new ArrayList<>();
+                    for (Long id : (Iterable<Long>) args[0]) {
+                        for (Room r : known) if (r.getId().equals(id)) out.add(r);
+                    }
+                    return out;
+                });
+    }
+
+    private static final class StubRates extends RateRepository {
+
+        StubRates() {
+            super(null);
+        }
+
+        @Override
+        public void findRoomPrices(RoomPriceHandler handler) {
+            handler.room(10, 1, 10_000);
+            handler.room(11, 1, 15_000);
+            handler.room(20, 2, 8_000);
+            handler.room(21, 2, 8_000);
+        }
+
+        @Override
+        public void findNightsSold(LocalDate from, LocalDate to, HotelNightHandler handler) {
+            LocalDate night = TODAY.plusDays(2);
+            if (!night.isBefore(from) && night.isBefore(to)) handler.night(1, night, 1);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.luxstay.luxstay_hotels_v2.domain.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateGridTest {
+
+    private static final LocalDate FIRST = LocalDate.of(2030, 6, 1);
+    private static final long D0 = FIRST.toEpochDay();
+
+    // Rooms 10, 11 in hotel index 0, room 20 in hotel index 1; three nights
+    private final RateGrid grid = new RateGrid(FIRST, 3,
+            new long[]{10, 11, 20},
+            new long[]{10_000, 15_000, 8_001},
+            new int[]{0, 0, 1},
+            new int[]{
+                    10_000, 12_000, 11_500,  // hotel 0
+                    10_000, 10_000, 13_333   // hotel 1
+            });
+
+    @Test
+    void rateRoundsHalfUp() {
+        assertThat(RateGrid.rate(1, 5_000)).isEqualTo(1);
+        assertThat(RateGrid.rate(3, 5_000)).isEqualTo(2);
+        assertThat(RateGrid.rate(1, 4_999)).isZero();
+        assertThat(RateGrid.rate(8_001, 13_333)).isEqualTo(10_668); // 10,667.73
+        assertThat(RateGrid.rate(10_000, RateRules.ONE)).isEqualTo(10_000);
+    }
+
+    @Test
+    void everyRoomOfAHotelSharesItsNightlyFactor() {
+        assertThat(grid.nightCents(0, D0 + 1)).isEqualTo(12_000);
+        assertThat(grid.nightCents(1, D0 + 1)).isEqualTo(18_000);
+        assertThat(grid.nightCents(2, D0 + 1)).isEqualTo(8_001);
+    }
+
+    @Test
+    void stayTotalIsTheSumOfItsNights() {
+        assertThat(grid.stayCents(0, D0, D0 + 3)).isEqualTo(10_000 + 12_000 + 11_500);
+        assertThat(grid.stayCents(1, D0 + 1, D0 + 2)).isEqualTo(18_000);
+        assertThat(grid.stayCents(2, D0, D0 + 3)).isEqualTo(8_001 + 8_001 + 10_668);
+    }
+
+    @Test
+    void lookupsAndCoverage() {
+        assertThat(grid.indexOf(11)).isEqualTo(1);
+        assertThat(grid.indexOf(12)).isEqualTo(-1);
+        assertThat(grid.baseCents(2)).isEqualTo(8_001);
+        assertThat(grid.rooms()).isEqualTo(3);
+
+        assertThat(grid.covers(D0, D0 + 3)).isTrue();
+        assertThat(grid.covers(D0 + 2, D0 + 3)).isTrue();
+        assertThat(grid.covers(D0, D0 + 4)).isFalse();
+        assertThat(grid.covers(D0 - 1, D0 + 1)).isFalse();
+    }
+}
@@ -0,0 +1,92 @@
+package com.luxstay.luxstay_hotels_v2.domain.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateRulesTest {
+
+    private static final String FLAT_WEEK = "1,1,1,1,1,1,1";
+
+    // Same shape as application.properties, plus a second, shorter June season that never matches
+    private final RateRules rules = RateRules.parse(
+            "1.0,1.0,1.0,1.0,1.15,1.20,1.0",
+            "12-20..01-05:1.40, 06-01..06-30:1.20, 06-15..06-20:2.0",
+            "0.70:1.10,0.85:1.20,0.95:1.35");
+
+    @Test
+    void weekdayMultiplierOfTheNight() {
+        assertThat(rules.calendarBp(LocalDate.of(2030, 5, 6))).isEqualTo(10_000);  // Monday
+        assertThat(rules.calendarBp(LocalDate.of(2030, 5, 10))).isEqualTo(11_500); // Friday
+        assertThat(rules.calendarBp(LocalDate.of(2030, 5, 11))).isEqualTo(12_000); // Saturday
+    }
+
+    @Test
+    void seasonWrapsTheYearEndInclusive() {
+        assertThat(rules.calendarBp(LocalDate.of(2030, 12, 19))).isEqualTo(10_000);
+        assertThat(rules.calendarBp(LocalDate.of(2030, 12, 31))).isEqualTo(14_000);
+        assertThat(rules.calendarBp(LocalDate.of(2031, 1, 1))).isEqualTo(14_000);
+        assertThat(rules.calendarBp(LocalDate.of(2031, 1, 5))).isEqualTo(14_000);
+        assertThat(rules.calendarBp(LocalDate.of(2031, 1, 6))).isEqualTo(10_000);
+    }
+
+    @Test
+    void seasonMultipliesTheWeekday() {
+        assertThat(rules.calendarBp(LocalDate.of(2030, 12, 20))).isEqualTo(16_100); // Friday: 1.15 x 1.40
+        assertThat(rules.calendarBp(LocalDate.of(2030, 6, 7))).isEqualTo(13_800);   // Friday: 1.15 x 1.20
+    }
+
+    @Test
+    void firstMatchingSeasonWins() {
+        assertThat(rules.calendarBp(LocalDate.of(2030, 6, 16))).isEqualTo(12_000); // Sunday, not 2.0
+    }
+
+    @Test
+    void leapDaySeason() {
+        RateRules leap = RateRules.parse(FLAT_WEEK, "02-29..02-29:1.5", null);
+
+        assertThat(leap.calendarBp(LocalDate.of(2032, 2, 29))).isEqualTo(15_000);
+        assertThat(leap.calendarBp(LocalDate.of(2032, 2, 28))).isEqualTo(10_000);
+    }
+
+    @Test
+    void highestOccupancyThresholdReachedApplies() {
+        assertThat(rules.upliftBp(0)).isEqualTo(RateRules.ONE);
+        assertThat(rules.upliftBp(6_999)).isEqualTo(RateRules.ONE);
+        assertThat(rules.upliftBp(7_000)).isEqualTo(11_000);
+        assertThat(rules.upliftBp(9_000)).isEqualTo(12_000);
+        assertThat(rules.upliftBp(10_000)).isEqualTo(13_500);
+    }
+
+    @Test
+    void noSeasonsOrUpliftMeansOne() {
+        RateRules flat = RateRules.parse(FLAT_WEEK, "", " ");
+
+        assertThat(flat.calendarBp(LocalDate.of(2030, 12, 25))).isEqualTo(RateRules.ONE);
+        assertThat(flat.upliftBp(10_000)).isEqualTo(RateRules.ONE);
+    }
+
+    @Test
+    void multiplyRoundsHalfUp() {
+        assertThat(RateRules.multiply(11_500, 11_500)).isEqualTo(13_225);
+        assertThat(RateRules.multiply(3_333, 5_000)).isEqualTo(1_667);
+        assertThat(RateRules.multiply(RateRules.ONE, 12_345)).isEqualTo(12_345);
+    }
+
+    @Test
+    void malformedRulesAreRejected() {
+        assertThatThrownBy(() -> RateRules.parse("1,1,1,1,1,1", null, null))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("7 weekday");
+        assertThatThrownBy(() -> RateRules.parse(FLAT_WEEK, "06-01:1.2", null))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("MM-DD..MM-DD");
+        assertThatThrownBy(() -> RateRules.parse(FLAT_WEEK, null, "0.9:1.2,0.8:1.3"))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("increasing");
+        assertThatThrownBy(() -> RateRules.parse("1,1,1,1,1,0,1", null, null))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("out of range");
+        assertThatThrownBy(() -> RateRules.parse(FLAT_WEEK, null, "0.9"))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("threshold:multiplier");
+    }
+}
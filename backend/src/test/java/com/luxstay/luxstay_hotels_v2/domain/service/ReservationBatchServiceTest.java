@@ -0,0 +1,82 @@
+package com.luxstay.luxstay_hotels_v2.domain.service;
+
+import com.luxstay.luxstay_hotels_v2.domain.repo.ReservationBatchRepository.Snapshot;
+import com.luxstay.luxstay_hotels_v2.domain.service.ReservationBatchService.Action;
+import com.luxstay.luxstay_hotels_v2.domain.service.ReservationBatchService.Outcome;
+import com.luxstay.luxstay_hotels_v2.domain.service.ReservationBatchService.Verdict;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReservationBatchServiceTest {
+
+    private static final LocalDate ARRIVAL = LocalDate.of(2030, 6, 10);
+    private static final LocalDate DEPARTURE = LocalDate.of(2030, 6, 13);
+    private static final LocalDateTime CHECKED_IN = ARRIVAL.atTime(15, 0);
+    private static final LocalDateTime CHECKED_OUT = DEPARTURE.atTime(11, 0);
+
+    @Test
+    void checkInFromArrivalUntilTheLastNight() {
+        assertThat(check(Action.CHECK_IN, active(null, null), ARRIVAL)).isEqualTo(Verdict.OK);
+        assertThat(check(Action.CHECK_IN, active(null, null), DEPARTURE.minusDays(1))).isEqualTo(Verdict.OK);
+
+        assertThat(check(Action.CHECK_IN, active(null, null), ARRIVAL.minusDays(1)))
+                .isEqualTo(new Verdict(Outcome.REJECTED, "Arrival is on 2030-06-10"));
+        assertThat(check(Action.CHECK_IN, active(null, null), DEPARTURE))
+                .isEqualTo(new Verdict(Outcome.REJECTED, "Stay ended on 2030-06-13"));
+    }
+
+    @Test
+    void checkInTwiceIsSkipped() {
+        assertThat(check(Action.CHECK_IN, active(CHECKED_IN, null), ARRIVAL))
+                .isEqualTo(new Verdict(Outcome.SKIPPED, "Already checked in"));
+    }
+
+    @Test
+    void completedStayCantBeCheckedIn() {
+        assertThat(check(Action.CHECK_IN, snapshot("COMPLETED", null, null), ARRIVAL))
+                .isEqualTo(new Verdict(Outcome.REJECTED, "Reservation is completed"));
+    }
+
+    @Test
+    void checkOutNeedsACheckIn() {
+        assertThat(check(Action.CHECK_OUT, active(CHECKED_IN, null), DEPARTURE)).isEqualTo(Verdict.OK);
+        assertThat(check(Action.CHECK_OUT, active(null, null), DEPARTURE))
+                .isEqualTo(new Verdict(Outcome.REJECTED, "Not checked in"));
+        assertThat(check(Action.CHECK_OUT, active(CHECKED_IN, CHECKED_OUT), DEPARTURE))
+                .isEqualTo(new Verdict(Outcome.SKIPPED, "Already checked out"));
+    }
+
+    @Test
+    void completeOnceTheStayHasEnded() {
+        assertThat(check(Action.COMPLETE, active(CHECKED_IN, CHECKED_OUT), DEPARTURE)).isEqualTo(Verdict.OK);
+        assertThat(check(Action.COMPLETE, active(CHECKED_IN, null), DEPARTURE.minusDays(1)))
+                .isEqualTo(new Verdict(Outcome.REJECTED, "Stay ends on 2030-06-13"));
+        assertThat(check(Action.COMPLETE, snapshot("COMPLETED", CHECKED_IN, CHECKED_OUT), DEPARTURE))
+                .isEqualTo(new Verdict(Outcome.SKIPPED, "Already completed"));
+    }
+
+    @Test
+    void cancelledIsRejectedForEveryAction() {
+        Snapshot cancelled = snapshot("cancelled", CHECKED_IN, null); // status case doesn't matter
+        for (Action action : Action.values()) {
+            assertThat(check(action, cancelled, ARRIVAL))
+                    .isEqualTo(new Verdict(Outcome.REJECTED, "Reservation is cancelled"));
+        }
+    }
+
+    private static Verdict check(Action action, Snapshot s, LocalDate day) {
+        return ReservationBatchService.check(action, s, day);
+    }
+
+    private static Snapshot active(LocalDateTime checkedInAt, LocalDateTime checkedOutAt) {
+        return snapshot("ACTIVE", checkedInAt, checkedOutAt);
+    }
+
+    private static Snapshot snapshot(String status, LocalDateTime checkedInAt, LocalDateTime checkedOutAt) {
+        return new Snapshot(1L, status, ARRIVAL, DEPARTURE, checkedInAt, checkedOutAt);
+    }
+}
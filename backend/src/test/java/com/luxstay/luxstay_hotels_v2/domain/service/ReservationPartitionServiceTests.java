@@ -0,0 +1,166 @@
+package com.luxstay.luxstay_hotels_v2.domain.service;
+
+import com.luxstay.luxstay_hotels_v2.domain.repo.ReservationPartitionRepository;
+import com.luxstay.luxstay_hotels_v2.support.TestCatalog;
+import com.luxstay.luxstay_hotels_v2.web.dto.ReservationDtos;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Partition function (V3 / V6) and the archive round trip, against the real database.
+ * Uses months far outside what the application maintains: 2090 for new partitions, 1990 for the archive.
+ */
+@SpringBootTest(properties = {
+        "luxstay.warmup.enabled=false",
+        "luxstay.reservations.archive.enabled=false"
+})
+class ReservationPartitionServiceTests {
+
+    private static final LocalDate FUTURE = LocalDate.of(2090, 3, 1);
+    private static final LocalDate PAST = LocalDate.of(1990, 1, 1);
+
+    @TempDir
+    static Path archiveDir;
+
+    @DynamicPropertySource
+    static void archive(DynamicPropertyRegistry registry) {
+        registry.add("luxstay.reservations.archive.dir", () -> archiveDir.toString());
+        // Old enough to archive: PAST's month and nothing after it
+        registry.add("luxstay.reservations.archive.retention-months",
+                () -> ChronoUnit.MONTHS.between(PAST.plusMonths(1), LocalDate.now().withDayOfMonth(1)));
+    }
+
+    @Autowired
+    ReservationPartitionService service;
+
+    @Autowired
+    ReservationPartitionRepository partitions;
+
+    @Autowired
+    JdbcTemplate jdbc;
+
+    private TestCatalog catalog;
+    private long room;
+
+    @BeforeEach
+    void setUp() {
+        dropTestPartitions();
+        catalog = TestCatalog.create(jdbc);
+        room = catalog.room(101, "150.00");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        catalog.delete();
+        dropTestPartitions();
+        Files.deleteIfExists(archiveDir.resolve("reservation_p1990_01.csv.gz"));
+        Files.deleteIfExists(archiveDir.resolve("reservation_p1990_01.csv.gz.tmp"));
+    }
+
+    @Test
+    void creatingAMonthMovesItsRowsOutOfTheDefaultPartition() {
+        long first = catalog.reservation(room, FUTURE.plusDays(2), FUTURE.plusDays(5), "ACTIVE", "UNPAID");
+        long second = catalog.reservation(room, FUTURE.plusDays(20), FUTURE.plusDays(40), "ACTIVE", "PAID");
+        long nextMonth = catalog.reservation(room, FUTURE.plusMonths(1), FUTURE.plusMonths(1).plusDays(1), "ACTIVE", "UNPAID");
+        assertThat(ids("reservation_default")).containsExactlyInAnyOrder(first, second, nextMonth);
+
+        assertThat(partitions.ensurePartitions(FUTURE, FUTURE.plusMonths(1))).isEqualTo(1);
+
+        assertThat(ids("reservation_p2090_03")).containsExactlyInAnyOrder(first, second);
+        assertThat(ids("reservation_default")).containsExactly(nextMonth);
+        assertThat(ids("reservation")).containsExactlyInAnyOrder(first, second, nextMonth);
+
+        // Existing months are left alone
+        assertThat(partitions.ensurePartitions(FUTURE, FUTURE.plusMonths(1))).isZero();
+        assertThat(ids("reservation_p2090_03")).containsExactlyInAnyOrder(first, second);
+    }
+
+    @Test
+    void archivedMonthIsDroppedLoggedAndReadableFromItsFile() {
+        partitions.ensurePartitions(PAST, PAST.plusMonths(1));
+        long completed = catalog.reservation(room, PAST.plusDays(9), PAST.plusDays(12), "COMPLETED", "PAID");
+        long cancelled = catalog.reservation(room, PAST.plusDays(19), PAST.plusMonths(1).plusDays(1), "CANCELLED", "UNPAID");
+        jdbc.update("update reservation set notes = ? where id = ?", "late check-in, \"VIP\"\nsecond line", completed);
+
+        assertThat(service.archiveOldPartitions()).isEqualTo(1);
+
+        assertThat(jdbc.queryForObject("select to_regclass('reservation_p1990_01') is null", Boolean.class)).isTrue();
+        assertThat(archiveDir.resolve("reservation_p1990_01.csv.gz")).exists();
+        assertThat(archiveDir.resolve("reservation_p1990_01.csv.gz.tmp")).doesNotExist();
+        assertThat(jdbc.queryForMap("select reservations, last_end_date from reservation_archive where month = ?",
+                Date.valueOf(PAST)))
+                .containsEntry("reservations", 2L)
+                .containsEntry("last_end_date", Date.valueOf(PAST.plusMonths(1).plusDays(1)));
+        assertThat(partitions.findArchivedThrough()).isEqualTo(PAST.plusMonths(1).plusDays(1));
+
+        List<ReservationDtos.Response> archived =
+                service.findArchived(PAST, PAST.plusMonths(2), null, catalog.customerId());
+        assertThat(archived).extracting(ReservationDtos.Response::id).containsExactly(completed, cancelled);
+        assertThat(archived.get(0).status()).isEqualTo("COMPLETED");
+        assertThat(archived.get(0).paymentStatus()).isEqualTo("PAID");
+        assertThat(archived.get(0).notes()).isEqualTo("late check-in, \"VIP\"\nsecond line");
+        assertThat(archived.get(1).status()).isEqualTo("CANCELLED");
+        assertThat(archived.get(1).endDate()).isEqualTo(PAST.plusMonths(1).plusDays(1));
+    }
+
+    @Test
+    void fileLeftStagedAfterTheCommitIsMovedInPlaceByTheNextRun() throws IOException {
+        partitions.ensurePartitions(PAST, PAST.plusMonths(1));
+        long completed = catalog.reservation(room, PAST.plusDays(9), PAST.plusDays(12), "COMPLETED", "PAID");
+        assertThat(service.archiveOldPartitions()).isEqualTo(1);
+
+        // As if the run had stopped between the commit and the move
+        Path target = archiveDir.resolve("reservation_p1990_01.csv.gz");
+        Path staged = archiveDir.resolve("reservation_p1990_01.csv.gz.tmp");
+        Files.move(target, staged);
+        assertThat(service.findArchived(PAST, PAST.plusMonths(1), null, catalog.customerId())).isEmpty();
+
+        assertThat(service.archiveOldPartitions()).isZero();
+
+        assertThat(target).exists();
+        assertThat(staged).doesNotExist();
+        assertThat(service.findArchived(PAST, PAST.plusMonths(1), null, catalog.customerId()))
+                .extracting(ReservationDtos.Response::id).containsExactly(completed);
+    }
+
+    @Test
+    void stagedFileOfAMonthNotArchivedIsDeleted() throws IOException {
+        partitions.ensurePartitions(PAST, PAST.plusMonths(1));
+        catalog.reservation(room, PAST.plusDays(9), PAST.plusDays(12), "ACTIVE", "PAID");
+        Path staged = archiveDir.resolve("reservation_p1990_01.csv.gz.tmp");
+        Files.writeString(staged, "half-written export of a rolled back run");
+
+        // The ACTIVE stay keeps the partition attached; the leftover is dropped all the same
+        assertThat(service.archiveOldPartitions()).isZero();
+
+        assertThat(staged).doesNotExist();
+        assertThat(jdbc.queryForObject("select to_regclass('reservation_p1990_01') is not null", Boolean.class)).isTrue();
+    }
+
+    private List<Long> ids(String table) {
+        return jdbc.queryForList("select id from " + table + " where customer_id = ?", Long.class, catalog.customerId());
+    }
+
+    private void dropTestPartitions() {
+        jdbc.execute("drop table if exists reservation_p2090_03");
+        jdbc.execute("drop table if exists reservation_p1990_01");
+        jdbc.update("delete from reservation_archive where month = ?", Date.valueOf(PAST));
+    }
+}
@@ -0,0 +1,150 @@
+package com.luxstay.luxstay_hotels_v2.domain.service;
+
+import com.luxstay.luxstay_hotels_v2.domain.Reservation;
+import com.luxstay.luxstay_hotels_v2.domain.Room;
+import com.luxstay.luxstay_hotels_v2.support.TestCatalog;
+import com.luxstay.luxstay_hotels_v2.web.dto.ReservationDtos;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * reservation_daily_rollup kept by deltas vs. rebuilt from scratch, against the real database.
+ * Stays are in 2089 (the default partition), away from anything the application books.
+ */
+@SpringBootTest(properties = "luxstay.warmup.enabled=false")
+class ReservationRollupServiceTests {
+
+    private static final LocalDate MAY_1 = LocalDate.of(2089, 5, 1);
+
+    @Autowired
+    ReservationService reservations;
+
+    @Autowired
+    ReservationRollupService rollup;
+
+    @Autowired
+    RoomService rooms;
+
+    @Autowired
+    JdbcTemplate jdbc;
+
+    private TestCatalog catalog;
+    private long roomA;
+    private long roomB;
+
+    @BeforeEach
+    void setUp() {
+        catalog = TestCatalog.create(jdbc);
+        roomA = catalog.room(101, "150.00");
+        roomB = catalog.room(102, "200.00");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbc.update("delete from reservation_archive where month = ?", Date.valueOf(MAY_1.minusMonths(1)));
+        catalog.delete();
+    }
+
+    @Test
+    void deltasMatchARebuild() {
+        long first = book(roomA, MAY_1, MAY_1.plusDays(3)).getId();
+        long second = book(roomB, MAY_1.plusDays(2), MAY_1.plusDays(5)).getId();
+        reservations.pay(first);
+        reservations.update(second, new ReservationDtos.UpdateRequest(
+                roomA, MAY_1.plusDays(9), MAY_1.plusDays(11), null, null, null, null, null));
+        reservations.cancel(first, new ReservationDtos.CancelRequest(null));
+        reservations.pay(book(roomB, MAY_1, MAY_1.plusDays(1)).getId());
+
+        List<Map<String, Object>> incremental = rows();
+        assertThat(incremental).isNotEmpty();
+
+        rollup.rebuild(MAY_1, MAY_1.plusMonths(1));
+
+        assertThat(rows()).isEqualTo(incremental);
+    }
+
+    @Test
+    void rebuildKeepsDaysBeforeTheArchiveHorizon() {
+        // April was archived; its last stay ran until May 3 (exclusive)
+        jdbc.update("insert into reservation_archive (month, reservations, last_end_date) values (?, 1, ?)",
+                Date.valueOf(MAY_1.minusMonths(1)), Date.valueOf(MAY_1.plusDays(2)));
+        for (LocalDate day = MAY_1.minusDays(2); day.isBefore(MAY_1.plusDays(2)); day = day.plusDays(1)) {
+            addNight(roomA, day);
+        }
+        addNight(roomA, MAY_1.plusDays(5)); // stale: no live stay has this night
+
+        rollup.rebuild(MAY_1.minusMonths(1), MAY_1.plusMonths(1));
+
+        assertThat(rows()).extracting(r -> ((Date) r.get("day")).toLocalDate())
+                .containsExactly(MAY_1.minusDays(2), MAY_1.minusDays(1), MAY_1, MAY_1.plusDays(1));
+    }
+
+    @Test
+    void repricedRoomIsRebuiltSoLaterChangesCancelOut() throws InterruptedException {
+        long id = book(roomA, MAY_1, MAY_1.plusDays(2)).getId();
+        reservations.pay(id);
+
+        rooms.update(roomA, Room.builder()
+                .roomNumber(101).price(new BigDecimal("180.00")).capacity(2).extendable(false).build());
+        awaitRevenue(roomA, MAY_1, new BigDecimal("180.00"));
+
+        reservations.cancel(id, new ReservationDtos.CancelRequest(null));
+
+        // Only the cancellation is left: the nights came off at the price they were added with
+        assertThat(rows()).hasSize(1).first().satisfies(r -> {
+            assertThat(r.get("day")).isEqualTo(Date.valueOf(MAY_1));
+            assertThat(r.get("cancellations")).isEqualTo(1);
+        });
+    }
+
+    private Reservation book(long roomId, LocalDate start, LocalDate end) {
+        return reservations.create(new ReservationDtos.CreateRequest(roomId, start, end, catalog.customerRef(), null));
+    }
+
+    private void addNight(long roomId, LocalDate day) {
+        jdbc.update("""
+                insert into reservation_daily_rollup (room_id, day, hotel_id, nights_sold, revenue, paid_revenue)
+                values (?, ?, ?, 1, 150, 0)
+                """, roomId, Date.valueOf(day), catalog.hotelId());
+    }
+
+    /**
+     * Non-empty rollup rows of the test hotel (deltas can leave all-zero rows behind, a rebuild doesn't).
+     */
+    private List<Map<String, Object>> rows() {
+        return jdbc.queryForList("""
+                select room_id, day, nights_sold, revenue, paid_revenue, cancellations
+                from reservation_daily_rollup
+                where hotel_id = ?
+                  and (nights_sold <> 0 or revenue <> 0 or paid_revenue <> 0 or cancellations <> 0)
+                order by room_id, day
+                """, catalog.hotelId());
+    }
+
+    /**
+     * The reprice rebuild runs @Async after commit.
+     */
+    private void awaitRevenue(long roomId, LocalDate day, BigDecimal expected) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (true) {
+            BigDecimal revenue = jdbc.queryForObject(
+                    "select revenue from reservation_daily_rollup where room_id = ? and day = ?",
+                    BigDecimal.class, roomId, Date.valueOf(day));
+            if (revenue != null && revenue.compareTo(expected) == 0) return;
+            assertThat(System.nanoTime()).as("rollup of room %d repriced to %s", roomId, expected).isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.luxstay.luxstay_hotels_v2.domain.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class SearchIndexTest {
+
+    private static final double LN2 = Math.log(2);
+
+    /**
+     * Rooms 10 and 20 in the Grand Spa Hotel (Ottawa, Hilton), room 30 in the Harbour Inn on Spa Road (Toronto, Marriott).
+     */
+    private final SearchIndex index = new SearchIndex.Builder()
+            .add(10, 1, 2, 150_00, "Grand Spa Hotel", "1 Main St", "Ottawa", "Hilton", "WiFi, Spa access")
+            .add(20, 1, 4, 220_00, "Grand Spa Hotel", "1 Main St", "Ottawa", "Hilton", "WiFi")
+            .add(30, 2, 2, 99_00, "Harbour Inn", "5 Spa Road", "Toronto", "Marriott", "WiFi")
+            .build();
+
+    @Test
+    void foldLowercasesStripsAccentsAndCollapsesSeparators() {
+        assertThat(SearchIndex.fold("Québec-City ")).isEqualTo("quebec city");
+        assertThat(SearchIndex.fold("  MONTRÉAL,,  Downtown!")).isEqualTo("montreal downtown");
+        assertThat(SearchIndex.fold(null)).isEmpty();
+        assertThat(SearchIndex.fold(" -- ")).isEmpty();
+    }
+
+    @Test
+    void termsDropATrailingPluralS() {
+        assertThat(SearchIndex.terms("Luxury Suites, Glass Bus Spas")).containsExactly("luxury", "suite", "glass", "bus", "spa");
+        assertThat(SearchIndex.terms("suite suites")).containsExactly("suite", "suite");
+        assertThat(SearchIndex.terms("   ")).isEmpty();
+    }
+
+    @Test
+    void everyTermMustMatch() {
+        assertThat(rooms(index.match(List.of("spa")))).containsExactly(10L, 20L, 30L);
+        assertThat(rooms(index.match(List.of("spa", "ottawa")))).containsExactly(10L, 20L);
+        assertThat(rooms(index.match(List.of("spa", "ottawa", "marriott")))).isEmpty();
+        assertThat(index.match(List.of("spa", "nowhere")).size()).isZero();
+        assertThat(index.match(List.of()).size()).isZero();
+    }
+
+    @Test
+    void scoresAreFieldWeightedAndIdfScaled() {
+        // "spa" is in every room: idf = ln(1 + 3/3). Name 3 (+ amenities 2 for room 10), address 1 for room 30.
+        SearchIndex.Matches spa = index.match(List.of("spa"));
+        assertThat(spa.score(0)).isCloseTo((float) (5 * LN2), within(1e-5f));
+        assertThat(spa.score(1)).isCloseTo((float) (3 * LN2), within(1e-5f));
+        assertThat(spa.score(2)).isCloseTo((float) LN2, within(1e-5f));
+
+        // Rarer terms weigh more: "ottawa" is in 2 of 3 rooms, "harbour" in 1
+        assertThat(index.match(List.of("ottawa")).score(0)).isCloseTo((float) (3 * Math.log(2.5)), within(1e-5f));
+        assertThat(index.match(List.of("harbour")).score(0)).isCloseTo((float) (3 * Math.log(4)), within(1e-5f));
+    }
+
+    @Test
+    void repeatedQueryTermsCountOnce() {
+        SearchIndex.Matches once = index.match(List.of("wifi"));
+        SearchIndex.Matches twice = index.match(List.of("wifi", "wifi"));
+
+        assertThat(rooms(twice)).containsExactly(10L, 20L, 30L);
+        assertThat(twice.score(0)).isEqualTo(once.score(0));
+    }
+
+    @Test
+    void roomFactsByPosition() {
+        assertThat(index.rooms()).isEqualTo(3);
+        assertThat(index.indexOf(20)).isEqualTo(1);
+        assertThat(index.indexOf(25)).isEqualTo(-1);
+        assertThat(index.capacity(1)).isEqualTo(4);
+        assertThat(index.priceCents(2)).isEqualTo(99_00);
+    }
+
+    @Test
+    void roomsMustBeAddedInAscendingIdOrder() {
+        SearchIndex.Builder builder = new SearchIndex.Builder().add(5, 1, 2, 100_00, "A", "a", "x", "c", null);
+
+        assertThatThrownBy(() -> builder.add(5, 1, 2, 100_00, "A", "a", "x", "c", null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void growsPastItsInitialCapacity() {
+        SearchIndex.Builder builder = new SearchIndex.Builder();
+        for (int id = 1; id <= 3_000; id++) {
+            builder.add(id, id % 2, 2, 100_00, "Hotel " + (id % 2), "Street", id % 2 == 0 ? "Ottawa" : "Toronto", "Chain", "Balcony");
+        }
+        SearchIndex big = builder.build();
+
+        assertThat(big.rooms()).isEqualTo(3_000);
+        assertThat(big.match(List.of("balcony")).size()).isEqualTo(3_000);
+        assertThat(big.match(List.of("ottawa", "balcony")).size()).isEqualTo(1_500);
+        assertThat(big.roomId(2_999)).isEqualTo(3_000);
+    }
+
+    private List<Long> rooms(SearchIndex.Matches m) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < m.size(); i++) ids.add(index.roomId(m.room(i)));
+        return ids;
+    }
+}
@@ -0,0 +1,93 @@
+package com.luxstay.luxstay_hotels_v2.domain.service;
+
+import com.luxstay.luxstay_hotels_v2.domain.service.SuggestIndex.Suggestion;
+import com.luxstay.luxstay_hotels_v2.domain.service.SuggestIndex.Type;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SuggestIndexTest {
+
+    /**
+     * Rooms per name: chain Hilton 80, city Toronto 75, Hilton Toronto Airport 50, Ottawa / Hilton Ottawa 30,
+     * Harbour Group 25, Toronto Harbour Inn 20, Québec / Château Laurier / Fairmont 10, Small Place 5.
+     */
+    private final SuggestIndex index = new SuggestIndex.Builder()
+            .hotel(1, "Hilton Toronto Airport", "Toronto", 100, "Hilton", 50)
+            .hotel(2, "Hilton Ottawa", "Ottawa", 100, "Hilton", 30)
+            .hotel(3, "Toronto Harbour Inn", "Toronto", 200, "Harbour Group", 20)
+            .hotel(4, "Château Laurier", "Québec", 300, "Fairmont", 10)
+            .hotel(5, "Small Place", "TORONTO ", 200, "Harbour Group", 5)
+            .build();
+
+    @Test
+    void citiesAndChainsAreMergedAcrossHotels() {
+        assertThat(index.size()).isEqualTo(11); // 5 hotels, 3 cities, 3 chains
+
+        assertThat(index.suggest("toronto", Type.CITY, 5))
+                .containsExactly(new Suggestion(Type.CITY, "Toronto", null, null, 75));
+        assertThat(index.suggest("hilton", Type.CHAIN, 5))
+                .containsExactly(new Suggestion(Type.CHAIN, "Hilton", 100L, null, 80));
+    }
+
+    @Test
+    void mostRoomsFirst() {
+        assertThat(labels(index.suggest("tor", null, 10)))
+                .containsExactly("Toronto", "Hilton Toronto Airport", "Toronto Harbour Inn");
+        assertThat(labels(index.suggest("h", null, 10)))
+                .containsExactly("Hilton", "Hilton Toronto Airport", "Hilton Ottawa", "Harbour Group", "Toronto Harbour Inn");
+    }
+
+    @Test
+    void tiesGoCityHotelChainThenByLabel() {
+        assertThat(labels(index.suggest("o", null, 10))).containsExactly("Ottawa", "Hilton Ottawa");
+        assertThat(index.suggest("q", null, 10)).extracting(Suggestion::type).containsExactly(Type.CITY);
+    }
+
+    @Test
+    void limitKeepsTheBest() {
+        assertThat(labels(index.suggest("h", null, 3))).containsExactly("Hilton", "Hilton Toronto Airport", "Hilton Ottawa");
+        assertThat(index.suggest("h", null, 0)).isEmpty();
+    }
+
+    @Test
+    void typeIsFilteredBeforeTheLimit() {
+        // The city outranks both hotels, yet asking for one hotel must not come back empty
+        assertThat(labels(index.suggest("tor", Type.HOTEL, 1))).containsExactly("Hilton Toronto Airport");
+        assertThat(labels(index.suggest("tor", Type.HOTEL, 5))).containsExactly("Hilton Toronto Airport", "Toronto Harbour Inn");
+        assertThat(index.suggest("tor", Type.CHAIN, 5)).isEmpty();
+    }
+
+    @Test
+    void matchesWordStartsOnly() {
+        assertThat(labels(index.suggest("airport", null, 5))).containsExactly("Hilton Toronto Airport");
+        assertThat(labels(index.suggest("hilton t", null, 5))).containsExactly("Hilton Toronto Airport");
+        assertThat(index.suggest("irport", null, 5)).isEmpty();
+    }
+
+    @Test
+    void prefixIsFoldedLikeSearchTerms() {
+        assertThat(labels(index.suggest("QUÉ", null, 5))).containsExactly("Québec");
+        assertThat(labels(index.suggest("chateau", null, 5))).containsExactly("Château Laurier");
+        assertThat(labels(index.suggest("  Small-Pl", null, 5))).containsExactly("Small Place");
+    }
+
+    @Test
+    void hotelSuggestionsCarryIdAndCity() {
+        assertThat(index.suggest("small", null, 5))
+                .containsExactly(new Suggestion(Type.HOTEL, "Small Place", 5L, "TORONTO ", 5));
+    }
+
+    @Test
+    void blankOrUnknownPrefix() {
+        assertThat(index.suggest("", null, 5)).isEmpty();
+        assertThat(index.suggest(null, null, 5)).isEmpty();
+        assertThat(index.suggest("zzz", null, 5)).isEmpty();
+    }
+
+    private static List<String> labels(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::label).toList();
+    }
+}
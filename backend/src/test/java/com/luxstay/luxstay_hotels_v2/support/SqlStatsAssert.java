@@ -0,0 +1,80 @@
+package com.luxstay.luxstay_hotels_v2.support;
+
+import com.luxstay.luxstay_hotels_v2.config.SqlStats;
+
+import java.util.Map;
+
+/**
+ * Query-count assertions for integration tests. The context must run with
+ * luxstay.sql-stats.enabled=true, otherwise nothing is recorded:
+ *
+ *   @SpringBootTest(properties = "luxstay.sql-stats.enabled=true")
+ *   ...
+ *   SqlStatsAssert.assertSql(() -> reservationService.list(null, null, null, null, null, null))
+ *           .hasAtMostStatements(2)
+ *           .hasNoRepeatedStatements();
+ *
+ * Lazy associations loaded after the measured call (e.g. while mapping DTOs) are not counted:
+ * put the mapping inside the lambda when that is what you want to guard.
+ */
+public final class SqlStatsAssert {
+
+    private final SqlStats stats;
+
+    private SqlStatsAssert(SqlStats stats) {
+        this.stats = stats;
+    }
+
+    public static SqlStatsAssert assertSql(Runnable work) {
+        return new SqlStatsAssert(SqlStats.capture(work));
+    }
+
+    public static SqlStatsAssert assertThat(SqlStats stats) {
+        return new SqlStatsAssert(stats);
+    }
+
+    public SqlStatsAssert hasStatements(int expected) {
+        if (stats.statements() != expected) {
+            fail("expected " + expected + " statements");
+        }
+        return this;
+    }
+
+    public SqlStatsAssert hasAtMostStatements(int max) {
+        if (stats.statements() > max) {
+            fail("expected at most " + max + " statements");
+        }
+        return this;
+    }
+
+    /**
+     * Fails when any statement shape ran more than once (N+1 loading).
+     */
+    public SqlStatsAssert hasNoRepeatedStatements() {
+        return hasAtMostRepeats(1);
+    }
+
+    public SqlStatsAssert hasAtMostRepeats(int maxRepeats) {
+        if (stats.maxRepeats() > maxRepeats) {
+            fail("expected no statement to run more than " + maxRepeats + " times");
+        }
+        return this;
+    }
+
+    public SqlStatsAssert hasAtMostRows(long max) {
+        if (stats.rows() > max) {
+            fail("expected at most " + max + " rows read");
+        }
+        return this;
+    }
+
+    public SqlStats stats() {
+        return stats;
+    }
+
+    private void fail(String expectation) {
+        Map<String, Integer> repeated = stats.repeatedShapes(2);
+        throw new AssertionError(expectation + ", but got " + stats
+                + (repeated.isEmpty() ? "" : "\nrepeated statements: " + repeated));
+    }
+}
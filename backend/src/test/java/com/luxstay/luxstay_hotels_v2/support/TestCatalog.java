@@ -0,0 +1,89 @@
+package com.luxstay.luxstay_hotels_v2.support;
+
+import com.luxstay.luxstay_hotels_v2.domain.enums.IdType;
+import com.luxstay.luxstay_hotels_v2.web.dto.ReservationDtos;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Throwaway chain / hotel / customer (and rooms, reservations) for integration tests that run
+ * against the shared database. Names carry a random tag; delete() removes everything it created,
+ * including the hotel's rollup rows.
+ *
+ *   TestCatalog catalog = TestCatalog.create(jdbc);
+ *   long room = catalog.room(101, "150.00");
+ *   ...
+ *   catalog.delete();
+ */
+public final class TestCatalog {
+
+    private final JdbcTemplate jdbc;
+    private final String tag;
+    private final long chainId;
+    private final long hotelId;
+    private final long customerId;
+
+    private TestCatalog(JdbcTemplate jdbc, String tag, long chainId, long hotelId, long customerId) {
+        this.jdbc = jdbc;
+        this.tag = tag;
+        this.chainId = chainId;
+        this.hotelId = hotelId;
+        this.customerId = customerId;
+    }
+
+    public static TestCatalog create(JdbcTemplate jdbc) {
+        String tag = "it-" + UUID.randomUUID();
+        Long chain = jdbc.queryForObject("insert into hotel_chain (name) values (?) returning id", Long.class, tag);
+        Long hotel = jdbc.queryForObject(
+                "insert into hotel (chain_id, name, address, city) values (?, ?, ?, ?) returning id",
+                Long.class, chain, tag, tag, "Testville");
+        Long customer = jdbc.queryForObject("""
+                insert into customer (full_name, address, date_of_birth, id_number, id_type, email, registration_date)
+                values (?, ?, ?, ?, 'PASSPORT', ?, current_date) returning id
+                """, Long.class, tag, tag, Date.valueOf(LocalDate.of(1980, 1, 1)), tag, tag + "@example.com");
+        return new TestCatalog(jdbc, tag, chain, hotel, customer);
+    }
+
+    public String tag() { return tag; }
+
+    public long hotelId() { return hotelId; }
+
+    public long customerId() { return customerId; }
+
+    /**
+     * The catalog's customer, for bookings made through ReservationService.
+     */
+    public ReservationDtos.CustomerRef customerRef() {
+        return new ReservationDtos.CustomerRef(tag, tag, LocalDate.of(1980, 1, 1), tag, IdType.PASSPORT, tag + "@example.com");
+    }
+
+    public long room(int number, String price) {
+        Long id = jdbc.queryForObject("""
+                insert into room (hotel_id, room_number, price, capacity, extendable) values (?, ?, ?, 2, false) returning id
+                """, Long.class, hotelId, number, new BigDecimal(price));
+        return id;
+    }
+
+    /**
+     * Plain insert: no change events, so nothing derived (cache, rollup) hears about it.
+     */
+    public long reservation(long roomId, LocalDate start, LocalDate end, String status, String paymentStatus) {
+        return jdbc.queryForObject("""
+                insert into reservation (room_id, customer_id, start_date, end_date, status, payment_status, created_at, updated_at)
+                values (?, ?, ?, ?, ?, ?, now(), now()) returning id
+                """, Long.class, roomId, customerId, Date.valueOf(start), Date.valueOf(end), status, paymentStatus);
+    }
+
+    public void delete() {
+        jdbc.update("delete from reservation where customer_id = ?", customerId);
+        jdbc.update("delete from reservation_daily_rollup where hotel_id = ?", hotelId);
+        jdbc.update("delete from room where hotel_id = ?", hotelId);
+        jdbc.update("delete from hotel where id = ?", hotelId);
+        jdbc.update("delete from hotel_chain where id = ?", chainId);
+        jdbc.update("delete from customer where id = ?", customerId);
+    }
+}
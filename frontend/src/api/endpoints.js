@@ -6,5 +6,6 @@ export const endpoints = {
     reservations: "/api/v2/reservations",
     customers: "/api/v2/customers",
     reservationById: (id) => `/api/v2/reservations/${id}`,
+    searchSuggest: "/api/v2/search/suggest",
 
 };
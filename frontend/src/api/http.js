@@ -5,6 +5,17 @@ const BASE_URL =
     (RAW_BASE_URL && RAW_BASE_URL.trim().replace(/\/+$/, "")) ||
     "http://localhost:8080";
 
+// Read-your-writes: after a write the API returns this header (epoch millis); echoing it back
+// keeps our reads on the primary database until then, so a new booking is visible right away
+const READ_PRIMARY_HEADER = "X-Read-Primary-Until";
+let readPrimaryUntil = 0;
+
+function readPrimaryHeaders() {
+    return readPrimaryUntil > Date.now()
+        ? { [READ_PRIMARY_HEADER]: String(readPrimaryUntil) }
+        : {};
+}
+
 async function request(
     path,
     { method = "GET", body, headers, signal } = {}
@@ -14,11 +25,15 @@ async function request(
         signal, // ✅ AbortController support
         headers: {
             "Content-Type": "application/json",
+            ...readPrimaryHeaders(),
             ...(headers || {}),
         },
         body: body ? JSON.stringify(body) : undefined,
     });
 
+    const until = Number(res.headers.get(READ_PRIMARY_HEADER));
+    if (until > readPrimaryUntil) readPrimaryUntil = until;
+
     const contentType = res.headers.get("content-type") || "";
     const text = await res.text();
 
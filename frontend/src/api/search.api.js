@@ -0,0 +1,15 @@
+import { http } from "./http";
+import { endpoints } from "./endpoints";
+
+export const searchApi = {
+    // [{ type: "CITY" | "HOTEL" | "CHAIN", label, id, city, rooms }], most rooms first; `type` filters server-side
+    suggest: (prefix, { type, limit = 8, signal } = {}) =>
+        http.get(
+            `${endpoints.searchSuggest}?${new URLSearchParams({
+                prefix,
+                limit: String(limit),
+                ...(type ? { type } : {}),
+            })}`,
+            { signal }
+        ),
+};
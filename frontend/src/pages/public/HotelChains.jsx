@@ -14,6 +14,9 @@ const CACHE_TTL_MS = 5 * 60 * 1000; // 5 minutes
 
 const FALLBACK_LOGO = "placeholder.png";
 
+// Logos render at most ~112px tall: ask the backend for a cached 256px thumbnail
+const LOGO_WIDTH = 256;
+
 /**
  * Convert a chain name to a logo filename:
  * - trim
@@ -41,11 +44,11 @@ function chainNameToLogoFile(chainName) {
 
 function getLogoSrc(chainName) {
     const file = chainNameToLogoFile(chainName);
-    return `${API_BASE}/images/logos/${file}`;
+    return `${API_BASE}/images/logos/${file}?w=${LOGO_WIDTH}`;
 }
 
 function getFallbackLogoSrc() {
-    return `${API_BASE}/images/logos/${FALLBACK_LOGO}`;
+    return `${API_BASE}/images/logos/${FALLBACK_LOGO}?w=${LOGO_WIDTH}`;
 }
 
 function readCache() {
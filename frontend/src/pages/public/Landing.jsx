@@ -3,6 +3,7 @@ import { useNavigate } from "react-router-dom";
 import Card from "../../components/ui/Card";
 import Input from "../../components/ui/Input";
 import Button from "../../components/ui/Button";
+import { useSuggestions } from "../../utils/useSuggestions";
 
 export default function Landing() {
     const navigate = useNavigate();
@@ -13,6 +14,7 @@ export default function Landing() {
     const [checkIn, setCheckIn] = useState("");
     const [checkOut, setCheckOut] = useState("");
     const [capacity, setCapacity] = useState(2);
+    const citySuggestions = useSuggestions(city, "CITY");
 
     const canSearch = useMemo(() => {
         if (!city || !checkIn || !checkOut) return false;
@@ -75,7 +77,14 @@ export default function Landing() {
                                                     value={city}
                                                     onChange={(e) => setCity(e.target.value)}
                                                     placeholder="Ottawa"
+                                                    list="landing-city-suggestions"
+                                                    autoComplete="off"
                                                 />
+                                                <datalist id="landing-city-suggestions">
+                                                    {citySuggestions.map((s) => (
+                                                        <option key={s.label} value={s.label} />
+                                                    ))}
+                                                </datalist>
                                             </div>
 
                                             <div className="md:col-span-3">
@@ -4,6 +4,7 @@ import Card from "../../components/ui/Card";
 import Button from "../../components/ui/Button";
 import { roomsApi } from "../../api/rooms.api";
 import { money } from "../../utils/format";
+import { useSuggestions } from "../../utils/useSuggestions";
 
 const SORTS = [
     { value: "featured", label: "Featured" },
@@ -103,6 +104,7 @@ export default function SearchRooms() {
     // Filters
     const [city, setCity] = useState(initialCity);
     const [capacity, setCapacity] = useState(initialCapacity);
+    const citySuggestions = useSuggestions(city, "CITY");
     const [maxPrice, setMaxPrice] = useState("");
     const [amenity, setAmenity] = useState("");
     const [extendableOnly, setExtendableOnly] = useState(false);
@@ -298,7 +300,14 @@ export default function SearchRooms() {
                                             value={city}
                                             onChange={(e) => setCity(e.target.value)}
                                             placeholder="Ottawa"
+                                            list="search-city-suggestions"
+                                            autoComplete="off"
                                         />
+                                        <datalist id="search-city-suggestions">
+                                            {citySuggestions.map((s) => (
+                                                <option key={s.label} value={s.label} />
+                                            ))}
+                                        </datalist>
                                     </Field>
 
                                     <div className="grid gap-4 md:grid-cols-2">
@@ -0,0 +1,37 @@
+import { useEffect, useState } from "react";
+import { searchApi } from "../api/search.api";
+
+const DEBOUNCE_MS = 120;
+
+/**
+ * Typeahead suggestions for `prefix` (optionally only one type, e.g. "CITY").
+ * Debounced; a newer keystroke aborts the previous request.
+ */
+export function useSuggestions(prefix, type) {
+    const [suggestions, setSuggestions] = useState([]);
+
+    useEffect(() => {
+        const q = (prefix || "").trim();
+        if (!q) {
+            setSuggestions([]);
+            return;
+        }
+
+        const controller = new AbortController();
+        const timer = setTimeout(async () => {
+            try {
+                const data = await searchApi.suggest(q, { type, signal: controller.signal });
+                setSuggestions(Array.isArray(data) ? data : []);
+            } catch {
+                // suggestions are best effort: keep the last ones
+            }
+        }, DEBOUNCE_MS);
+
+        return () => {
+            clearTimeout(timer);
+            controller.abort();
+        };
+    }, [prefix, type]);
+
+    return suggestions;
+}